@@ -0,0 +1,47 @@
+package sudokuSolver.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Contains the entry point to run the benchmarks with the GC profiler attached,
+ * so every result reports gc.alloc.rate.norm (bytes allocated per operation)
+ * next to throughput and average time.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Prevent instantiation except from within the class.
+	 */
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 * Main entry point: run the benchmarks.
+	 * <p>
+	 * Execute:
+	 * </p>
+	 *
+	 * <pre>
+	 * java -jar sudoku-benchmarks.jar [JMH options] [benchmark regex]
+	 * </pre>
+	 *
+	 * @param args:
+	 *            the usual JMH command line, e.g. -p corpus=hard SolverBenchmark
+	 * @throws RunnerException
+	 * @throws CommandLineOptionException
+	 */
+	public static void main(String... args) throws RunnerException, CommandLineOptionException {
+		Options options = new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,97 @@
+package sudokuSolver.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Corpus class to load the puzzle corpora shipped with the benchmarks. Each
+ * corpus is a resource under /corpus holding one puzzle per line (81
+ * characters, or 256 and 625 for the 16x16 and 25x25 corpora); blank lines and
+ * lines starting with '#' are skipped.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public final class Corpus {
+
+	/**
+	 * easy puzzles, solved by the heuristic solver alone.
+	 */
+	public static final String EASY = "easy";
+
+	/**
+	 * hard puzzles, which need guessing after the heuristic solver.
+	 */
+	public static final String HARD = "hard";
+
+	/**
+	 * minimal 17 clue puzzles.
+	 */
+	public static final String MINIMAL_17 = "minimal17";
+
+	/**
+	 * known backtracker-killers.
+	 */
+	public static final String KILLERS = "killers";
+
+	/**
+	 * 9x9 puzzles with about half the tiles given, to compare with the larger
+	 * sizes.
+	 */
+	public static final String SIZE_9 = "size9";
+
+	/**
+	 * 16x16 puzzles with about half the tiles given.
+	 */
+	public static final String SIZE_16 = "size16";
+
+	/**
+	 * 25x25 puzzles with about half the tiles given.
+	 */
+	public static final String SIZE_25 = "size25";
+
+	/**
+	 * marker for comment lines in a corpus.
+	 */
+	private static final String COMMENT = "#";
+
+	/**
+	 * Prevent instantiation of utility class.
+	 */
+	private Corpus() {
+	}
+
+	/**
+	 * method to load the puzzles of a corpus.
+	 *
+	 * @param name
+	 *            corpus name
+	 * @return puzzles, one String each
+	 */
+	public static String[] load(String name) {
+		String resource = "/corpus/" + name + ".txt";
+		try (InputStream in = Corpus.class.getResourceAsStream(resource)) {
+			if (in == null) {
+				throw new IllegalArgumentException("Unknown corpus: " + name);
+			}
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII));
+			List<String> puzzles = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.trim().isEmpty() && !line.startsWith(COMMENT)) {
+					puzzles.add(line.trim());
+				}
+			}
+			return puzzles.toArray(new String[0]);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
@@ -0,0 +1,178 @@
+package sudokuSolver.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sudokuSolver.model.Board;
+import sudokuSolver.model.PuzzleCodec;
+import sudokuSolver.model.Solver;
+import sudokuSolver.model.SolverException;
+import sudokuSolver.model.Tile;
+
+/**
+ * HotPathBenchmark class to measure the individual Solver and Board methods the
+ * engines spend their time in: the heuristic solver, computing a tile's
+ * possibilities, listing the tiles sharing a tile's row, column or local group,
+ * cloning a board, and the clone based brute force solver.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotPathBenchmark {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * The sudoku board dimensions (9x9 grid).
+	 */
+	private static final int BOARD_DIMENSIONS = 9;
+
+	/**
+	 * corpus being measured.
+	 */
+	@Param({ Corpus.EASY, Corpus.HARD, Corpus.MINIMAL_17, Corpus.KILLERS })
+	public String corpus;
+
+	/**
+	 * puzzles of the corpus.
+	 */
+	private String puzzles[];
+
+	/**
+	 * boards of the corpus after the heuristic solver, for the read-only
+	 * benchmarks.
+	 */
+	private Board reduced[];
+
+	/**
+	 * index of the next puzzle.
+	 */
+	private int next;
+
+	/**
+	 * load the corpus and run the heuristic solver on a copy of every puzzle.
+	 *
+	 * @throws SolverException
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws SolverException {
+		puzzles = Corpus.load(corpus);
+		reduced = new Board[puzzles.length];
+		for (int k = 0; k < puzzles.length; k++) {
+			reduced[k] = Solver.heuristicSolver(PuzzleCodec.decode(puzzles[k]));
+		}
+		next = 0;
+	}
+
+	/**
+	 * method to advance to the next puzzle of the corpus.
+	 */
+	private int nextIndex() {
+		int k = next;
+		next = (next + 1) % puzzles.length;
+		return k;
+	}
+
+	/**
+	 * benchmark of Solver.heuristicSolver on a freshly decoded puzzle.
+	 *
+	 * @return board after the heuristic solver
+	 * @throws SolverException
+	 */
+	@Benchmark
+	public Board heuristicSolver() throws SolverException {
+		return Solver.heuristicSolver(PuzzleCodec.decode(puzzles[nextIndex()]));
+	}
+
+	/**
+	 * benchmark of Solver.getPossibilities for every empty tile of a board.
+	 *
+	 * @param bh
+	 *            blackhole consuming the possibilities
+	 */
+	@Benchmark
+	public void getPossibilities(Blackhole bh) {
+		Board board = reduced[nextIndex()];
+		for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+			for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+				Tile tile = board.getTile(i, j);
+				if (tile.getValue() == MISSING_VALUE) {
+					bh.consume(Solver.getPossibilities(board, tile));
+				}
+			}
+		}
+	}
+
+	/**
+	 * benchmark of Solver.getAllSharedTiles for every empty tile of a board.
+	 *
+	 * @param bh
+	 *            blackhole consuming the shared tiles
+	 */
+	@Benchmark
+	public void getAllSharedTiles(Blackhole bh) {
+		Board board = reduced[nextIndex()];
+		for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+			for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+				Tile tile = board.getTile(i, j);
+				if (tile.getValue() == MISSING_VALUE) {
+					bh.consume(Solver.getAllSharedTiles(board, tile));
+				}
+			}
+		}
+	}
+
+	/**
+	 * benchmark of Board.clone.
+	 *
+	 * @return cloned board
+	 * @throws CloneNotSupportedException
+	 */
+	@Benchmark
+	public Object cloneBoard() throws CloneNotSupportedException {
+		return reduced[nextIndex()].clone();
+	}
+
+	/**
+	 * benchmark of Solver.recursiveBruteForce, started the same way as the clone
+	 * based solve: from the board after the heuristic solver, guessing the first
+	 * possibility of the first empty tile. Boards the heuristic solver already
+	 * solved are returned as they are.
+	 *
+	 * @return solved board
+	 * @throws SolverException
+	 * @throws CloneNotSupportedException
+	 */
+	@Benchmark
+	public Board recursiveBruteForce() throws SolverException, CloneNotSupportedException {
+		Board board = (Board) reduced[nextIndex()].clone();
+		if (board.isSolved()) {
+			return board;
+		}
+		Tile tile = Solver.findNextTile(board);
+		return Solver.recursiveBruteForce(board, tile, tile.pollPossibility());
+	}
+
+}
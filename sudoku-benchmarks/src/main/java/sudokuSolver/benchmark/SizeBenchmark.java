@@ -0,0 +1,110 @@
+package sudokuSolver.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sudokuSolver.model.Board;
+import sudokuSolver.model.PuzzleCodec;
+import sudokuSolver.model.SolverEngine;
+import sudokuSolver.model.SolverException;
+import sudokuSolver.model.SolverWorkspace;
+
+/**
+ * SizeBenchmark class to measure how solving scales with the size of the board.
+ * The 9x9, 16x16 and 25x25 corpora are made the same way (about half the tiles
+ * given, unique solution), so the differences between them come from the size
+ * alone. Each invocation decodes the next puzzle of the corpus and solves it
+ * with a reused workspace, as a batch worker would; decode()
+ * measures the decoding alone so it can be subtracted.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SizeBenchmark {
+
+	/**
+	 * corpus being solved, one per board size.
+	 */
+	@Param({ Corpus.SIZE_9, Corpus.SIZE_16, Corpus.SIZE_25 })
+	public String corpus;
+
+	/**
+	 * engine solving the corpus.
+	 */
+	@Param({ "HEURISTIC", "CLONE_BACKTRACKING", "DANCING_LINKS", "SAT" })
+	public SolverEngine engine;
+
+	/**
+	 * puzzles of the corpus.
+	 */
+	private String puzzles[];
+
+	/**
+	 * index of the next puzzle.
+	 */
+	private int next;
+
+	/**
+	 * reusable engine state.
+	 */
+	private SolverWorkspace workspace;
+
+	/**
+	 * load the corpus.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		puzzles = Corpus.load(corpus);
+		workspace = new SolverWorkspace();
+		next = 0;
+	}
+
+	/**
+	 * method to return the next puzzle of the corpus.
+	 */
+	private String nextPuzzle() {
+		String puzzle = puzzles[next];
+		next = (next + 1) % puzzles.length;
+		return puzzle;
+	}
+
+	/**
+	 * benchmark of Solver.solve with a reused workspace.
+	 *
+	 * @return solved board
+	 * @throws SolverException
+	 */
+	@Benchmark
+	public Board solve() throws SolverException {
+		return workspace.solve(PuzzleCodec.decode(nextPuzzle()), engine);
+	}
+
+	/**
+	 * baseline benchmark of decoding a puzzle into a new board.
+	 *
+	 * @return decoded board
+	 */
+	@Benchmark
+	public Board decode() {
+		return PuzzleCodec.decode(nextPuzzle());
+	}
+
+}
@@ -0,0 +1,139 @@
+package sudokuSolver.benchmark;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sudokuSolver.model.Board;
+import sudokuSolver.model.PuzzleCodec;
+import sudokuSolver.model.SolverEngine;
+import sudokuSolver.model.SolverException;
+import sudokuSolver.model.SolverStats;
+import sudokuSolver.model.SolverWorkspace;
+import sudokuSolver.model.Technique;
+
+/**
+ * SolverBenchmark class to measure a full solve of every corpus with every
+ * engine. Each invocation decodes the next puzzle of the corpus (cycling
+ * through all of them) and solves it; decode() measures the decoding alone so
+ * it can be subtracted, and solveWithStats() measures the cost of recording
+ * solver statistics. The techniques parameter compares the singles alone with
+ * every elimination technique switched on.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+
+	/**
+	 * corpus being solved.
+	 */
+	@Param({ Corpus.EASY, Corpus.HARD, Corpus.MINIMAL_17, Corpus.KILLERS })
+	public String corpus;
+
+	/**
+	 * engine solving the corpus.
+	 */
+	@Param({ "HEURISTIC", "CLONE_BACKTRACKING", "DANCING_LINKS", "SAT", "PARALLEL" })
+	public SolverEngine engine;
+
+	/**
+	 * elimination techniques applied besides the singles: NONE or ALL.
+	 */
+	@Param({ "NONE", "ALL" })
+	public String techniques;
+
+	/**
+	 * puzzles of the corpus.
+	 */
+	private String puzzles[];
+
+	/**
+	 * index of the next puzzle.
+	 */
+	private int next;
+
+	/**
+	 * reusable engine state, as a batch worker would keep it.
+	 */
+	private SolverWorkspace workspace;
+
+	/**
+	 * statistics recorded by solveWithStats().
+	 */
+	private SolverStats stats;
+
+	/**
+	 * load the corpus.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		puzzles = Corpus.load(corpus);
+		workspace = new SolverWorkspace();
+		if ("ALL".equals(techniques)) {
+			workspace.setTechniques(EnumSet.allOf(Technique.class));
+		}
+		stats = new SolverStats();
+		next = 0;
+	}
+
+	/**
+	 * method to return the next puzzle of the corpus.
+	 */
+	private String nextPuzzle() {
+		String puzzle = puzzles[next];
+		next = (next + 1) % puzzles.length;
+		return puzzle;
+	}
+
+	/**
+	 * benchmark of Solver.solve with a reused workspace.
+	 *
+	 * @return solved board
+	 * @throws SolverException
+	 */
+	@Benchmark
+	public Board solve() throws SolverException {
+		return workspace.solve(PuzzleCodec.decode(nextPuzzle()), engine);
+	}
+
+	/**
+	 * benchmark of Solver.solve with a reused workspace, recording statistics.
+	 *
+	 * @return solved board
+	 * @throws SolverException
+	 */
+	@Benchmark
+	public Board solveWithStats() throws SolverException {
+		return workspace.solve(PuzzleCodec.decode(nextPuzzle()), engine, stats);
+	}
+
+	/**
+	 * baseline benchmark of decoding a puzzle into a new board.
+	 *
+	 * @return decoded board
+	 */
+	@Benchmark
+	public Board decode() {
+		return PuzzleCodec.decode(nextPuzzle());
+	}
+
+}
@@ -0,0 +1,386 @@
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import sudokuSolver.model.BatchSolver;
+import sudokuSolver.model.Board;
+import sudokuSolver.model.MappedPuzzleSource;
+import sudokuSolver.model.PuzzleCodec;
+import sudokuSolver.model.SolutionCache;
+import sudokuSolver.model.SolverEngine;
+import sudokuSolver.model.SolverStats;
+import sudokuSolver.model.Technique;
+
+/**
+ * Contains the headless entry point for solving puzzles in batches without the
+ * GUI. Puzzles are read one per line (see PuzzleCodec) from a file or standard
+ * input, and one line is written per puzzle: the solution, or the reason the
+ * puzzle could not be solved. Blank lines and lines starting with '#' are
+ * skipped. Lines of 256 or 625 characters are solved as 16x16 or 25x25 boards.
+ *
+ * With --mapped, the input must be a fixed-width file of 81 character (9x9)
+ * records and is read through memory mapping (see MappedPuzzleSource), which
+ * is much cheaper for very large corpora.
+ *
+ * Puzzles are solved in parallel on every available core (see BatchSolver),
+ * or on the number of threads given by --threads. Solutions are written in
+ * input order unless --unordered is given, in which case each line is written
+ * as soon as its puzzle is solved. --engine PARALLEL instead spreads the
+ * search of each puzzle over every core (see ParallelSolver), which suits a
+ * few hard puzzles; its puzzles are then taken one at a time unless --threads
+ * is given.
+ *
+ * With --cache N, the solutions of up to N distinct puzzles are remembered (see
+ * SolutionCache), so repeated puzzles are only solved once; the cache
+ * statistics are printed to standard error at the end. With --dedup, the cache
+ * also recognizes puzzles that are relabelled, transposed or reordered copies of
+ * one already solved (see Canonicalizer); it holds DEFAULT_CACHE_CAPACITY
+ * solutions unless --cache is given too.
+ *
+ * With --techniques, the heuristic solver and TrailSolver also apply the given
+ * comma separated elimination techniques (see Technique), or all of them for
+ * ALL, which means fewer guesses on hard puzzles.
+ *
+ * With --stats, the solvers record what they did (see SolverStats), and the
+ * totals over the whole batch are printed to standard error at the end.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class SudokuSolverBatch {
+
+	/**
+	 * argument naming standard input or standard output.
+	 */
+	private static final String STANDARD_STREAM = "-";
+
+	/**
+	 * option to choose the solver engine.
+	 */
+	private static final String ENGINE_OPTION = "--engine";
+
+	/**
+	 * option to read the input file through memory mapping.
+	 */
+	private static final String MAPPED_OPTION = "--mapped";
+
+	/**
+	 * option to choose the number of worker threads.
+	 */
+	private static final String THREADS_OPTION = "--threads";
+
+	/**
+	 * option to write solutions in the order they finish.
+	 */
+	private static final String UNORDERED_OPTION = "--unordered";
+
+	/**
+	 * option to remember solutions of repeated puzzles.
+	 */
+	private static final String CACHE_OPTION = "--cache";
+
+	/**
+	 * option to recognize symmetry equivalent puzzles in the cache.
+	 */
+	private static final String DEDUP_OPTION = "--dedup";
+
+	/**
+	 * option to choose the elimination techniques applied besides the singles.
+	 */
+	private static final String TECHNIQUES_OPTION = "--techniques";
+
+	/**
+	 * argument choosing every elimination technique.
+	 */
+	private static final String ALL_TECHNIQUES = "ALL";
+
+	/**
+	 * separator of the techniques given to --techniques.
+	 */
+	private static final String TECHNIQUE_SEPARATOR = ",";
+
+	/**
+	 * option to record and print solver statistics.
+	 */
+	private static final String STATS_OPTION = "--stats";
+
+	/**
+	 * number of solutions cached for --dedup without --cache.
+	 */
+	private static final int DEFAULT_CACHE_CAPACITY = 1 << 16;
+
+	/**
+	 * marker for comment lines in the input.
+	 */
+	private static final String COMMENT = "#";
+
+	/**
+	 * size of the input and output buffers.
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * usage message printed for invalid arguments.
+	 */
+	private static final String USAGE = "usage: SudokuSolverBatch [--engine HEURISTIC|CLONE_BACKTRACKING|DANCING_LINKS|SAT|PARALLEL]"
+			+ " [--mapped] [--threads N] [--unordered] [--cache N] [--dedup] [--techniques ALL|NAME,...]"
+			+ " [--stats] [input|-] [output|-]";
+
+	/**
+	 * Prevent instantiation except from within the class.
+	 */
+	private SudokuSolverBatch() {
+	}
+
+	/**
+	 * Main entry point: solve every puzzle of the input and write the solutions.
+	 * <p>
+	 * Execute:
+	 * </p>
+	 *
+	 * <pre>
+	 * java SudokuSolverBatch [--engine NAME] [--mapped] [--threads N] [--unordered] [--cache N] [--dedup] [--techniques LIST] [--stats] [input|-] [output|-]
+	 * </pre>
+	 *
+	 * @param args:
+	 *            optional options, input file and output file, both defaulting
+	 *            to the standard streams
+	 * @throws IOException
+	 */
+	public static void main(String... args) throws IOException {
+		SolverEngine engine = SolverEngine.HEURISTIC;
+		String input = STANDARD_STREAM;
+		String output = STANDARD_STREAM;
+		boolean mapped = false;
+		int threads = 0;
+		boolean preserveOrder = true;
+		int cacheCapacity = 0;
+		boolean dedup = false;
+		boolean recordStats = false;
+		Set<Technique> techniques = EnumSet.noneOf(Technique.class);
+		int files = 0;
+		try {
+			for (int k = 0; k < args.length; k++) {
+				if (ENGINE_OPTION.equals(args[k])) {
+					engine = SolverEngine.valueOf(args[++k]);
+				} else if (MAPPED_OPTION.equals(args[k])) {
+					mapped = true;
+				} else if (THREADS_OPTION.equals(args[k])) {
+					threads = Integer.parseInt(args[++k]);
+					if (threads <= 0) {
+						throw new IllegalArgumentException(THREADS_OPTION);
+					}
+				} else if (UNORDERED_OPTION.equals(args[k])) {
+					preserveOrder = false;
+				} else if (CACHE_OPTION.equals(args[k])) {
+					cacheCapacity = Integer.parseInt(args[++k]);
+					if (cacheCapacity <= 0) {
+						throw new IllegalArgumentException(CACHE_OPTION);
+					}
+				} else if (DEDUP_OPTION.equals(args[k])) {
+					dedup = true;
+				} else if (TECHNIQUES_OPTION.equals(args[k])) {
+					techniques = parseTechniques(args[++k]);
+				} else if (STATS_OPTION.equals(args[k])) {
+					recordStats = true;
+				} else if (files == 0) {
+					input = args[k];
+					files++;
+				} else if (files == 1) {
+					output = args[k];
+					files++;
+				} else {
+					throw new IllegalArgumentException(args[k]);
+				}
+			}
+			if (mapped && STANDARD_STREAM.equals(input)) {
+				throw new IllegalArgumentException(MAPPED_OPTION);
+			}
+			if (threads == 0) {
+				/* the parallel engine already keeps every core busy on one puzzle */
+				threads = (engine == SolverEngine.PARALLEL) ? 1 : Runtime.getRuntime().availableProcessors();
+			}
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			System.err.println(USAGE);
+			System.exit(1);
+			return;
+		}
+		SolutionCache cache = null;
+		if (cacheCapacity > 0 || dedup) {
+			cache = new SolutionCache((cacheCapacity > 0) ? cacheCapacity : DEFAULT_CACHE_CAPACITY, dedup);
+		}
+
+		SolverStats stats = null;
+		OutputStream out = STANDARD_STREAM.equals(output) ? System.out : new FileOutputStream(output);
+		try (BatchSolver solver = new BatchSolver(engine, threads, preserveOrder, cache, recordStats,
+				techniques);
+				Writer writer = new OutputStreamWriter(out, StandardCharsets.US_ASCII)) {
+			BufferedWriter bufferedWriter = new BufferedWriter(writer, BUFFER_SIZE);
+			if (mapped) {
+				try (MappedPuzzleSource source = new MappedPuzzleSource(Paths.get(input))) {
+					solveAll(mappedPuzzles(source), bufferedWriter, solver);
+				}
+			} else {
+				InputStream in = STANDARD_STREAM.equals(input) ? System.in : new FileInputStream(input);
+				try (Reader reader = new InputStreamReader(in, StandardCharsets.US_ASCII)) {
+					solveAll(linePuzzles(new BufferedReader(reader, BUFFER_SIZE)), bufferedWriter, solver);
+				}
+			}
+			stats = solver.getStats();
+		}
+		if (cache != null) {
+			System.err.println(cache);
+		}
+		if (stats != null) {
+			System.err.println(stats);
+		}
+	}
+
+	/**
+	 * method to parse the argument of --techniques.
+	 *
+	 * @param list
+	 *            ALL, or comma separated technique names
+	 * @return the elimination techniques chosen
+	 * @throws IllegalArgumentException
+	 *             if a name is not a technique
+	 */
+	private static Set<Technique> parseTechniques(String list) {
+		Set<Technique> techniques = EnumSet.noneOf(Technique.class);
+		for (String name : list.split(TECHNIQUE_SEPARATOR)) {
+			if (ALL_TECHNIQUES.equals(name)) {
+				techniques.addAll(EnumSet.allOf(Technique.class));
+			} else {
+				techniques.add(Technique.valueOf(name));
+			}
+		}
+		techniques.removeIf(Technique::isSingle);
+		return techniques;
+	}
+
+	/**
+	 * method to solve every puzzle of the input and write one line per puzzle.
+	 *
+	 * @param puzzles
+	 *            suppliers of the puzzles, in input order
+	 * @param writer
+	 *            solutions, one per line
+	 * @param solver
+	 *            batch solver to solve the puzzles with
+	 * @throws IOException
+	 */
+	public static void solveAll(Iterator<Supplier<Board>> puzzles, BufferedWriter writer, BatchSolver solver)
+			throws IOException {
+		solver.solveAll(puzzles, (index, board, failure) -> {
+			if (board != null) {
+				PuzzleCodec.write(board, writer);
+			} else {
+				/* exceptions without a message are written by their class name */
+				writer.write((failure.getMessage() != null) ? failure.getMessage() : failure.toString());
+			}
+			writer.newLine();
+		});
+		writer.flush();
+	}
+
+	/**
+	 * method to return the puzzles read from a reader, skipping blank lines and
+	 * comments. Lines are decoded by the worker threads.
+	 *
+	 * @param reader
+	 *            puzzles, one per line
+	 * @return iterator of puzzle suppliers
+	 */
+	public static Iterator<Supplier<Board>> linePuzzles(BufferedReader reader) {
+		return new Iterator<Supplier<Board>>() {
+			private String line = readPuzzleLine(reader);
+
+			@Override
+			public boolean hasNext() {
+				return line != null;
+			}
+
+			@Override
+			public Supplier<Board> next() {
+				if (line == null) {
+					throw new NoSuchElementException();
+				}
+				String puzzle = line;
+				line = readPuzzleLine(reader);
+				return () -> PuzzleCodec.decode(puzzle);
+			}
+		};
+	}
+
+	/**
+	 * method to read the next line that is not blank or a comment.
+	 */
+	private static String readPuzzleLine(BufferedReader reader) {
+		try {
+			String line;
+			do {
+				line = reader.readLine();
+			} while (line != null && (line.trim().isEmpty() || line.startsWith(COMMENT)));
+			return line;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * method to return the records of a memory mapped puzzle file, chunk by chunk.
+	 * Each chunk is only mapped once the previous one has been handed out, and
+	 * records are decoded by the worker threads.
+	 *
+	 * @param source
+	 *            mapped puzzle file
+	 * @return iterator of puzzle suppliers
+	 */
+	public static Iterator<Supplier<Board>> mappedPuzzles(MappedPuzzleSource source) {
+		return new Iterator<Supplier<Board>>() {
+			private int chunkIndex = 0;
+			private MappedPuzzleSource.Chunk chunk;
+			private int record = 0;
+
+			@Override
+			public boolean hasNext() {
+				return (chunk != null && record < chunk.size()) || chunkIndex < source.getChunkCount();
+			}
+
+			@Override
+			public Supplier<Board> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				if (chunk == null || record == chunk.size()) {
+					try {
+						chunk = source.getChunk(chunkIndex++);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+					record = 0;
+				}
+				MappedPuzzleSource.Chunk current = chunk;
+				int k = record++;
+				return () -> current.getBoard(k);
+			}
+		};
+	}
+}
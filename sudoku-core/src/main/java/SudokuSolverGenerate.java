@@ -0,0 +1,159 @@
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import sudokuSolver.model.Board;
+import sudokuSolver.model.ClueSymmetry;
+import sudokuSolver.model.Difficulty;
+import sudokuSolver.model.Generator;
+import sudokuSolver.model.PuzzleCodec;
+
+/**
+ * Contains the headless entry point for generating puzzles. Puzzles are written
+ * one per line (see PuzzleCodec) to a file or standard output. Every puzzle has
+ * a unique solution and is minimal subject to its difficulty: removing any clue
+ * (or any symmetric group of clues, with --symmetry) would give it more than one
+ * solution or, with --difficulty EASY, leave it unsolved by the heuristic
+ * solver.
+ *
+ * Puzzles are generated in parallel on every available core (see Generator),
+ * or on the number of threads given by --threads. The same --seed always gives
+ * the same puzzles; without it a random seed is used and printed to standard
+ * error.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class SudokuSolverGenerate {
+
+	/**
+	 * argument naming standard output.
+	 */
+	private static final String STANDARD_STREAM = "-";
+
+	/**
+	 * option to choose the number of puzzles.
+	 */
+	private static final String COUNT_OPTION = "--count";
+
+	/**
+	 * option to choose the number of worker threads.
+	 */
+	private static final String THREADS_OPTION = "--threads";
+
+	/**
+	 * option to choose the symmetry of the clue pattern.
+	 */
+	private static final String SYMMETRY_OPTION = "--symmetry";
+
+	/**
+	 * option to choose the difficulty target.
+	 */
+	private static final String DIFFICULTY_OPTION = "--difficulty";
+
+	/**
+	 * option to choose the seed of the run.
+	 */
+	private static final String SEED_OPTION = "--seed";
+
+	/**
+	 * number of puzzles generated and written at a time.
+	 */
+	private static final int BLOCK_SIZE = 1024;
+
+	/**
+	 * size of the output buffer.
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * usage message printed for invalid arguments.
+	 */
+	private static final String USAGE = "usage: SudokuSolverGenerate [--count N] [--threads N]"
+			+ " [--symmetry NONE|ROTATIONAL|QUARTER_TURN|DIAGONAL|MIRROR] [--difficulty ANY|EASY|HARD]"
+			+ " [--seed S] [output|-]";
+
+	/**
+	 * Prevent instantiation except from within the class.
+	 */
+	private SudokuSolverGenerate() {
+	}
+
+	/**
+	 * Main entry point: generate puzzles and write them.
+	 * <p>
+	 * Execute:
+	 * </p>
+	 *
+	 * <pre>
+	 * java SudokuSolverGenerate [--count N] [--threads N] [--symmetry NAME] [--difficulty NAME] [--seed S] [output|-]
+	 * </pre>
+	 *
+	 * @param args:
+	 *            optional options and output file, defaulting to standard output
+	 * @throws IOException
+	 */
+	public static void main(String... args) throws IOException {
+		long count = 1;
+		int threads = Runtime.getRuntime().availableProcessors();
+		ClueSymmetry symmetry = ClueSymmetry.NONE;
+		Difficulty difficulty = Difficulty.ANY;
+		Long seed = null;
+		String output = STANDARD_STREAM;
+		int files = 0;
+		try {
+			for (int k = 0; k < args.length; k++) {
+				if (COUNT_OPTION.equals(args[k])) {
+					count = Long.parseLong(args[++k]);
+					if (count < 0) {
+						throw new IllegalArgumentException(COUNT_OPTION);
+					}
+				} else if (THREADS_OPTION.equals(args[k])) {
+					threads = Integer.parseInt(args[++k]);
+					if (threads <= 0) {
+						throw new IllegalArgumentException(THREADS_OPTION);
+					}
+				} else if (SYMMETRY_OPTION.equals(args[k])) {
+					symmetry = ClueSymmetry.valueOf(args[++k]);
+				} else if (DIFFICULTY_OPTION.equals(args[k])) {
+					difficulty = Difficulty.valueOf(args[++k]);
+				} else if (SEED_OPTION.equals(args[k])) {
+					seed = Long.parseLong(args[++k]);
+				} else if (files == 0) {
+					output = args[k];
+					files++;
+				} else {
+					throw new IllegalArgumentException(args[k]);
+				}
+			}
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			System.err.println(USAGE);
+			System.exit(1);
+			return;
+		}
+		if (seed == null) {
+			seed = new SplittableRandom().nextLong();
+			System.err.println(SEED_OPTION + " " + seed);
+		}
+
+		OutputStream out = STANDARD_STREAM.equals(output) ? System.out : new FileOutputStream(output);
+		try (Generator generator = new Generator(threads, symmetry, difficulty);
+				Writer writer = new OutputStreamWriter(out, StandardCharsets.US_ASCII)) {
+			BufferedWriter bufferedWriter = new BufferedWriter(writer, BUFFER_SIZE);
+			for (long first = 0; first < count; first += BLOCK_SIZE) {
+				int block = (int) Math.min(BLOCK_SIZE, count - first);
+				for (Board puzzle : generator.generate(first, block, seed)) {
+					PuzzleCodec.write(puzzle, bufferedWriter);
+					bufferedWriter.newLine();
+				}
+			}
+			bufferedWriter.flush();
+		}
+	}
+}
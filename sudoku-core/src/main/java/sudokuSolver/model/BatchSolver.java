@@ -0,0 +1,355 @@
+package sudokuSolver.model;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BatchSolver class which solves many independent boards in parallel on a work
+ * stealing ForkJoinPool. Every worker thread keeps its own SolverWorkspace, so
+ * the engines' scratch state is built once per thread rather than once per
+ * board, and workers share nothing but the queue of finished results and the
+ * optional SolutionCache.
+ *
+ * Results are handed to a Consumer on the thread that called solveAll(), either
+ * in input order (finished boards wait in a reorder buffer until every earlier
+ * board is done) or in the order they finish. The number of boards in flight is
+ * bounded, so memory use does not grow with the size of the input.
+ *
+ * The SolutionCache fills in boards whose given values have already been
+ * solved instead of solving them again.
+ *
+ * When statistics are recorded, every worker thread adds up the SolverStats of
+ * its own solves, and getStats() adds up the workers' totals, so recording
+ * costs no locking between the workers.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class BatchSolver implements AutoCloseable {
+
+	/**
+	 * number of boards allowed in flight per worker thread.
+	 */
+	private static final int IN_FLIGHT_PER_THREAD = 64;
+
+	/**
+	 * engine used to solve every board.
+	 */
+	private final SolverEngine engine;
+
+	/**
+	 * whether results are handed over in input order.
+	 */
+	private final boolean preserveOrder;
+
+	/**
+	 * the worker threads.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * maximum number of boards in flight, and size of the reorder buffer.
+	 */
+	private final int window;
+
+	/**
+	 * cache of solutions shared by the worker threads, or null.
+	 */
+	private final SolutionCache cache;
+
+	/**
+	 * scratch state of each worker thread.
+	 */
+	private final ThreadLocal<SolverWorkspace> workspaces = ThreadLocal.withInitial(this::newWorkspace);
+
+	/**
+	 * elimination techniques applied by every workspace besides the singles.
+	 */
+	private final Set<Technique> techniques;
+
+	/**
+	 * statistics of every worker thread, or null if none are recorded.
+	 */
+	private final Queue<SolverStats> workerStats;
+
+	/**
+	 * statistics of each worker thread, registered in workerStats on first use.
+	 */
+	private final ThreadLocal<SolverStats> stats = ThreadLocal.withInitial(this::newWorkerStats);
+
+	/**
+	 * construct a batch solver.
+	 *
+	 * @param engine
+	 *            engine used to solve every board
+	 * @param threads
+	 *            number of worker threads
+	 * @param preserveOrder
+	 *            true to hand results over in input order, false to hand them
+	 *            over as soon as they finish
+	 */
+	public BatchSolver(SolverEngine engine, int threads, boolean preserveOrder) {
+		this(engine, threads, preserveOrder, null);
+	}
+
+	/**
+	 * construct a batch solver that looks every board up in a solution cache
+	 * before solving it.
+	 *
+	 * @param engine
+	 *            engine used to solve every board
+	 * @param threads
+	 *            number of worker threads
+	 * @param preserveOrder
+	 *            true to hand results over in input order, false to hand them
+	 *            over as soon as they finish
+	 * @param cache
+	 *            cache of solutions, or null to solve every board
+	 */
+	public BatchSolver(SolverEngine engine, int threads, boolean preserveOrder, SolutionCache cache) {
+		this(engine, threads, preserveOrder, cache, false);
+	}
+
+	/**
+	 * construct a batch solver that optionally records solver statistics (see
+	 * getStats()).
+	 *
+	 * @param engine
+	 *            engine used to solve every board
+	 * @param threads
+	 *            number of worker threads
+	 * @param preserveOrder
+	 *            true to hand results over in input order, false to hand them
+	 *            over as soon as they finish
+	 * @param cache
+	 *            cache of solutions, or null to solve every board
+	 * @param recordStats
+	 *            true to record what the engine did for every board solved
+	 */
+	public BatchSolver(SolverEngine engine, int threads, boolean preserveOrder, SolutionCache cache,
+			boolean recordStats) {
+		this(engine, threads, preserveOrder, cache, recordStats, Collections.emptySet());
+	}
+
+	/**
+	 * construct a batch solver that also applies elimination techniques besides
+	 * the singles (see SolverWorkspace.setTechniques()).
+	 *
+	 * @param engine
+	 *            engine used to solve every board
+	 * @param threads
+	 *            number of worker threads
+	 * @param preserveOrder
+	 *            true to hand results over in input order, false to hand them
+	 *            over as soon as they finish
+	 * @param cache
+	 *            cache of solutions, or null to solve every board
+	 * @param recordStats
+	 *            true to record what the engine did for every board solved
+	 * @param techniques
+	 *            elimination techniques to apply
+	 */
+	public BatchSolver(SolverEngine engine, int threads, boolean preserveOrder, SolutionCache cache,
+			boolean recordStats, Set<Technique> techniques) {
+		this.techniques = techniques.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(techniques);
+		this.engine = engine;
+		this.preserveOrder = preserveOrder;
+		this.pool = new ForkJoinPool(threads);
+		this.window = threads * IN_FLIGHT_PER_THREAD;
+		this.cache = cache;
+		this.workerStats = recordStats ? new ConcurrentLinkedQueue<>() : null;
+	}
+
+	/**
+	 * method to solve every board of the input and hand each result to the
+	 * consumer. The boards are produced by suppliers so that decoding happens on
+	 * the worker threads too.
+	 *
+	 * @param puzzles
+	 *            suppliers of the boards to solve, in input order
+	 * @param consumer
+	 *            called on this thread once per board
+	 * @throws IOException
+	 *             if the consumer throws it; boards still in flight are dropped
+	 */
+	public void solveAll(Iterator<? extends Supplier<Board>> puzzles, Consumer consumer) throws IOException {
+		BlockingQueue<Result> finished = new LinkedBlockingQueue<>();
+		Result reorder[] = new Result[window];
+		long submitted = 0;
+		long handedOver = 0;
+
+		while (true) {
+			/* keep the workers busy up to the in flight limit */
+			while (submitted - handedOver < window && puzzles.hasNext()) {
+				Supplier<Board> puzzle = puzzles.next();
+				long index = submitted++;
+				pool.execute(() -> finished.add(solveOne(index, puzzle)));
+			}
+			if (submitted == handedOver) {
+				return;
+			}
+			Result result = take(finished);
+			do {
+				if (!preserveOrder) {
+					consumer.accept(result.index, result.board, result.failure);
+					handedOver++;
+				} else {
+					/* park the result, then hand over every result now in order */
+					reorder[(int) (result.index % window)] = result;
+					int slot = (int) (handedOver % window);
+					while (reorder[slot] != null) {
+						Result next = reorder[slot];
+						reorder[slot] = null;
+						consumer.accept(next.index, next.board, next.failure);
+						handedOver++;
+						slot = (int) (handedOver % window);
+					}
+				}
+			} while ((result = finished.poll()) != null);
+		}
+	}
+
+	/**
+	 * method run on a worker thread to decode and solve a single board.
+	 */
+	private Result solveOne(long index, Supplier<Board> puzzle) {
+		try {
+			Board board = puzzle.get();
+			SolverWorkspace workspace = workspaces.get();
+			SolverStats solveStats = (workerStats == null) ? null : stats.get();
+			Board solution = (cache == null) ? workspace.solve(board, engine, solveStats)
+					: cache.solve(board, workspace, engine, solveStats);
+			return new Result(index, solution, null);
+		} catch (SolverException | RuntimeException e) {
+			return new Result(index, null, e);
+		} catch (Error e) {
+			/* still hand a result over so that solveAll() does not wait forever */
+			return new Result(index, null, new ExecutionException(e));
+		}
+	}
+
+	/**
+	 * method to create the workspace of a worker thread.
+	 */
+	private SolverWorkspace newWorkspace() {
+		SolverWorkspace workspace = new SolverWorkspace();
+		workspace.setTechniques(techniques);
+		return workspace;
+	}
+
+	/**
+	 * method to create the statistics of a worker thread.
+	 */
+	private SolverStats newWorkerStats() {
+		SolverStats workerTotal = new SolverStats();
+		workerStats.add(workerTotal);
+		return workerTotal;
+	}
+
+	/**
+	 * getter to return the statistics of every board solved so far, added up
+	 * over the worker threads. Boards filled in from the cache are not included.
+	 * Only call this while solveAll() is not running.
+	 *
+	 * @return statistics, or null if none are recorded
+	 */
+	public SolverStats getStats() {
+		if (workerStats == null) {
+			return null;
+		}
+		SolverStats total = new SolverStats();
+		for (SolverStats workerTotal : workerStats) {
+			total.add(workerTotal);
+		}
+		return total;
+	}
+
+	/**
+	 * method to wait for the next finished result.
+	 */
+	private static Result take(BlockingQueue<Result> finished) throws IOException {
+		try {
+			return finished.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while solving", e);
+		}
+	}
+
+	/**
+	 * shut down the worker threads, waiting for boards still in flight.
+	 */
+	@Override
+	public void close() {
+		pool.shutdown();
+		try {
+			pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Consumer interface for the results of a batch.
+	 *
+	 * @author Rachel Hatteberg, S02633540
+	 * @version 1.0, 04/27/2020 CSC-241 Student Project
+	 */
+	public interface Consumer {
+
+		/**
+		 * method called once per board of the batch.
+		 *
+		 * @param index
+		 *            position of the board in the input, from 0
+		 * @param board
+		 *            solved board, or null if it could not be solved
+		 * @param failure
+		 *            why the board could not be decoded or solved, or null
+		 * @throws IOException
+		 */
+		void accept(long index, Board board, Exception failure) throws IOException;
+	}
+
+	/**
+	 * Result class holding the outcome of a single board.
+	 */
+	private static final class Result {
+
+		/**
+		 * position of the board in the input.
+		 */
+		private final long index;
+
+		/**
+		 * solved board, or null.
+		 */
+		private final Board board;
+
+		/**
+		 * why the board could not be solved, or null.
+		 */
+		private final Exception failure;
+
+		/**
+		 * construct a result.
+		 */
+		private Result(long index, Board board, Exception failure) {
+			this.index = index;
+			this.board = board;
+			this.failure = failure;
+		}
+	}
+
+}
@@ -0,0 +1,442 @@
+package sudokuSolver.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Board class to create and use a sudoku board.
+ *
+ * The state of the board is held by a CompactBoard in a few flat arrays, and
+ * the Board is a view over it: its Tiles read and write single cells of those
+ * arrays, and are only created the first time one is asked for, so the solvers
+ * working on cell indices never allocate them. Tiles are created once per board
+ * and the same Tile is returned for a location every time.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class Board implements Cloneable {
+
+	/**
+	 * number of columns per local group of the standard 9x9 board.
+	 */
+	public static final int DEFAULT_BOX_SIZE = 3;
+
+	/**
+	 * largest supported number of columns per local group. Candidates are held
+	 * as int bitmasks, so a 25x25 board (box size 5) is the largest that fits.
+	 */
+	public static final int MAX_BOX_SIZE = 5;
+
+	/**
+	 * the values and possibilities of the board.
+	 */
+	private final CompactBoard grid;
+
+	/**
+	 * the shared tables of the board's size.
+	 */
+	private final BoardLayout layout;
+
+	/**
+	 * number of columns per local group.
+	 */
+	private final int boxSize;
+
+	/**
+	 * dimensions of the sudoku board (box size squared).
+	 */
+	private final int dimensions;
+
+	/**
+	 * tiles of the board by cell index (i * dimensions + j), or null until the
+	 * first tile is asked for.
+	 */
+	private Tile tiles[];
+
+	/**
+	 * tiles of every local group, indexed by local group; built with tiles.
+	 */
+	private List<List<Tile>> localGroupLists;
+
+	/**
+	 * tiles of every column, indexed by column.
+	 */
+	private List<List<Tile>> colLists;
+
+	/**
+	 * tiles of every row, indexed by row.
+	 */
+	private List<List<Tile>> rowLists;
+
+	/**
+	 * construct new 9x9 sudoku board.
+	 */
+	public Board() {
+		this(DEFAULT_BOX_SIZE);
+	}
+
+	/**
+	 * construct new sudoku board of boxSize x boxSize local groups, e.g. 4 for a
+	 * 16x16 board or 5 for a 25x25 board.
+	 *
+	 * @param boxSize
+	 *            number of columns per local group, from 1 - MAX_BOX_SIZE
+	 * @throws IllegalArgumentException
+	 *             if boxSize is out of range
+	 */
+	public Board(int boxSize) {
+		this(new CompactBoard(boxSize));
+	}
+
+	/**
+	 * construct a sudoku board viewing the values and possibilities of a compact
+	 * board. The compact board is not copied, so changes made through either are
+	 * seen by both.
+	 *
+	 * @param grid
+	 *            values and possibilities of the board
+	 */
+	public Board(CompactBoard grid) {
+		this.grid = grid;
+		this.layout = grid.getLayout();
+		this.boxSize = layout.getBoxSize();
+		this.dimensions = layout.getDimensions();
+	}
+
+	/**
+	 * method to create the tiles and the lists of tiles of every group, the first
+	 * time one is asked for.
+	 */
+	private void createTiles() {
+		if (tiles != null) {
+			return;
+		}
+		tiles = new Tile[layout.getCellCount()];
+		for (int c = 0; c < tiles.length; c++) {
+			tiles[c] = new Tile(grid, c);
+		}
+		rowLists = groupLists(layout.getRowUnit(0));
+		colLists = groupLists(layout.getColUnit(0));
+		localGroupLists = groupLists(layout.getLocalGroupUnit(0));
+	}
+
+	/**
+	 * method to build the lists of tiles of dimensions units, starting from unit
+	 * first.
+	 */
+	private List<List<Tile>> groupLists(int first) {
+		List<List<Tile>> lists = new ArrayList<List<Tile>>(dimensions);
+		for (int g = 0; g < dimensions; g++) {
+			List<Tile> group = new ArrayList<Tile>(dimensions);
+			for (int c : layout.getUnit(first + g)) {
+				group.add(tiles[c]);
+			}
+			lists.add(Collections.unmodifiableList(group));
+		}
+		return lists;
+	}
+
+	/**
+	 * method to check that a group map holds exactly the lists of tiles the
+	 * board already has. The groups are fixed by the shared BoardLayout, which
+	 * the masks of used values and the solvers rely on, so a map that differs
+	 * would leave the tile lists disagreeing with the rest of the board.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the map does not match the board's groups
+	 */
+	private void checkGroups(Map<Integer, List<Tile>> map, List<List<Tile>> lists, String kind) {
+		if (map.size() != dimensions) {
+			throw new IllegalArgumentException("Expected " + dimensions + " " + kind + "s, got " + map.size());
+		}
+		for (int g = 0; g < dimensions; g++) {
+			List<Tile> group = map.get(g);
+			if (group == null || group.size() != dimensions) {
+				throw new IllegalArgumentException(kind + " " + g + " must hold " + dimensions + " tiles");
+			}
+			for (int k = 0; k < dimensions; k++) {
+				if (group.get(k) != lists.get(g).get(k)) {
+					throw new IllegalArgumentException(
+							kind + " " + g + " does not match the board's layout at position " + k);
+				}
+			}
+		}
+	}
+
+	/**
+	 * set value to tile at specified i,j location. The row, column and local group
+	 * masks of used values are updated at the same time, so a value that collides
+	 * with one already in a shared row, column or local group is reported straight
+	 * away. Passing MISSING_VALUE (-1) clears the tile.
+	 *
+	 * @param i
+	 *            i location
+	 * @param j
+	 *            j location
+	 * @param value
+	 *            value at i, j location
+	 * @return true if the value does not collide with any shared tile
+	 * @throws IllegalArgumentException
+	 *             if value is outside of 1 - dimensions and not MISSING_VALUE
+	 */
+	public boolean setValue(int i, int j, int value) {
+		return grid.setValue(layout.getCell(i, j), value);
+	}
+
+	/**
+	 * getter to return the values and possibilities of the board, which the
+	 * solvers work on by cell index (see BoardLayout).
+	 *
+	 * @return compact board
+	 */
+	public CompactBoard getGrid() {
+		return grid;
+	}
+
+	/**
+	 * getter to return the number of columns per local group.
+	 *
+	 * @return box size, 3 for a 9x9 board
+	 */
+	public int getBoxSize() {
+		return boxSize;
+	}
+
+	/**
+	 * getter to return the number of rows, columns, local groups and values of
+	 * the board.
+	 *
+	 * @return dimensions, 9 for a 9x9 board
+	 */
+	public int getDimensions() {
+		return dimensions;
+	}
+
+	/**
+	 * getter to return the mask of values used by the row, column and local group
+	 * of the tile at the specified i, j location. The tile's possibilities are the
+	 * complement of this mask.
+	 *
+	 * @param i
+	 *            i location
+	 * @param j
+	 *            j location
+	 * @return bitmask of used values
+	 */
+	public int getUsedValues(int i, int j) {
+		return grid.getUsedValues(layout.getCell(i, j));
+	}
+
+	/**
+	 * getter to return the mask of values used in a row.
+	 *
+	 * @param row
+	 * @return bitmask of used values
+	 */
+	public int getRowValues(int row) {
+		return grid.getUnitValues(layout.getRowUnit(row));
+	}
+
+	/**
+	 * getter to return the mask of values used in a column.
+	 *
+	 * @param column
+	 * @return bitmask of used values
+	 */
+	public int getColValues(int column) {
+		return grid.getUnitValues(layout.getColUnit(column));
+	}
+
+	/**
+	 * getter to return the mask of values used in a local group.
+	 *
+	 * @param localGroup
+	 * @return bitmask of used values
+	 */
+	public int getLocalGroupValues(int localGroup) {
+		return grid.getUnitValues(layout.getLocalGroupUnit(localGroup));
+	}
+
+	/**
+	 * method to determine whether the board is free of duplicate values in every
+	 * row, column and local group.
+	 *
+	 * @return true or false
+	 */
+	public boolean isConsistent() {
+		return grid.isConsistent();
+	}
+
+	/**
+	 * getter to return the number of tiles without a value.
+	 *
+	 * @return number of empty tiles
+	 */
+	public int getEmptyCount() {
+		return grid.getEmptyCount();
+	}
+
+	/**
+	 * getter to return tile value at specified i, j location.
+	 *
+	 * @param i
+	 *            i location
+	 * @param j
+	 *            j location
+	 * @return value at i, j location
+	 */
+	public int getValue(int i, int j) {
+		return grid.getValue(layout.getCell(i, j));
+	}
+
+	/**
+	 * getter to return a tile at a specified i, j location.
+	 *
+	 * @param i
+	 *            i location
+	 * @param j
+	 *            j location
+	 * @return tile
+	 */
+	public Tile getTile(int i, int j) {
+		createTiles();
+		return tiles[layout.getCell(i, j)];
+	}
+
+	/**
+	 * getter to return the local group of tiles.
+	 *
+	 * @param localGroup
+	 * @return localGroup
+	 */
+	public List<Tile> getLocalGroupTiles(int localGroup) {
+		createTiles();
+		return localGroupLists.get(localGroup);
+	}
+
+	/**
+	 * set map of tiles for localGroup. The local groups are fixed by the board's
+	 * layout, so the map must hold this board's own tiles of every local group,
+	 * in row-major order; the board keeps its lists either way.
+	 *
+	 * @param localGroupMap
+	 * @throws IllegalArgumentException
+	 *             if the map does not match the board's local groups
+	 * @deprecated the groups of a board cannot be changed; use
+	 *             getLocalGroupTiles()
+	 */
+	@Deprecated
+	public void setLocalGroupTiles(Map<Integer, List<Tile>> localGroupMap) {
+		createTiles();
+		checkGroups(localGroupMap, localGroupLists, "Local group");
+	}
+
+	/**
+	 * getter to return a row (list) of tiles.
+	 *
+	 * @param row
+	 * @return row
+	 */
+	public List<Tile> getRowTiles(int row) {
+		createTiles();
+		return rowLists.get(row);
+	}
+
+	/**
+	 * set map for row of tiles. The rows are fixed by the board's layout, so the
+	 * map must hold this board's own tiles of every row, in order; the board
+	 * keeps its lists either way.
+	 *
+	 * @param rowMap
+	 * @throws IllegalArgumentException
+	 *             if the map does not match the board's rows
+	 * @deprecated the groups of a board cannot be changed; use getRowTiles()
+	 */
+	@Deprecated
+	public void setRowTiles(Map<Integer, List<Tile>> rowMap) {
+		createTiles();
+		checkGroups(rowMap, rowLists, "Row");
+	}
+
+	/**
+	 *
+	 * getter to return a column (list) of tiles.
+	 *
+	 * @param column
+	 * @return column
+	 */
+	public List<Tile> getColTiles(int column) {
+		createTiles();
+		return colLists.get(column);
+	}
+
+	/**
+	 * set map for column of tiles. The columns are fixed by the board's layout,
+	 * so the map must hold this board's own tiles of every column, in order; the
+	 * board keeps its lists either way.
+	 *
+	 * @param colMap
+	 * @throws IllegalArgumentException
+	 *             if the map does not match the board's columns
+	 * @deprecated the groups of a board cannot be changed; use getColTiles()
+	 */
+	@Deprecated
+	public void setColTiles(Map<Integer, List<Tile>> colMap) {
+		createTiles();
+		checkGroups(colMap, colLists, "Column");
+	}
+
+	/**
+	 * method to determine whether the sudoku board has been solved or not.
+	 *
+	 * @return true or false
+	 */
+	public boolean isSolved() {
+		return grid.isSolved();
+	}
+
+	/**
+	 * overridden toString() method to return a board to the console for debugging.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder boardString = new StringBuilder();
+		String separator = "=".repeat(2 * dimensions + 1) + "\n";
+		for (int i = 0; i < dimensions; i++) {
+			if (i % boxSize == 0)
+				boardString.append(separator);
+
+			boardString.append('|');
+			for (int j = 0; j < dimensions; j++) {
+				int tileValue = getValue(i, j);
+				if (tileValue != -1) {
+					boardString.append(PuzzleCodec.encodeValue(tileValue));
+				} else {
+					boardString.append(' ');
+				}
+				if ((j + 1) % boxSize == 0)
+					boardString.append('|');
+				else
+					boardString.append(' ');
+			}
+			boardString.append('\n');
+
+		}
+		boardString.append(separator);
+		return boardString.toString();
+	}
+
+	/**
+	 * overridden clone() method to clone a sudoku board, values and possibilities
+	 * included. Only the arrays of the compact board are copied; the clone
+	 * creates its own tiles when asked for them.
+	 */
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		return new Board(grid.copy());
+	}
+
+}
@@ -0,0 +1,257 @@
+package sudokuSolver.model;
+
+/**
+ * BoardLayout class holding the tables shared by every board of one size: the
+ * row, column and local group of each tile, the tiles of every unit (the rows,
+ * then the columns, then the local groups), the peers of each tile (every other
+ * tile sharing its row, column or local group, 20 on a 9x9 board). Tiles are
+ * numbered row by row, so tile i, j is cell i * dimensions + j.
+ *
+ * The tables never change, so one layout per size is built on first use and
+ * shared by every board of that size; callers must not modify the arrays
+ * returned by the getters.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public final class BoardLayout {
+
+	/**
+	 * layout of each box size, built on first use. Two threads asking for a new
+	 * size at once may both build it, which does no harm.
+	 */
+	private static final BoardLayout LAYOUTS[] = new BoardLayout[Board.MAX_BOX_SIZE + 1];
+
+	/**
+	 * number of columns per local group.
+	 */
+	private final int boxSize;
+
+	/**
+	 * number of rows, columns, local groups and values.
+	 */
+	private final int dimensions;
+
+	/**
+	 * row of each cell.
+	 */
+	private final int rowOf[];
+
+	/**
+	 * column of each cell.
+	 */
+	private final int colOf[];
+
+	/**
+	 * local group of each cell.
+	 */
+	private final int localGroupOf[];
+
+	/**
+	 * cells of every unit: the rows, then the columns, then the local groups.
+	 */
+	private final int units[][];
+
+	/**
+	 * peers of each cell: the rest of its row, then the rest of its column, then
+	 * the rest of its local group outside that row and column.
+	 */
+	private final int peers[][];
+
+	/**
+	 * construct the tables for one box size.
+	 */
+	private BoardLayout(int boxSize) {
+		this.boxSize = boxSize;
+		this.dimensions = boxSize * boxSize;
+		int cells = dimensions * dimensions;
+		rowOf = new int[cells];
+		colOf = new int[cells];
+		localGroupOf = new int[cells];
+		units = new int[3 * dimensions][dimensions];
+		int filled[] = new int[3 * dimensions];
+		for (int c = 0; c < cells; c++) {
+			rowOf[c] = c / dimensions;
+			colOf[c] = c % dimensions;
+			localGroupOf[c] = (rowOf[c] / boxSize) * boxSize + (colOf[c] / boxSize);
+			for (int u : new int[] { rowOf[c], dimensions + colOf[c], 2 * dimensions + localGroupOf[c] }) {
+				units[u][filled[u]++] = c;
+			}
+		}
+		peers = new int[cells][];
+		for (int c = 0; c < cells; c++) {
+			int list[] = new int[2 * (dimensions - 1) + (boxSize - 1) * (boxSize - 1)];
+			int count = 0;
+			for (int p : units[rowOf[c]]) {
+				if (p != c) {
+					list[count++] = p;
+				}
+			}
+			for (int p : units[dimensions + colOf[c]]) {
+				if (p != c) {
+					list[count++] = p;
+				}
+			}
+			for (int p : units[2 * dimensions + localGroupOf[c]]) {
+				if (rowOf[p] != rowOf[c] && colOf[p] != colOf[c]) {
+					list[count++] = p;
+				}
+			}
+			peers[c] = list;
+		}
+	}
+
+	/**
+	 * method to return the layout of a board size.
+	 *
+	 * @param boxSize
+	 *            number of columns per local group, from 1 - Board.MAX_BOX_SIZE
+	 * @return shared layout
+	 * @throws IllegalArgumentException
+	 *             if boxSize is out of range
+	 */
+	public static BoardLayout of(int boxSize) {
+		if (boxSize < 1 || boxSize > Board.MAX_BOX_SIZE) {
+			throw new IllegalArgumentException("Box size must be from 1-" + Board.MAX_BOX_SIZE + ": " + boxSize);
+		}
+		BoardLayout layout = LAYOUTS[boxSize];
+		if (layout == null) {
+			layout = new BoardLayout(boxSize);
+			LAYOUTS[boxSize] = layout;
+		}
+		return layout;
+	}
+
+	/**
+	 * getter to return the number of columns per local group.
+	 *
+	 * @return box size
+	 */
+	public int getBoxSize() {
+		return boxSize;
+	}
+
+	/**
+	 * getter to return the number of rows, columns, local groups and values.
+	 *
+	 * @return dimensions
+	 */
+	public int getDimensions() {
+		return dimensions;
+	}
+
+	/**
+	 * getter to return the number of cells.
+	 *
+	 * @return dimensions squared
+	 */
+	public int getCellCount() {
+		return rowOf.length;
+	}
+
+	/**
+	 * getter to return the cell of a tile.
+	 *
+	 * @param i
+	 *            i location
+	 * @param j
+	 *            j location
+	 * @return cell index
+	 */
+	public int getCell(int i, int j) {
+		return i * dimensions + j;
+	}
+
+	/**
+	 * getter to return the row of a cell.
+	 *
+	 * @param cell
+	 * @return row
+	 */
+	public int getRow(int cell) {
+		return rowOf[cell];
+	}
+
+	/**
+	 * getter to return the column of a cell.
+	 *
+	 * @param cell
+	 * @return column
+	 */
+	public int getCol(int cell) {
+		return colOf[cell];
+	}
+
+	/**
+	 * getter to return the local group of a cell.
+	 *
+	 * @param cell
+	 * @return local group
+	 */
+	public int getLocalGroup(int cell) {
+		return localGroupOf[cell];
+	}
+
+	/**
+	 * getter to return the number of units (rows, columns and local groups).
+	 *
+	 * @return 3 * dimensions
+	 */
+	public int getUnitCount() {
+		return units.length;
+	}
+
+	/**
+	 * getter to return the cells of a unit: units 0 to dimensions - 1 are the
+	 * rows, then come the columns, then the local groups.
+	 *
+	 * @param unit
+	 * @return cells, in row-major order
+	 */
+	public int[] getUnit(int unit) {
+		return units[unit];
+	}
+
+	/**
+	 * getter to return the unit index of a row.
+	 *
+	 * @param row
+	 * @return unit index
+	 */
+	public int getRowUnit(int row) {
+		return row;
+	}
+
+	/**
+	 * getter to return the unit index of a column.
+	 *
+	 * @param column
+	 * @return unit index
+	 */
+	public int getColUnit(int column) {
+		return dimensions + column;
+	}
+
+	/**
+	 * getter to return the unit index of a local group.
+	 *
+	 * @param localGroup
+	 * @return unit index
+	 */
+	public int getLocalGroupUnit(int localGroup) {
+		return 2 * dimensions + localGroup;
+	}
+
+	/**
+	 * getter to return the peers of a cell: every other cell sharing its row,
+	 * column or local group, each once. The first dimensions - 1 peers are the
+	 * rest of the cell's row.
+	 *
+	 * @param cell
+	 * @return peer cells
+	 */
+	public int[] getPeers(int cell) {
+		return peers[cell];
+	}
+
+}
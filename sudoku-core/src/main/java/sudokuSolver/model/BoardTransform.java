@@ -0,0 +1,196 @@
+package sudokuSolver.model;
+
+import java.util.Arrays;
+
+/**
+ * BoardTransform class holding one of the validity preserving symmetries of a
+ * sudoku board: an optional transposition, a reordering of the rows (bands
+ * reordered, and rows reordered within each band), a reordering of the columns
+ * (stacks reordered, and columns reordered within each stack), and a
+ * relabelling of the values. Together these give 9! * 2 * 6^8, roughly 1.2
+ * trillion, variants of every board, all of which have the same number of
+ * solutions.
+ *
+ * Tile r, c of the transformed board takes the relabelled value of tile
+ * rows[r], cols[c] of the original (after transposing it, if transpose is set).
+ * invert() applies the transform backwards, so a solution of the transformed
+ * board is mapped back to a solution of the original. Transforms only apply to
+ * 9x9 boards.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public final class BoardTransform {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * The sudoku board dimensions (9x9 grid).
+	 */
+	private static final int BOARD_DIMENSIONS = 9;
+
+	/**
+	 * whether the original board is transposed first.
+	 */
+	private final boolean transpose;
+
+	/**
+	 * original row of each transformed row.
+	 */
+	private final int rows[];
+
+	/**
+	 * original column of each transformed column.
+	 */
+	private final int cols[];
+
+	/**
+	 * transformed value of each original value (index 0 unused).
+	 */
+	private final int values[];
+
+	/**
+	 * original value of each transformed value (index 0 unused).
+	 */
+	private final int inverseValues[];
+
+	/**
+	 * construct a transform.
+	 *
+	 * @param transpose
+	 *            whether the original board is transposed first
+	 * @param rows
+	 *            original row of each transformed row
+	 * @param cols
+	 *            original column of each transformed column
+	 * @param values
+	 *            transformed value of each original value, indexed by value
+	 *            (index 0 is ignored)
+	 */
+	public BoardTransform(boolean transpose, int rows[], int cols[], int values[]) {
+		this.transpose = transpose;
+		this.rows = Arrays.copyOf(rows, BOARD_DIMENSIONS);
+		this.cols = Arrays.copyOf(cols, BOARD_DIMENSIONS);
+		this.values = Arrays.copyOf(values, BOARD_DIMENSIONS + 1);
+		this.inverseValues = new int[BOARD_DIMENSIONS + 1];
+		for (int v = 1; v <= BOARD_DIMENSIONS; v++) {
+			inverseValues[this.values[v]] = v;
+		}
+	}
+
+	/**
+	 * method to return the transformed copy of a board.
+	 *
+	 * @param board
+	 *            original board
+	 * @return new transformed board
+	 * @throws IllegalArgumentException
+	 *             if the board is not 9x9
+	 */
+	public Board apply(Board board) {
+		checkSize(board);
+		Board result = new Board();
+		for (int r = 0; r < BOARD_DIMENSIONS; r++) {
+			for (int c = 0; c < BOARD_DIMENSIONS; c++) {
+				int value = transpose ? board.getValue(cols[c], rows[r]) : board.getValue(rows[r], cols[c]);
+				if (value != MISSING_VALUE) {
+					result.setValue(r, c, values[value]);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * method to map a transformed board back to the original, e.g. to turn the
+	 * solution of a canonical board into the solution of the board it came from.
+	 *
+	 * @param board
+	 *            transformed board
+	 * @return new original board
+	 * @throws IllegalArgumentException
+	 *             if the board is not 9x9
+	 */
+	public Board invert(Board board) {
+		checkSize(board);
+		Board result = new Board();
+		for (int r = 0; r < BOARD_DIMENSIONS; r++) {
+			for (int c = 0; c < BOARD_DIMENSIONS; c++) {
+				int value = board.getValue(r, c);
+				if (value != MISSING_VALUE) {
+					if (transpose) {
+						result.setValue(cols[c], rows[r], inverseValues[value]);
+					} else {
+						result.setValue(rows[r], cols[c], inverseValues[value]);
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * method to reject boards of other sizes than 9x9.
+	 */
+	private static void checkSize(Board board) {
+		if (board.getBoxSize() != Board.DEFAULT_BOX_SIZE) {
+			throw new IllegalArgumentException("Transforms only apply to 9x9 boards");
+		}
+	}
+
+	/**
+	 * getter to return whether the original board is transposed first.
+	 *
+	 * @return true or false
+	 */
+	public boolean isTranspose() {
+		return transpose;
+	}
+
+	/**
+	 * getter to return the original row of a transformed row.
+	 *
+	 * @param r
+	 *            transformed row
+	 * @return original row
+	 */
+	public int getRow(int r) {
+		return rows[r];
+	}
+
+	/**
+	 * getter to return the original column of a transformed column.
+	 *
+	 * @param c
+	 *            transformed column
+	 * @return original column
+	 */
+	public int getCol(int c) {
+		return cols[c];
+	}
+
+	/**
+	 * getter to return the transformed value of an original value.
+	 *
+	 * @param value
+	 *            original value from 1 - 9
+	 * @return transformed value
+	 */
+	public int getValue(int value) {
+		return values[value];
+	}
+
+	/**
+	 * overridden toString() method to return the transform for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "BoardTransform[transpose=" + transpose + ", rows=" + Arrays.toString(rows) + ", cols="
+				+ Arrays.toString(cols) + ", values=" + Arrays.toString(Arrays.copyOfRange(values, 1, values.length))
+				+ "]";
+	}
+
+}
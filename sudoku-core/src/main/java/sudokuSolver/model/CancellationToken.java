@@ -0,0 +1,37 @@
+package sudokuSolver.model;
+
+/**
+ * CancellationToken class used to stop a running search from another thread.
+ * The search checks the token at every guess, which only costs a read of a
+ * volatile field, and returns SearchResult.CANCELLED once it has been
+ * cancelled. A token can be shared by several searches to stop them all at
+ * once, and can be combined with a deadline and a guess limit in a
+ * SearchBudget.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class CancellationToken {
+
+	/**
+	 * whether cancel() has been called.
+	 */
+	private volatile boolean cancelled = false;
+
+	/**
+	 * ask every search using this token to stop.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * method to determine whether the token has been cancelled.
+	 *
+	 * @return true or false
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+}
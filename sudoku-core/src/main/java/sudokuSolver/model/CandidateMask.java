@@ -0,0 +1,155 @@
+package sudokuSolver.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CandidateMask class which provides the bit operations used to hold a tile's
+ * possibilities as a single int. Bit (value - 1) is set when value is still a
+ * possibility for the tile, so a 9x9 board only ever uses the lowest 9 bits and
+ * boards up to 32 values wide fit in the same representation.
+ *
+ * Iterating over every possibility in a mask is done without allocating:
+ *
+ * <pre>
+ * for (int m = mask; m != 0; m = CandidateMask.removeLowest(m)) {
+ * 	int value = CandidateMask.lowest(m);
+ * }
+ * </pre>
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public final class CandidateMask {
+
+	/**
+	 * mask with no possibilities.
+	 */
+	public static final int EMPTY = 0;
+
+	/**
+	 * value returned by lowest() when the mask has no possibilities.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * Prevent instantiation of utility class.
+	 */
+	private CandidateMask() {
+	}
+
+	/**
+	 * method to return a mask holding every value from 1 to size.
+	 *
+	 * @param size
+	 *            number of values on the board
+	 * @return mask of all values
+	 */
+	public static int full(int size) {
+		return (size >= Integer.SIZE) ? -1 : (1 << size) - 1;
+	}
+
+	/**
+	 * method to return the mask holding a single value.
+	 *
+	 * @param value
+	 *            value from 1 to size
+	 * @return mask with only that value
+	 */
+	public static int of(int value) {
+		return 1 << (value - 1);
+	}
+
+	/**
+	 * method to determine whether a value is a possibility in the mask.
+	 *
+	 * @param mask
+	 *            mask being evaluated
+	 * @param value
+	 *            value being looked for
+	 * @return true or false
+	 */
+	public static boolean contains(int mask, int value) {
+		return (mask & of(value)) != 0;
+	}
+
+	/**
+	 * method to add a value to the mask.
+	 *
+	 * @param mask
+	 *            mask being added to
+	 * @param value
+	 *            value being added
+	 * @return updated mask
+	 */
+	public static int add(int mask, int value) {
+		return mask | of(value);
+	}
+
+	/**
+	 * method to remove a value from the mask.
+	 *
+	 * @param mask
+	 *            mask being removed from
+	 * @param value
+	 *            value being removed
+	 * @return updated mask
+	 */
+	public static int remove(int mask, int value) {
+		return mask & ~of(value);
+	}
+
+	/**
+	 * method to return the number of possibilities in the mask (popcount).
+	 *
+	 * @param mask
+	 *            mask being evaluated
+	 * @return number of possibilities
+	 */
+	public static int count(int mask) {
+		return Integer.bitCount(mask);
+	}
+
+	/**
+	 * method to return the lowest value in the mask.
+	 *
+	 * @param mask
+	 *            mask being evaluated
+	 * @return lowest value, or -1 if the mask is empty
+	 */
+	public static int lowest(int mask) {
+		if (mask == EMPTY) {
+			return MISSING_VALUE;
+		}
+		return Integer.numberOfTrailingZeros(mask) + 1;
+	}
+
+	/**
+	 * method to remove the lowest value from the mask. Used together with lowest()
+	 * to iterate over every possibility in the mask.
+	 *
+	 * @param mask
+	 *            mask being evaluated
+	 * @return mask without its lowest value
+	 */
+	public static int removeLowest(int mask) {
+		return mask & (mask - 1);
+	}
+
+	/**
+	 * method to return the possibilities in the mask as a list of Integers, lowest
+	 * value first. Only meant for display and debugging since it allocates.
+	 *
+	 * @param mask
+	 *            mask being converted
+	 * @return list of Integers
+	 */
+	public static List<Integer> toList(int mask) {
+		List<Integer> values = new ArrayList<>(count(mask));
+		for (int m = mask; m != EMPTY; m = removeLowest(m)) {
+			values.add(lowest(m));
+		}
+		return values;
+	}
+
+}
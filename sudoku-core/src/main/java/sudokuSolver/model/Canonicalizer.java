@@ -0,0 +1,702 @@
+package sudokuSolver.model;
+
+import java.util.Arrays;
+
+/**
+ * Canonicalizer class to map a board to one representative of all of its
+ * symmetry equivalent variants (see BoardTransform), so that puzzles that are
+ * the same after relabelling values, transposing, or reordering bands, stacks,
+ * rows within a band and columns within a stack can be recognized as
+ * duplicates and solved once.
+ *
+ * The canonical form is the variant that reads smallest row by row, with empty
+ * tiles before values and values relabelled in order of first appearance (the
+ * first value read becomes 1, the next new one 2, and so on). It is found a row
+ * at a time: the first row is chosen among every transposition, source row and
+ * column order (2 * 9 * 1296), and only the orders that tie for the smallest
+ * row are carried on to choose the next row, so almost none of the 1.2
+ * trillion variants are ever looked at. The smallest first row a source row
+ * can read follows from how many values each of its stacks holds, so only the
+ * source rows that can reach the smallest are looked at, and their tying
+ * column orders are built directly rather than found among all 1296. The ties
+ * are kept in two flat arrays that are swapped from row to row.
+ *
+ * Boards with very few values can tie on a huge number of orders. Rather than
+ * carry on with only some of them, which could give equivalent boards
+ * different keys, canonicalize() gives up once more than MAX_TIES orders tie,
+ * and returns null: such a board has no canonical form. Every key returned is
+ * canonical: two boards get the same key if and only if they are equivalent.
+ *
+ * Finding the canonical form costs about as much as solving the board, so
+ * invariant() also gives a cheap key that equivalent boards always share, to
+ * rule most boards out before canonicalizing them.
+ *
+ * Only 9x9 boards can be canonicalized.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public final class Canonicalizer {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * The sudoku board dimensions (9x9 grid).
+	 */
+	private static final int BOARD_DIMENSIONS = 9;
+
+	/**
+	 * number of rows per band and columns per stack.
+	 */
+	private static final int COL_PER_GROUP = 3;
+
+	/**
+	 * maximum number of tied orders carried from one row to the next.
+	 */
+	private static final int MAX_TIES = 1 << 14;
+
+	/**
+	 * odd constant mixing the parts of an invariant key.
+	 */
+	private static final long INVARIANT_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * one more than the largest count signature of the three rows (or local
+	 * groups) of a band: three decimal digits.
+	 */
+	private static final long BAND_RADIX = 1000;
+
+	/**
+	 * character used for empty tiles in a key.
+	 */
+	private static final char EMPTY_CHAR = '.';
+
+	/**
+	 * the six orders of three things.
+	 */
+	private static final int PERMUTATIONS[][] = { { 0, 1, 2 }, { 0, 2, 1 }, { 1, 0, 2 }, { 1, 2, 0 }, { 2, 0, 1 },
+			{ 2, 1, 0 } };
+
+	/**
+	 * every column order that keeps the stacks together: 6 stack orders times 6^3
+	 * column orders within the stacks.
+	 */
+	private static final int COL_ORDERS[][] = columnOrders();
+
+	/**
+	 * Prevent instantiation of utility class.
+	 */
+	private Canonicalizer() {
+	}
+
+	/**
+	 * method to find the canonical form of a board.
+	 *
+	 * @param board
+	 *            board being evaluated
+	 * @return the canonical key and the transform from the board to it, or null
+	 *         if too many orders of the board tie to find it (see MAX_TIES)
+	 * @throws IllegalArgumentException
+	 *             if the board is not 9x9
+	 */
+	public static CanonicalForm canonicalize(Board board) {
+		if (board.getBoxSize() != Board.DEFAULT_BOX_SIZE) {
+			throw new IllegalArgumentException("Only 9x9 boards can be canonicalized");
+		}
+		/* the board and its transposition, with 0 for empty tiles */
+		int grids[][] = new int[2][BOARD_DIMENSIONS * BOARD_DIMENSIONS];
+		for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+			for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+				int value = board.getValue(i, j);
+				value = (value == MISSING_VALUE) ? 0 : value;
+				grids[0][i * BOARD_DIMENSIONS + j] = value;
+				grids[1][j * BOARD_DIMENSIONS + i] = value;
+			}
+		}
+
+		Ties ties = new Ties();
+		Ties next = new Ties();
+		int best[] = new int[BOARD_DIMENSIONS];
+		int row[] = new int[BOARD_DIMENSIONS];
+		int labels[] = new int[BOARD_DIMENSIONS + 1];
+
+		/*
+		 * first row: the smallest a source row can read is worked out directly from
+		 * how many values each of its stacks holds, and only the sources that tie
+		 * for the smallest are read in the column orders that give it.
+		 */
+		boolean haveBest = false;
+		int tied[] = new int[grids.length * BOARD_DIMENSIONS];
+		int tiedCount = 0;
+		for (int t = 0; t < grids.length; t++) {
+			for (int src = 0; src < BOARD_DIMENSIONS; src++) {
+				smallestRow(grids[t], src, row);
+				int cmp = haveBest ? compare(row, best) : -1;
+				if (cmp < 0) {
+					System.arraycopy(row, 0, best, 0, BOARD_DIMENSIONS);
+					haveBest = true;
+					tiedCount = 0;
+				}
+				if (cmp <= 0) {
+					tied[tiedCount++] = t * BOARD_DIMENSIONS + src;
+				}
+			}
+		}
+		for (int k = 0; k < tiedCount; k++) {
+			if (!addFirstRows(grids[tied[k] / BOARD_DIMENSIONS], tied[k] / BOARD_DIMENSIONS,
+					tied[k] % BOARD_DIMENSIONS, labels, row, next)) {
+				return null;
+			}
+		}
+
+		/* every other row: a row of the same band, or the first row of a new band */
+		for (int r = 1; r < BOARD_DIMENSIONS; r++) {
+			Ties swap = ties;
+			ties = next;
+			next = swap;
+			next.clear();
+			haveBest = false;
+			for (int k = 0; k < ties.size(); k++) {
+				int grid[] = grids[ties.getTranspose(k)];
+				int cols[] = COL_ORDERS[ties.getColOrder(k)];
+				for (int src = 0; src < BOARD_DIMENSIONS; src++) {
+					if (!ties.allows(k, r, src)) {
+						continue;
+					}
+					ties.copyLabels(k, labels);
+					int cmp = relabelRow(grid, src, cols, labels, row, best, haveBest);
+					if (cmp < 0) {
+						next.clear();
+						System.arraycopy(row, 0, best, 0, BOARD_DIMENSIONS);
+						haveBest = true;
+					}
+					if (cmp <= 0 && !next.add(ties, k, r, src, labels)) {
+						return null;
+					}
+				}
+			}
+		}
+
+		/* values missing from the board take the labels left over, in order */
+		next.copyLabels(0, labels);
+		for (int v = 1; v <= BOARD_DIMENSIONS; v++) {
+			if (labels[v] == 0) {
+				labels[v] = labels[0]++;
+			}
+		}
+		int transpose = next.getTranspose(0);
+		int rows[] = new int[BOARD_DIMENSIONS];
+		for (int r = 0; r < BOARD_DIMENSIONS; r++) {
+			rows[r] = next.getRow(0, r);
+		}
+		int cols[] = COL_ORDERS[next.getColOrder(0)];
+		char key[] = new char[BOARD_DIMENSIONS * BOARD_DIMENSIONS];
+		for (int r = 0; r < BOARD_DIMENSIONS; r++) {
+			for (int c = 0; c < BOARD_DIMENSIONS; c++) {
+				int value = grids[transpose][rows[r] * BOARD_DIMENSIONS + cols[c]];
+				key[r * BOARD_DIMENSIONS + c] = (value == 0) ? EMPTY_CHAR : (char) ('0' + labels[value]);
+			}
+		}
+		return new CanonicalForm(new String(key), new BoardTransform(transpose == 1, rows, cols, labels));
+	}
+
+	/**
+	 * method to compute a key that every board equivalent to the given one shares,
+	 * for a small fraction of the cost of canonicalize(). It is made of the number
+	 * of values in each row, column and local group, and of the number of times
+	 * each value is used, each sorted where a transform could reorder them: each
+	 * band is described by the sorted counts of its rows and of its local groups,
+	 * and the bands are sorted; likewise the stacks, with their columns, and the
+	 * transposition can swap the two; and the values are sorted. Boards that are
+	 * not equivalent can share it too, so it can only tell boards apart.
+	 *
+	 * @param board
+	 *            board being evaluated
+	 * @return the invariant key
+	 * @throws IllegalArgumentException
+	 *             if the board is not 9x9
+	 */
+	public static long invariant(Board board) {
+		if (board.getBoxSize() != Board.DEFAULT_BOX_SIZE) {
+			throw new IllegalArgumentException("Only 9x9 boards can be canonicalized");
+		}
+		int rowCounts[] = new int[BOARD_DIMENSIONS];
+		int colCounts[] = new int[BOARD_DIMENSIONS];
+		/* local groups by band, then by stack */
+		int bandGroupCounts[] = new int[BOARD_DIMENSIONS];
+		int stackGroupCounts[] = new int[BOARD_DIMENSIONS];
+		int valueCounts[] = new int[BOARD_DIMENSIONS];
+		for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+			for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+				int value = board.getValue(i, j);
+				if (value != MISSING_VALUE) {
+					rowCounts[i]++;
+					colCounts[j]++;
+					bandGroupCounts[(i / COL_PER_GROUP) * COL_PER_GROUP + j / COL_PER_GROUP]++;
+					stackGroupCounts[(j / COL_PER_GROUP) * COL_PER_GROUP + i / COL_PER_GROUP]++;
+					valueCounts[value - 1]++;
+				}
+			}
+		}
+		long bands = bandSignature(rowCounts, bandGroupCounts);
+		long stacks = bandSignature(colCounts, stackGroupCounts);
+		Arrays.sort(valueCounts);
+		long h = Math.min(bands, stacks);
+		h = (h + Math.max(bands, stacks)) * INVARIANT_MULTIPLIER;
+		h = (h + digits(valueCounts, 0, BOARD_DIMENSIONS)) * INVARIANT_MULTIPLIER;
+		return h ^ (h >>> 32);
+	}
+
+	/**
+	 * method to write the counts of the rows and local groups of every band (or
+	 * the columns and local groups of every stack) as one number that does not
+	 * depend on their order: the counts within each band are sorted, and then the
+	 * bands.
+	 */
+	private static long bandSignature(int lineCounts[], int groupCounts[]) {
+		long bands[] = new long[COL_PER_GROUP];
+		for (int b = 0; b < COL_PER_GROUP; b++) {
+			Arrays.sort(lineCounts, b * COL_PER_GROUP, (b + 1) * COL_PER_GROUP);
+			Arrays.sort(groupCounts, b * COL_PER_GROUP, (b + 1) * COL_PER_GROUP);
+			bands[b] = digits(lineCounts, b * COL_PER_GROUP, (b + 1) * COL_PER_GROUP) * BAND_RADIX
+					+ digits(groupCounts, b * COL_PER_GROUP, (b + 1) * COL_PER_GROUP);
+		}
+		Arrays.sort(bands);
+		long signature = 0;
+		for (long band : bands) {
+			signature = signature * BAND_RADIX * BAND_RADIX + band;
+		}
+		return signature;
+	}
+
+	/**
+	 * method to write counts of at most 9 as the digits of a decimal number.
+	 */
+	private static long digits(int counts[], int from, int to) {
+		long number = 0;
+		for (int k = from; k < to; k++) {
+			number = number * 10 + counts[k];
+		}
+		return number;
+	}
+
+	/**
+	 * method to relabel one source row in a column order and compare it with the
+	 * best row found so far, giving up as soon as it is known to be bigger.
+	 *
+	 * @param grid
+	 *            values of the (possibly transposed) board, 0 for empty
+	 * @param src
+	 *            source row
+	 * @param cols
+	 *            column order
+	 * @param labels
+	 *            label of each value so far (0 if not seen yet), with the next
+	 *            free label at index 0; updated with the new labels
+	 * @param row
+	 *            the relabelled row is written here
+	 * @param best
+	 *            best row found so far
+	 * @param haveBest
+	 *            whether best holds a row yet
+	 * @return negative if the row is smaller than best (or there is no best yet),
+	 *         0 if equal, positive if bigger
+	 */
+	private static int relabelRow(int grid[], int src, int cols[], int labels[], int row[], int best[],
+			boolean haveBest) {
+		int cmp = haveBest ? 0 : -1;
+		int base = src * BOARD_DIMENSIONS;
+		for (int c = 0; c < BOARD_DIMENSIONS; c++) {
+			int value = grid[base + cols[c]];
+			int label = 0;
+			if (value != 0) {
+				label = labels[value];
+				if (label == 0) {
+					label = labels[0]++;
+					labels[value] = label;
+				}
+			}
+			row[c] = label;
+			if (cmp == 0 && label != best[c]) {
+				if (label > best[c]) {
+					return 1;
+				}
+				cmp = -1;
+			}
+		}
+		return cmp;
+	}
+
+	/**
+	 * method to add a tie for every column order in which a source row reads as
+	 * the smallest it can: its stacks in order of how many values they hold, and
+	 * within each stack the empty tiles before the values. Every such order reads
+	 * the same, but labels the values differently.
+	 *
+	 * @param grid
+	 *            values of the (possibly transposed) board, 0 for empty
+	 * @param transpose
+	 *            1 if the board is transposed, otherwise 0
+	 * @param src
+	 *            source row
+	 * @param labels
+	 *            scratch array for the labels
+	 * @param row
+	 *            scratch array for the relabelled row
+	 * @param ties
+	 *            ties to add to
+	 * @return false if there are too many ties
+	 */
+	private static boolean addFirstRows(int grid[], int transpose, int src, int labels[], int row[], Ties ties) {
+		int counts[] = new int[COL_PER_GROUP];
+		for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+			if (grid[src * BOARD_DIMENSIONS + j] != 0) {
+				counts[j / COL_PER_GROUP]++;
+			}
+		}
+		/* orders of each stack's columns that put its empty tiles first */
+		int within[] = new int[COL_PER_GROUP];
+		for (int stack = 0; stack < COL_PER_GROUP; stack++) {
+			for (int w = 0; w < PERMUTATIONS.length; w++) {
+				boolean emptyFirst = true;
+				for (int m = 0; m < COL_PER_GROUP; m++) {
+					boolean empty = grid[src * BOARD_DIMENSIONS + stack * COL_PER_GROUP + PERMUTATIONS[w][m]] == 0;
+					emptyFirst = emptyFirst && (empty == (m < COL_PER_GROUP - counts[stack]));
+				}
+				if (emptyFirst) {
+					within[stack] |= 1 << w;
+				}
+			}
+		}
+		int n = PERMUTATIONS.length;
+		for (int s = 0; s < n; s++) {
+			int stacks[] = PERMUTATIONS[s];
+			if (counts[stacks[0]] > counts[stacks[1]] || counts[stacks[1]] > counts[stacks[2]]) {
+				continue;
+			}
+			for (int a = 0; a < n; a++) {
+				if ((within[stacks[0]] & (1 << a)) == 0) {
+					continue;
+				}
+				for (int b = 0; b < n; b++) {
+					if ((within[stacks[1]] & (1 << b)) == 0) {
+						continue;
+					}
+					for (int c = 0; c < n; c++) {
+						if ((within[stacks[2]] & (1 << c)) == 0) {
+							continue;
+						}
+						/* index of the order in COL_ORDERS, see columnOrders() */
+						int colOrder = ((s * n + a) * n + b) * n + c;
+						Arrays.fill(labels, 0);
+						labels[0] = 1;
+						relabelRow(grid, src, COL_ORDERS[colOrder], labels, row, row, false);
+						if (!ties.addFirst(transpose, colOrder, src, labels)) {
+							return false;
+						}
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * method to write the smallest a source row can read as the first row: its
+	 * stacks in order of how many values they hold, and within each stack the
+	 * empty tiles first, followed by the values labelled 1, 2, 3... in order.
+	 *
+	 * @param grid
+	 *            values of the (possibly transposed) board, 0 for empty
+	 * @param src
+	 *            source row
+	 * @param row
+	 *            the smallest row is written here
+	 */
+	private static void smallestRow(int grid[], int src, int row[]) {
+		int counts[] = new int[COL_PER_GROUP];
+		for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+			if (grid[src * BOARD_DIMENSIONS + j] != 0) {
+				counts[j / COL_PER_GROUP]++;
+			}
+		}
+		Arrays.sort(counts);
+		int label = 1;
+		int c = 0;
+		for (int count : counts) {
+			for (int m = 0; m < COL_PER_GROUP; m++) {
+				row[c++] = (m < COL_PER_GROUP - count) ? 0 : label++;
+			}
+		}
+	}
+
+	/**
+	 * method to compare two rows.
+	 *
+	 * @return negative, 0 or positive as a is smaller than, equal to or bigger
+	 *         than b
+	 */
+	private static int compare(int a[], int b[]) {
+		for (int c = 0; c < BOARD_DIMENSIONS; c++) {
+			if (a[c] != b[c]) {
+				return a[c] - b[c];
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * method to build every column order that keeps the stacks together.
+	 *
+	 * @return column orders
+	 */
+	private static int[][] columnOrders() {
+		int orders[][] = new int[PERMUTATIONS.length * PERMUTATIONS.length * PERMUTATIONS.length
+				* PERMUTATIONS.length][];
+		int n = 0;
+		for (int stacks[] : PERMUTATIONS) {
+			for (int first[] : PERMUTATIONS) {
+				for (int second[] : PERMUTATIONS) {
+					for (int third[] : PERMUTATIONS) {
+						int within[][] = { first, second, third };
+						int order[] = new int[BOARD_DIMENSIONS];
+						for (int k = 0; k < COL_PER_GROUP; k++) {
+							for (int m = 0; m < COL_PER_GROUP; m++) {
+								order[k * COL_PER_GROUP + m] = stacks[k] * COL_PER_GROUP + within[k][m];
+							}
+						}
+						orders[n++] = order;
+					}
+				}
+			}
+		}
+		return orders;
+	}
+
+	/**
+	 * Ties class holding the partly chosen transforms that are still tied for the
+	 * smallest rows so far, one after the other in a flat array that is reused
+	 * from row to row: the transposition, the column order, the source row of
+	 * each row and the label of each value.
+	 */
+	private static final class Ties {
+
+		/**
+		 * offset of the transposition in a tie: 1 if the board is transposed,
+		 * otherwise 0.
+		 */
+		private static final int TRANSPOSE = 0;
+
+		/**
+		 * offset of the index of the column order.
+		 */
+		private static final int COL_ORDER = 1;
+
+		/**
+		 * offset of the source row of each row chosen so far.
+		 */
+		private static final int ROWS = 2;
+
+		/**
+		 * offset of the label of each value so far, with the next free label first.
+		 */
+		private static final int LABELS = ROWS + BOARD_DIMENSIONS;
+
+		/**
+		 * number of ints per tie.
+		 */
+		private static final int SIZE = LABELS + BOARD_DIMENSIONS + 1;
+
+		/**
+		 * initial number of ties that can be held before growing.
+		 */
+		private static final int INITIAL_CAPACITY = 64;
+
+		/**
+		 * the ties.
+		 */
+		private int ties[] = new int[INITIAL_CAPACITY * SIZE];
+
+		/**
+		 * number of ties held.
+		 */
+		private int size = 0;
+
+		/**
+		 * method to forget every tie.
+		 */
+		private void clear() {
+			size = 0;
+		}
+
+		/**
+		 * getter to return the number of ties held.
+		 */
+		private int size() {
+			return size;
+		}
+
+		/**
+		 * method to add a tie by choosing the first row.
+		 *
+		 * @return false if there are too many ties
+		 */
+		private boolean addFirst(int transpose, int colOrder, int src, int labels[]) {
+			int offset = grow();
+			if (offset < 0) {
+				return false;
+			}
+			ties[offset + TRANSPOSE] = transpose;
+			ties[offset + COL_ORDER] = colOrder;
+			ties[offset + ROWS] = src;
+			System.arraycopy(labels, 0, ties, offset + LABELS, labels.length);
+			return true;
+		}
+
+		/**
+		 * method to add a tie by choosing row r after another tie's rows.
+		 *
+		 * @return false if there are too many ties
+		 */
+		private boolean add(Ties parent, int k, int r, int src, int labels[]) {
+			int offset = grow();
+			if (offset < 0) {
+				return false;
+			}
+			System.arraycopy(parent.ties, k * SIZE, ties, offset, LABELS);
+			ties[offset + ROWS + r] = src;
+			System.arraycopy(labels, 0, ties, offset + LABELS, labels.length);
+			return true;
+		}
+
+		/**
+		 * method to make room for one more tie.
+		 *
+		 * @return offset of the new tie, or -1 if there are too many ties
+		 */
+		private int grow() {
+			if (size == MAX_TIES) {
+				return -1;
+			}
+			int offset = size * SIZE;
+			if (offset + SIZE > ties.length) {
+				ties = Arrays.copyOf(ties, ties.length * 2);
+			}
+			size++;
+			return offset;
+		}
+
+		/**
+		 * getter to return whether tie k is transposed: 1 if so, otherwise 0.
+		 */
+		private int getTranspose(int k) {
+			return ties[k * SIZE + TRANSPOSE];
+		}
+
+		/**
+		 * getter to return the index of the column order of tie k.
+		 */
+		private int getColOrder(int k) {
+			return ties[k * SIZE + COL_ORDER];
+		}
+
+		/**
+		 * getter to return the source row chosen as row r by tie k.
+		 */
+		private int getRow(int k, int r) {
+			return ties[k * SIZE + ROWS + r];
+		}
+
+		/**
+		 * method to copy the labels of tie k.
+		 */
+		private void copyLabels(int k, int labels[]) {
+			System.arraycopy(ties, k * SIZE + LABELS, labels, 0, labels.length);
+		}
+
+		/**
+		 * method to determine whether tie k can choose a source row as row r.
+		 *
+		 * @param k
+		 *            tie
+		 * @param r
+		 *            row being chosen; rows 0 to r - 1 have been chosen
+		 * @param src
+		 *            source row
+		 * @return true if src is unused and in the same band as row r - 1 (when r
+		 *         is inside a band), or in an unused band (when r starts a band)
+		 */
+		private boolean allows(int k, int r, int src) {
+			int rows = k * SIZE + ROWS;
+			int band = src / COL_PER_GROUP;
+			if (r % COL_PER_GROUP != 0) {
+				if (band != ties[rows + r - 1] / COL_PER_GROUP) {
+					return false;
+				}
+				for (int m = r - r % COL_PER_GROUP; m < r; m++) {
+					if (ties[rows + m] == src) {
+						return false;
+					}
+				}
+				return true;
+			}
+			for (int m = 0; m < r; m += COL_PER_GROUP) {
+				if (ties[rows + m] / COL_PER_GROUP == band) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * CanonicalForm class holding the canonical key of a board and the transform
+	 * that produces it.
+	 *
+	 * @author Rachel Hatteberg, S02633540
+	 * @version 1.0, 04/27/2020 CSC-241 Student Project
+	 */
+	public static final class CanonicalForm {
+
+		/**
+		 * the canonical board as 81 characters, '.' for empty tiles.
+		 */
+		private final String key;
+
+		/**
+		 * transform from the board to its canonical form.
+		 */
+		private final BoardTransform transform;
+
+		/**
+		 * construct a canonical form.
+		 */
+		private CanonicalForm(String key, BoardTransform transform) {
+			this.key = key;
+			this.transform = transform;
+		}
+
+		/**
+		 * getter to return the canonical board as 81 characters, '.' for empty
+		 * tiles. Equivalent boards have the same key.
+		 *
+		 * @return key
+		 */
+		public String getKey() {
+			return key;
+		}
+
+		/**
+		 * getter to return the transform from the board to its canonical form.
+		 *
+		 * @return transform
+		 */
+		public BoardTransform getTransform() {
+			return transform;
+		}
+	}
+
+}
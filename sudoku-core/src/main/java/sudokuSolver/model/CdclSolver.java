@@ -0,0 +1,889 @@
+package sudokuSolver.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CdclSolver class which decides the satisfiability of a formula in
+ * conjunctive normal form with conflict driven clause learning, the way
+ * MiniSat and its descendants do:
+ * <ul>
+ * <li>unit propagation only visits the clauses watching the literal that just
+ * became false (two watched literals per clause)</li>
+ * <li>every conflict is analysed back to its first unique implication point,
+ * and the clause learned from it is added to the formula, so the same conflict
+ * is never reached again</li>
+ * <li>the search jumps back to the level at which the learned clause becomes
+ * unit, not just one decision</li>
+ * <li>decisions pick the unassigned variable with the highest VSIDS activity
+ * (bumped for every variable taking part in a conflict and decayed over time),
+ * with the value it last had</li>
+ * <li>the search restarts after a Luby sequence of conflicts, keeping what it
+ * has learned, and learned clauses with the most decision levels are thrown
+ * away when there are too many of them</li>
+ * </ul>
+ *
+ * Variables are numbered from 1 and literals are given as in the DIMACS format:
+ * v for variable v being true, -v for it being false. Internally, the literal
+ * of variable index x (v - 1) is 2 * x when true and 2 * x + 1 when false.
+ *
+ * An instance solves one formula once and must only be used by one thread.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+final class CdclSolver {
+
+	/**
+	 * no clause, variable or literal.
+	 */
+	private static final int UNDEFINED = -1;
+
+	/**
+	 * value of an unassigned variable.
+	 */
+	private static final byte UNASSIGNED = 0;
+
+	/**
+	 * value of a variable or literal that is true.
+	 */
+	private static final byte TRUE = 1;
+
+	/**
+	 * value of a variable or literal that is false.
+	 */
+	private static final byte FALSE = -1;
+
+	/**
+	 * number of conflicts in one unit of the Luby restart sequence.
+	 */
+	private static final int RESTART_INTERVAL = 100;
+
+	/**
+	 * factor every variable activity decays by after a conflict.
+	 */
+	private static final double ACTIVITY_DECAY = 0.95;
+
+	/**
+	 * activity above which every activity is scaled down, to stay within range
+	 * of a double.
+	 */
+	private static final double ACTIVITY_LIMIT = 1e100;
+
+	/**
+	 * smallest number of learned clauses kept before the worst are thrown away.
+	 */
+	private static final int MIN_LEARNED_LIMIT = 2000;
+
+	/**
+	 * factor the number of learned clauses kept grows by after every reduction.
+	 */
+	private static final double LEARNED_LIMIT_GROWTH = 1.1;
+
+	/**
+	 * learned clauses with at most this many decision levels are always kept.
+	 */
+	private static final int GLUE_LEVELS = 2;
+
+	/**
+	 * bit position of the level count in the keys learned clauses are sorted by
+	 * when reducing them.
+	 */
+	private static final int SORT_LEVEL_SHIFT = 48;
+
+	/**
+	 * bit position of the clause length in the sort keys.
+	 */
+	private static final int SORT_LENGTH_SHIFT = 24;
+
+	/**
+	 * mask of the position in learned in the sort keys.
+	 */
+	private static final long SORT_POSITION_MASK = (1L << SORT_LENGTH_SHIFT) - 1;
+
+	/**
+	 * initial capacity of a watch list.
+	 */
+	private static final int INITIAL_WATCHES = 4;
+
+	/**
+	 * number of variables.
+	 */
+	private final int variables;
+
+	/**
+	 * clauses of the formula, original and learned, by clause id; null for
+	 * learned clauses that were thrown away. The first two literals of each
+	 * clause are the watched ones, and the first literal of a clause that is the
+	 * reason of an assignment is the literal it implied.
+	 */
+	private final List<int[]> clauses = new ArrayList<int[]>();
+
+	/**
+	 * ids of the clauses watching each literal, to be visited when the literal
+	 * becomes false.
+	 */
+	private final int watches[][];
+
+	/**
+	 * number of clause ids in each watch list.
+	 */
+	private final int watchCounts[];
+
+	/**
+	 * ids of the learned clauses still in the formula.
+	 */
+	private int learned[] = new int[64];
+
+	/**
+	 * number of learned clause ids.
+	 */
+	private int learnedCount = 0;
+
+	/**
+	 * number of decision levels of each learned clause when it was learned, by
+	 * clause id (0 for original clauses).
+	 */
+	private int levelCounts[] = new int[64];
+
+	/**
+	 * number of learned clauses kept before the worst are thrown away.
+	 */
+	private double learnedLimit;
+
+	/**
+	 * value of each variable.
+	 */
+	private final byte values[];
+
+	/**
+	 * decision level each variable was assigned at.
+	 */
+	private final int levels[];
+
+	/**
+	 * clause that implied each variable's value, or UNDEFINED for decisions.
+	 */
+	private final int reasons[];
+
+	/**
+	 * value each variable had when it was last unassigned (phase saving).
+	 */
+	private final boolean phases[];
+
+	/**
+	 * VSIDS activity of each variable.
+	 */
+	private final double activity[];
+
+	/**
+	 * amount the activity of a variable taking part in a conflict is bumped by.
+	 */
+	private double activityIncrement = 1;
+
+	/**
+	 * binary max heap of variables by activity, holding at least every
+	 * unassigned variable.
+	 */
+	private final int heap[];
+
+	/**
+	 * number of variables in the heap.
+	 */
+	private int heapSize = 0;
+
+	/**
+	 * position of each variable in the heap, or UNDEFINED.
+	 */
+	private final int heapPositions[];
+
+	/**
+	 * literals assigned true, in the order they were assigned.
+	 */
+	private final int trail[];
+
+	/**
+	 * number of literals on the trail.
+	 */
+	private int trailSize = 0;
+
+	/**
+	 * number of literals on the trail whose watches have been visited.
+	 */
+	private int propagated = 0;
+
+	/**
+	 * trail size at the start of each decision level.
+	 */
+	private final int trailLimits[];
+
+	/**
+	 * current decision level.
+	 */
+	private int decisionLevel = 0;
+
+	/**
+	 * literals of the clause being learned.
+	 */
+	private final int learnedLiterals[];
+
+	/**
+	 * literals of the clause being learned before redundant ones are dropped.
+	 */
+	private final int analyzed[];
+
+	/**
+	 * variables marked during conflict analysis.
+	 */
+	private final boolean seen[];
+
+	/**
+	 * last analysis each decision level was counted in, to count the levels of a
+	 * learned clause.
+	 */
+	private final int levelStamps[];
+
+	/**
+	 * number of the current analysis, for levelStamps.
+	 */
+	private int stamp = 0;
+
+	/**
+	 * whether the formula is known to be unsatisfiable before searching.
+	 */
+	private boolean inconsistent = false;
+
+	/**
+	 * number of conflicts found.
+	 */
+	private long conflicts = 0;
+
+	/**
+	 * number of decisions made.
+	 */
+	private long decisions = 0;
+
+	/**
+	 * number of clauses learned.
+	 */
+	private long learnedClauses = 0;
+
+	/**
+	 * number of restarts.
+	 */
+	private long restarts = 0;
+
+	/**
+	 * statistics recorded by the search, or null.
+	 */
+	private SolverStats stats;
+
+	/**
+	 * construct a solver for a formula over the given number of variables, with
+	 * no clauses yet.
+	 *
+	 * @param variables
+	 *            number of variables, numbered 1 - variables
+	 */
+	CdclSolver(int variables) {
+		this.variables = variables;
+		int literals = 2 * variables;
+		watches = new int[literals][];
+		watchCounts = new int[literals];
+		values = new byte[variables];
+		levels = new int[variables];
+		reasons = new int[variables];
+		Arrays.fill(reasons, UNDEFINED);
+		phases = new boolean[variables];
+		activity = new double[variables];
+		heap = new int[variables];
+		heapPositions = new int[variables];
+		Arrays.fill(heapPositions, UNDEFINED);
+		trail = new int[variables];
+		trailLimits = new int[variables + 1];
+		learnedLiterals = new int[variables];
+		analyzed = new int[variables];
+		seen = new boolean[variables];
+		levelStamps = new int[variables + 1];
+	}
+
+	/**
+	 * method to add a clause to the formula. Must be called before solve().
+	 *
+	 * @param literals
+	 *            literals of the clause, v or -v for variable v
+	 * @throws IllegalArgumentException
+	 *             if a literal names no variable
+	 */
+	void addClause(int... literals) {
+		int clause[] = new int[literals.length];
+		int size = 0;
+		for (int literal : literals) {
+			if (literal == 0 || Math.abs(literal) > variables) {
+				throw new IllegalArgumentException("No such variable: " + literal);
+			}
+			int lit = (literal > 0) ? 2 * (literal - 1) : 2 * (-literal - 1) + 1;
+			boolean duplicate = false;
+			for (int k = 0; k < size; k++) {
+				if (clause[k] == (lit ^ 1)) {
+					/* a clause holding a literal and its negation is always true */
+					return;
+				}
+				duplicate = duplicate || clause[k] == lit;
+			}
+			if (!duplicate) {
+				clause[size++] = lit;
+			}
+		}
+		if (size == 0) {
+			inconsistent = true;
+		} else if (size == 1) {
+			int value = valueOf(clause[0]);
+			if (value == FALSE) {
+				inconsistent = true;
+			} else if (value == UNASSIGNED) {
+				assign(clause[0], UNDEFINED);
+			}
+		} else {
+			attach(Arrays.copyOf(clause, size), 0);
+		}
+	}
+
+	/**
+	 * method to search for an assignment satisfying every clause.
+	 *
+	 * @param budget
+	 *            budget of the search, or null; every decision counts as a guess
+	 * @return SOLVED with the assignment available from getValue(), NO_SOLUTION,
+	 *         CANCELLED or BUDGET_EXHAUSTED
+	 */
+	SearchResult solve(SearchBudget budget) {
+		if (inconsistent) {
+			return SearchResult.NO_SOLUTION;
+		}
+		for (int x = 0; x < variables; x++) {
+			heapInsert(x);
+		}
+		learnedLimit = Math.max(MIN_LEARNED_LIMIT, clauses.size() / 3);
+		long restartLimit = RESTART_INTERVAL;
+		long conflictsSinceRestart = 0;
+		while (true) {
+			int conflict = propagate();
+			if (conflict != UNDEFINED) {
+				conflicts++;
+				conflictsSinceRestart++;
+				if (stats != null) {
+					stats.conflicted();
+				}
+				if (decisionLevel == 0) {
+					return SearchResult.NO_SOLUTION;
+				}
+				learn(conflict);
+				activityIncrement /= ACTIVITY_DECAY;
+			} else if (conflictsSinceRestart >= restartLimit) {
+				restarts++;
+				if (stats != null) {
+					stats.restarted();
+				}
+				backtrack(0);
+				restartLimit = (long) luby(restarts) * RESTART_INTERVAL;
+				conflictsSinceRestart = 0;
+			} else {
+				if (learnedCount >= learnedLimit + trailSize) {
+					reduceLearned();
+				}
+				int x = nextVariable();
+				if (x == UNDEFINED) {
+					return SearchResult.SOLVED;
+				}
+				if (budget != null && !budget.guess(decisionLevel + 1)) {
+					return budget.getStopResult();
+				}
+				decisions++;
+				trailLimits[decisionLevel++] = trailSize;
+				if (stats != null) {
+					stats.guessed(decisionLevel);
+				}
+				assign(phases[x] ? 2 * x : 2 * x + 1, UNDEFINED);
+			}
+		}
+	}
+
+	/**
+	 * getter to return the value of a variable in the assignment found by
+	 * solve().
+	 *
+	 * @param variable
+	 *            variable from 1 - variables
+	 * @return true or false
+	 */
+	boolean getValue(int variable) {
+		return values[variable - 1] == TRUE;
+	}
+
+	/**
+	 * getter to return the number of variables.
+	 *
+	 * @return variable count
+	 */
+	int getVariableCount() {
+		return variables;
+	}
+
+	/**
+	 * getter to return the number of conflicts found.
+	 *
+	 * @return conflict count
+	 */
+	long getConflictCount() {
+		return conflicts;
+	}
+
+	/**
+	 * getter to return the number of decisions made.
+	 *
+	 * @return decision count
+	 */
+	long getDecisionCount() {
+		return decisions;
+	}
+
+	/**
+	 * getter to return the number of clauses learned, including those thrown
+	 * away since.
+	 *
+	 * @return learned clause count
+	 */
+	long getLearnedClauseCount() {
+		return learnedClauses;
+	}
+
+	/**
+	 * getter to return the number of restarts.
+	 *
+	 * @return restart count
+	 */
+	long getRestartCount() {
+		return restarts;
+	}
+
+	/**
+	 * setter to record statistics during solve().
+	 *
+	 * @param stats
+	 *            statistics to add to, or null
+	 */
+	void setStats(SolverStats stats) {
+		this.stats = stats;
+	}
+
+	/**
+	 * method to return the value of a literal.
+	 */
+	private int valueOf(int lit) {
+		int value = values[lit >> 1];
+		return ((lit & 1) == 0) ? value : -value;
+	}
+
+	/**
+	 * method to make a literal true at the current decision level.
+	 */
+	private void assign(int lit, int reason) {
+		int x = lit >> 1;
+		values[x] = ((lit & 1) == 0) ? TRUE : FALSE;
+		levels[x] = decisionLevel;
+		reasons[x] = reason;
+		trail[trailSize++] = lit;
+	}
+
+	/**
+	 * method to add a clause of two or more literals to the formula, watching its
+	 * first two.
+	 *
+	 * @return clause id
+	 */
+	private int attach(int clause[], int levelCount) {
+		int id = clauses.size();
+		clauses.add(clause);
+		if (id == levelCounts.length) {
+			levelCounts = Arrays.copyOf(levelCounts, 2 * id);
+		}
+		levelCounts[id] = levelCount;
+		watch(clause[0], id);
+		watch(clause[1], id);
+		return id;
+	}
+
+	/**
+	 * method to add a clause id to the watch list of a literal.
+	 */
+	private void watch(int lit, int id) {
+		int list[] = watches[lit];
+		if (list == null) {
+			list = new int[INITIAL_WATCHES];
+			watches[lit] = list;
+		} else if (watchCounts[lit] == list.length) {
+			list = Arrays.copyOf(list, 2 * list.length);
+			watches[lit] = list;
+		}
+		list[watchCounts[lit]++] = id;
+	}
+
+	/**
+	 * unit propagation: visit the clauses watching every literal made false since
+	 * the last call, moving each watch to another literal that is not false, or
+	 * assigning the clause's other watched literal when there is none.
+	 *
+	 * @return id of a clause with every literal false, or UNDEFINED
+	 */
+	private int propagate() {
+		while (propagated < trailSize) {
+			int falseLit = trail[propagated++] ^ 1;
+			int list[] = watches[falseLit];
+			int count = watchCounts[falseLit];
+			int kept = 0;
+			for (int w = 0; w < count; w++) {
+				int id = list[w];
+				int clause[] = clauses.get(id);
+				if (clause == null) {
+					/* thrown away: drop the watch */
+					continue;
+				}
+				if (clause[0] == falseLit) {
+					clause[0] = clause[1];
+					clause[1] = falseLit;
+				}
+				if (valueOf(clause[0]) == TRUE) {
+					list[kept++] = id;
+					continue;
+				}
+				boolean moved = false;
+				for (int k = 2; k < clause.length; k++) {
+					if (valueOf(clause[k]) != FALSE) {
+						clause[1] = clause[k];
+						clause[k] = falseLit;
+						watch(clause[1], id);
+						moved = true;
+						break;
+					}
+				}
+				if (moved) {
+					continue;
+				}
+				list[kept++] = id;
+				if (valueOf(clause[0]) == FALSE) {
+					/* conflict: keep the remaining watches and stop */
+					while (++w < count) {
+						list[kept++] = list[w];
+					}
+					watchCounts[falseLit] = kept;
+					propagated = trailSize;
+					return id;
+				}
+				assign(clause[0], id);
+			}
+			watchCounts[falseLit] = kept;
+		}
+		return UNDEFINED;
+	}
+
+	/**
+	 * method to analyse a conflict back to its first unique implication point,
+	 * learn the resulting clause, jump back to the level at which it becomes unit
+	 * and assign its asserting literal.
+	 */
+	private void learn(int conflict) {
+		int size = 1;
+		int pathCount = 0;
+		int lit = UNDEFINED;
+		int index = trailSize - 1;
+		int id = conflict;
+		do {
+			int clause[] = clauses.get(id);
+			for (int k = (lit == UNDEFINED) ? 0 : 1; k < clause.length; k++) {
+				int x = clause[k] >> 1;
+				if (!seen[x] && levels[x] > 0) {
+					bump(x);
+					seen[x] = true;
+					if (levels[x] >= decisionLevel) {
+						pathCount++;
+					} else {
+						learnedLiterals[size++] = clause[k];
+					}
+				}
+			}
+			/* the next literal on the trail taking part in the conflict */
+			while (!seen[trail[index] >> 1]) {
+				index--;
+			}
+			lit = trail[index--];
+			id = reasons[lit >> 1];
+			seen[lit >> 1] = false;
+			pathCount--;
+		} while (pathCount > 0);
+		learnedLiterals[0] = lit ^ 1;
+
+		/* drop literals implied by the rest of the clause */
+		System.arraycopy(learnedLiterals, 1, analyzed, 1, size - 1);
+		int kept = 1;
+		for (int k = 1; k < size; k++) {
+			if (!isRedundant(analyzed[k])) {
+				learnedLiterals[kept++] = analyzed[k];
+			}
+		}
+		for (int k = 1; k < size; k++) {
+			seen[analyzed[k] >> 1] = false;
+		}
+		size = kept;
+
+		int level = 0;
+		if (size > 1) {
+			/* watch the literal of the highest level besides the asserting one */
+			int highest = 1;
+			for (int k = 2; k < size; k++) {
+				if (levels[learnedLiterals[k] >> 1] > levels[learnedLiterals[highest] >> 1]) {
+					highest = k;
+				}
+			}
+			int swap = learnedLiterals[1];
+			learnedLiterals[1] = learnedLiterals[highest];
+			learnedLiterals[highest] = swap;
+			level = levels[learnedLiterals[1] >> 1];
+		}
+		backtrack(level);
+		learnedClauses++;
+		if (stats != null) {
+			stats.learned();
+		}
+		if (size == 1) {
+			assign(learnedLiterals[0], UNDEFINED);
+			return;
+		}
+		int clause[] = Arrays.copyOf(learnedLiterals, size);
+		int learnedId = attach(clause, countLevels(clause));
+		if (learnedCount == learned.length) {
+			learned = Arrays.copyOf(learned, 2 * learnedCount);
+		}
+		learned[learnedCount++] = learnedId;
+		assign(clause[0], learnedId);
+	}
+
+	/**
+	 * method to determine whether a literal of a learned clause is implied by the
+	 * other literals marked seen: it was implied by a clause whose other literals
+	 * are all marked, or assigned at level 0.
+	 */
+	private boolean isRedundant(int lit) {
+		int reason = reasons[lit >> 1];
+		if (reason == UNDEFINED) {
+			return false;
+		}
+		int clause[] = clauses.get(reason);
+		for (int k = 1; k < clause.length; k++) {
+			int x = clause[k] >> 1;
+			if (!seen[x] && levels[x] > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * method to count the distinct decision levels of a clause's literals.
+	 */
+	private int countLevels(int clause[]) {
+		stamp++;
+		int count = 0;
+		for (int lit : clause) {
+			int level = levels[lit >> 1];
+			if (levelStamps[level] != stamp) {
+				levelStamps[level] = stamp;
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * method to undo every assignment above a decision level, saving the values
+	 * for the next decisions on those variables.
+	 */
+	private void backtrack(int level) {
+		if (decisionLevel <= level) {
+			return;
+		}
+		for (int t = trailSize - 1; t >= trailLimits[level]; t--) {
+			int x = trail[t] >> 1;
+			phases[x] = values[x] == TRUE;
+			values[x] = UNASSIGNED;
+			reasons[x] = UNDEFINED;
+			heapInsert(x);
+		}
+		trailSize = trailLimits[level];
+		propagated = trailSize;
+		decisionLevel = level;
+	}
+
+	/**
+	 * method to throw away the half of the learned clauses with the most decision
+	 * levels, keeping clauses that are the reason of an assignment and those with
+	 * at most GLUE_LEVELS levels.
+	 */
+	private void reduceLearned() {
+		/* order by level count, then length, packed with the position */
+		long keys[] = new long[learnedCount];
+		for (int k = 0; k < learnedCount; k++) {
+			int id = learned[k];
+			keys[k] = ((long) levelCounts[id] << SORT_LEVEL_SHIFT) | ((long) clauses.get(id).length << SORT_LENGTH_SHIFT)
+					| k;
+		}
+		Arrays.sort(keys);
+		int target = learnedCount / 2;
+		int removed = 0;
+		for (int k = learnedCount - 1; k >= 0 && removed < target; k--) {
+			int id = learned[(int) (keys[k] & SORT_POSITION_MASK)];
+			if (levelCounts[id] > GLUE_LEVELS && !isLocked(id)) {
+				clauses.set(id, null);
+				removed++;
+			}
+		}
+		int kept = 0;
+		for (int k = 0; k < learnedCount; k++) {
+			if (clauses.get(learned[k]) != null) {
+				learned[kept++] = learned[k];
+			}
+		}
+		learnedCount = kept;
+		learnedLimit *= LEARNED_LIMIT_GROWTH;
+	}
+
+	/**
+	 * method to determine whether a clause is the reason of an assignment.
+	 */
+	private boolean isLocked(int id) {
+		int x = clauses.get(id)[0] >> 1;
+		return values[x] != UNASSIGNED && reasons[x] == id;
+	}
+
+	/**
+	 * method to return the unassigned variable with the highest activity.
+	 *
+	 * @return variable index, or UNDEFINED if every variable is assigned
+	 */
+	private int nextVariable() {
+		while (heapSize > 0) {
+			int x = heapRemoveMax();
+			if (values[x] == UNASSIGNED) {
+				return x;
+			}
+		}
+		return UNDEFINED;
+	}
+
+	/**
+	 * method to bump the activity of a variable taking part in a conflict.
+	 */
+	private void bump(int x) {
+		activity[x] += activityIncrement;
+		if (activity[x] > ACTIVITY_LIMIT) {
+			for (int y = 0; y < variables; y++) {
+				activity[y] /= ACTIVITY_LIMIT;
+			}
+			activityIncrement /= ACTIVITY_LIMIT;
+		}
+		if (heapPositions[x] != UNDEFINED) {
+			heapUp(heapPositions[x]);
+		}
+	}
+
+	/**
+	 * method to add a variable to the heap, unless it is there already.
+	 */
+	private void heapInsert(int x) {
+		if (heapPositions[x] != UNDEFINED) {
+			return;
+		}
+		heap[heapSize] = x;
+		heapPositions[x] = heapSize;
+		heapUp(heapSize++);
+	}
+
+	/**
+	 * method to remove the variable with the highest activity from the heap.
+	 */
+	private int heapRemoveMax() {
+		int x = heap[0];
+		heapPositions[x] = UNDEFINED;
+		heapSize--;
+		if (heapSize > 0) {
+			heap[0] = heap[heapSize];
+			heapPositions[heap[0]] = 0;
+			heapDown(0);
+		}
+		return x;
+	}
+
+	/**
+	 * method to move the variable at a heap position up to its place.
+	 */
+	private void heapUp(int position) {
+		int x = heap[position];
+		while (position > 0) {
+			int parent = (position - 1) >> 1;
+			if (activity[heap[parent]] >= activity[x]) {
+				break;
+			}
+			heap[position] = heap[parent];
+			heapPositions[heap[position]] = position;
+			position = parent;
+		}
+		heap[position] = x;
+		heapPositions[x] = position;
+	}
+
+	/**
+	 * method to move the variable at a heap position down to its place.
+	 */
+	private void heapDown(int position) {
+		int x = heap[position];
+		while (true) {
+			int child = 2 * position + 1;
+			if (child >= heapSize) {
+				break;
+			}
+			if (child + 1 < heapSize && activity[heap[child + 1]] > activity[heap[child]]) {
+				child++;
+			}
+			if (activity[heap[child]] <= activity[x]) {
+				break;
+			}
+			heap[position] = heap[child];
+			heapPositions[heap[position]] = position;
+			position = child;
+		}
+		heap[position] = x;
+		heapPositions[x] = position;
+	}
+
+	/**
+	 * method to return term i (from 0) of the Luby sequence 1, 1, 2, 1, 1, 2, 4,
+	 * 1, ..., which spaces restarts out ever further while still restarting
+	 * often.
+	 */
+	static int luby(long i) {
+		long size = 1;
+		int exponent = 0;
+		while (size < i + 1) {
+			exponent++;
+			size = 2 * size + 1;
+		}
+		while (size - 1 != i) {
+			size = (size - 1) >> 1;
+			exponent--;
+			i = i % size;
+		}
+		return 1 << exponent;
+	}
+
+}
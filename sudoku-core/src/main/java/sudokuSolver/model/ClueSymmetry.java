@@ -0,0 +1,77 @@
+package sudokuSolver.model;
+
+/**
+ * Enumeration of the symmetric clue patterns the Generator can enforce. Under a
+ * symmetry, the tiles fall into orbits (a tile and its images) and a puzzle
+ * either gives every tile of an orbit or none of them.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public enum ClueSymmetry {
+
+	/**
+	 * no symmetry: every tile is its own orbit.
+	 */
+	NONE,
+
+	/**
+	 * symmetric under a half turn about the centre.
+	 */
+	ROTATIONAL,
+
+	/**
+	 * symmetric under a quarter turn about the centre.
+	 */
+	QUARTER_TURN,
+
+	/**
+	 * symmetric about the main diagonal.
+	 */
+	DIAGONAL,
+
+	/**
+	 * symmetric about the centre column.
+	 */
+	MIRROR;
+
+	/**
+	 * The sudoku board dimensions (9x9 grid).
+	 */
+	private static final int BOARD_DIMENSIONS = 9;
+
+	/**
+	 * method to return the tile indices (i * 9 + j) of the orbit of a tile,
+	 * starting with the tile itself. Repeats are possible for tiles on an axis or
+	 * at the centre.
+	 *
+	 * @param i
+	 *            i location
+	 * @param j
+	 *            j location
+	 * @return tile indices of the orbit
+	 */
+	public int[] orbit(int i, int j) {
+		int last = BOARD_DIMENSIONS - 1;
+		switch (this) {
+		case ROTATIONAL:
+			return new int[] { index(i, j), index(last - i, last - j) };
+		case QUARTER_TURN:
+			return new int[] { index(i, j), index(j, last - i), index(last - i, last - j), index(last - j, i) };
+		case DIAGONAL:
+			return new int[] { index(i, j), index(j, i) };
+		case MIRROR:
+			return new int[] { index(i, j), index(i, last - j) };
+		default:
+			return new int[] { index(i, j) };
+		}
+	}
+
+	/**
+	 * method to return the index of a tile.
+	 */
+	private static int index(int i, int j) {
+		return i * BOARD_DIMENSIONS + j;
+	}
+
+}
@@ -0,0 +1,314 @@
+package sudokuSolver.model;
+
+import java.util.Arrays;
+
+/**
+ * CompactBoard class holding the state of a sudoku board in a few flat
+ * primitive arrays instead of Tile objects and maps: the value and the bitmask
+ * of possibilities of each cell, the mask of used values of each unit, and how
+ * many times each value is used in each unit. Everything that depends only on
+ * the size of the board (which cells make up each unit, the peers of each
+ * cell) lives in a shared BoardLayout, so a 9x9 board takes well under a
+ * kilobyte and copying one is a handful of array copies.
+ *
+ * Board is a view over a CompactBoard, and its Tiles are views over single
+ * cells, so changes made through either are seen by both.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public final class CompactBoard {
+
+	/**
+	 * tile has no value.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * the shared tables of this board's size.
+	 */
+	private final BoardLayout layout;
+
+	/**
+	 * number of rows, columns, local groups and values.
+	 */
+	private final int dimensions;
+
+	/**
+	 * value of each cell, or MISSING_VALUE.
+	 */
+	final short values[];
+
+	/**
+	 * bitmask of possibilities of each cell (see CandidateMask).
+	 */
+	final int possibilities[];
+
+	/**
+	 * bitmask of the values used in each unit, indexed like the units of the
+	 * layout.
+	 */
+	private final int unitValues[];
+
+	/**
+	 * number of times each value (index unit * dimensions + value - 1) is used in
+	 * each unit. A value's bit is only cleared from unitValues once its count
+	 * drops back to zero, so duplicates entered by the user stay tracked.
+	 */
+	private final byte unitCounts[];
+
+	/**
+	 * number of duplicate values currently on the board across all units.
+	 */
+	private int conflicts = 0;
+
+	/**
+	 * number of cells without a value.
+	 */
+	private int emptyCount;
+
+	/**
+	 * construct a new empty board.
+	 *
+	 * @param boxSize
+	 *            number of columns per local group, from 1 - Board.MAX_BOX_SIZE
+	 * @throws IllegalArgumentException
+	 *             if boxSize is out of range
+	 */
+	public CompactBoard(int boxSize) {
+		this.layout = BoardLayout.of(boxSize);
+		this.dimensions = layout.getDimensions();
+		int cells = layout.getCellCount();
+		this.values = new short[cells];
+		Arrays.fill(values, (short) MISSING_VALUE);
+		this.possibilities = new int[cells];
+		this.unitValues = new int[layout.getUnitCount()];
+		this.unitCounts = new byte[layout.getUnitCount() * dimensions];
+		this.emptyCount = cells;
+	}
+
+	/**
+	 * construct a copy of another board.
+	 */
+	private CompactBoard(CompactBoard other) {
+		this.layout = other.layout;
+		this.dimensions = other.dimensions;
+		this.values = other.values.clone();
+		this.possibilities = other.possibilities.clone();
+		this.unitValues = other.unitValues.clone();
+		this.unitCounts = other.unitCounts.clone();
+		this.conflicts = other.conflicts;
+		this.emptyCount = other.emptyCount;
+	}
+
+	/**
+	 * method to return an independent copy of the board, values and
+	 * possibilities included.
+	 *
+	 * @return new board
+	 */
+	public CompactBoard copy() {
+		return new CompactBoard(this);
+	}
+
+	/**
+	 * getter to return the shared tables of the board's size.
+	 *
+	 * @return layout
+	 */
+	public BoardLayout getLayout() {
+		return layout;
+	}
+
+	/**
+	 * getter to return the number of columns per local group.
+	 *
+	 * @return box size
+	 */
+	public int getBoxSize() {
+		return layout.getBoxSize();
+	}
+
+	/**
+	 * getter to return the number of rows, columns, local groups and values.
+	 *
+	 * @return dimensions
+	 */
+	public int getDimensions() {
+		return dimensions;
+	}
+
+	/**
+	 * getter to return the value of a cell.
+	 *
+	 * @param cell
+	 * @return value, or MISSING_VALUE (-1)
+	 */
+	public int getValue(int cell) {
+		return values[cell];
+	}
+
+	/**
+	 * set the value of a cell, keeping the masks of used values and the number
+	 * of empty cells up to date. Passing MISSING_VALUE (-1) clears the cell.
+	 *
+	 * @param cell
+	 * @param value
+	 *            value from 1 - dimensions, or MISSING_VALUE
+	 * @return true if the value does not collide with any peer
+	 * @throws IllegalArgumentException
+	 *             if value is outside of 1 - dimensions and not MISSING_VALUE
+	 */
+	public boolean setValue(int cell, int value) {
+		if (value != MISSING_VALUE && (value < 1 || value > dimensions)) {
+			throw new IllegalArgumentException("Tile value must be from 1-" + dimensions + ": " + value);
+		}
+		int oldValue = values[cell];
+		if (oldValue != MISSING_VALUE) {
+			release(cell, oldValue);
+		}
+		values[cell] = (short) value;
+		if (value == MISSING_VALUE) {
+			return true;
+		}
+		return occupy(cell, value);
+	}
+
+	/**
+	 * mark a value as used in the row, column and local group of a cell.
+	 *
+	 * @return true if the value was not already used in any of them
+	 */
+	private boolean occupy(int cell, int value) {
+		int bit = CandidateMask.of(value);
+		int before = conflicts;
+		emptyCount--;
+		occupyUnit(layout.getRowUnit(layout.getRow(cell)), value, bit);
+		occupyUnit(layout.getColUnit(layout.getCol(cell)), value, bit);
+		occupyUnit(layout.getLocalGroupUnit(layout.getLocalGroup(cell)), value, bit);
+		return conflicts == before;
+	}
+
+	/**
+	 * mark a value as used in one unit.
+	 */
+	private void occupyUnit(int unit, int value, int bit) {
+		if (unitCounts[unit * dimensions + value - 1]++ > 0)
+			conflicts++;
+		unitValues[unit] |= bit;
+	}
+
+	/**
+	 * unmark a value as used in the row, column and local group of a cell.
+	 */
+	private void release(int cell, int value) {
+		int bit = CandidateMask.of(value);
+		emptyCount++;
+		releaseUnit(layout.getRowUnit(layout.getRow(cell)), value, bit);
+		releaseUnit(layout.getColUnit(layout.getCol(cell)), value, bit);
+		releaseUnit(layout.getLocalGroupUnit(layout.getLocalGroup(cell)), value, bit);
+	}
+
+	/**
+	 * unmark a value as used in one unit.
+	 */
+	private void releaseUnit(int unit, int value, int bit) {
+		if (--unitCounts[unit * dimensions + value - 1] > 0)
+			conflicts--;
+		else
+			unitValues[unit] &= ~bit;
+	}
+
+	/**
+	 * getter to return the possibilities of a cell.
+	 *
+	 * @param cell
+	 * @return bitmask of possibilities
+	 */
+	public int getPossibilities(int cell) {
+		return possibilities[cell];
+	}
+
+	/**
+	 * set the possibilities of a cell.
+	 *
+	 * @param cell
+	 * @param mask
+	 *            bitmask of possibilities
+	 */
+	public void setPossibilities(int cell, int mask) {
+		possibilities[cell] = mask;
+	}
+
+	/**
+	 * method to remove a value from the possibilities of every empty peer of a
+	 * cell, after the value has been set on the cell.
+	 *
+	 * @param cell
+	 * @param value
+	 * @return number of peers that lost the possibility
+	 */
+	public int eliminateFromPeers(int cell, int value) {
+		int bit = CandidateMask.of(value);
+		int count = 0;
+		for (int p : layout.getPeers(cell)) {
+			if (values[p] == MISSING_VALUE && (possibilities[p] & bit) != 0) {
+				possibilities[p] &= ~bit;
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * getter to return the mask of values used by the row, column and local group
+	 * of a cell.
+	 *
+	 * @param cell
+	 * @return bitmask of used values
+	 */
+	public int getUsedValues(int cell) {
+		return unitValues[layout.getRow(cell)] | unitValues[dimensions + layout.getCol(cell)]
+				| unitValues[2 * dimensions + layout.getLocalGroup(cell)];
+	}
+
+	/**
+	 * getter to return the mask of values used in a unit.
+	 *
+	 * @param unit
+	 *            unit index (see BoardLayout)
+	 * @return bitmask of used values
+	 */
+	public int getUnitValues(int unit) {
+		return unitValues[unit];
+	}
+
+	/**
+	 * method to determine whether the board is free of duplicate values in every
+	 * unit.
+	 *
+	 * @return true or false
+	 */
+	public boolean isConsistent() {
+		return conflicts == 0;
+	}
+
+	/**
+	 * getter to return the number of cells without a value.
+	 *
+	 * @return number of empty cells
+	 */
+	public int getEmptyCount() {
+		return emptyCount;
+	}
+
+	/**
+	 * method to determine whether every cell has a value.
+	 *
+	 * @return true or false
+	 */
+	public boolean isSolved() {
+		return emptyCount == 0;
+	}
+
+}
@@ -0,0 +1,443 @@
+package sudokuSolver.model;
+
+/**
+ * DancingLinks class which solves a sudoku board as an exact cover problem using
+ * Knuth's Algorithm X on a dancing links matrix.
+ *
+ * Each matrix row is one candidate placement (tile i, j holds value v) and each
+ * matrix column is one constraint that must be satisfied exactly once:
+ * <ul>
+ * <li>every tile holds a value</li>
+ * <li>every row holds each value</li>
+ * <li>every column holds each value</li>
+ * <li>every local group holds each value</li>
+ * </ul>
+ * The matrix is built once when the object is created, for one board size.
+ * Solving covers the rows of the board's given values, searches, and then
+ * uncovers everything again, so one instance can be reused for any number of
+ * boards of that size (but not by more than one thread at a time).
+ *
+ * When a SolverStats is set, the guesses, backtracks and depth of every search
+ * are recorded. Placements forced by a constraint with a single row left are
+ * not counted as guesses, and the solver applies no human techniques. The
+ * same guesses are counted against the SearchBudget of a search, if it has one.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class DancingLinks {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * search depth returned when the budget stopped the search.
+	 */
+	private static final int STOPPED = -2;
+
+	/**
+	 * number of constraint types (tile, row, column, local group).
+	 */
+	private static final int CONSTRAINT_TYPES = 4;
+
+	/**
+	 * Message dialogue which will appear if there is no valid solution found.
+	 */
+	private static final String NO_SOLUTION_WARNING = "No valid solution found!";
+
+	/**
+	 * index of the root header node.
+	 */
+	private static final int ROOT = 0;
+
+	/**
+	 * number of columns per local group of the boards the matrix is built for.
+	 */
+	private final int boxSize;
+
+	/**
+	 * dimensions of the boards the matrix is built for.
+	 */
+	private final int dimensions;
+
+	/**
+	 * number of constraint columns in the matrix.
+	 */
+	private final int columns;
+
+	/**
+	 * link to the node on the left of each node.
+	 */
+	private final int left[];
+
+	/**
+	 * link to the node on the right of each node.
+	 */
+	private final int right[];
+
+	/**
+	 * link to the node above each node.
+	 */
+	private final int up[];
+
+	/**
+	 * link to the node below each node.
+	 */
+	private final int down[];
+
+	/**
+	 * column header of each node.
+	 */
+	private final int column[];
+
+	/**
+	 * candidate placement (tile * dimensions + value - 1) of each node.
+	 */
+	private final int candidate[];
+
+	/**
+	 * number of nodes still linked into each column.
+	 */
+	private final int size[];
+
+	/**
+	 * first node of each candidate placement's matrix row.
+	 */
+	private final int rowStart[];
+
+	/**
+	 * nodes of the rows chosen during the search, by search depth.
+	 */
+	private final int chosen[];
+
+	/**
+	 * statistics recorded by every search, or null.
+	 */
+	private SolverStats stats;
+
+	/**
+	 * budget of the running search, or null.
+	 */
+	private SearchBudget budget;
+
+	/**
+	 * construct the dancing links matrix for a 9x9 board.
+	 */
+	public DancingLinks() {
+		this(Board.DEFAULT_BOX_SIZE);
+	}
+
+	/**
+	 * construct the dancing links matrix for boards of another size.
+	 *
+	 * @param boxSize
+	 *            number of columns per local group, e.g. 4 for a 16x16 board
+	 */
+	public DancingLinks(int boxSize) {
+		this.boxSize = boxSize;
+		this.dimensions = boxSize * boxSize;
+		int tiles = dimensions * dimensions;
+		int candidates = tiles * dimensions;
+		columns = tiles * CONSTRAINT_TYPES;
+		int nodes = columns + 1 + candidates * CONSTRAINT_TYPES;
+
+		left = new int[nodes];
+		right = new int[nodes];
+		up = new int[nodes];
+		down = new int[nodes];
+		column = new int[nodes];
+		candidate = new int[nodes];
+		size = new int[columns + 1];
+		rowStart = new int[candidates];
+		chosen = new int[tiles];
+
+		/* link the root and column headers into one circular list */
+		for (int c = 0; c <= columns; c++) {
+			left[c] = (c == 0) ? columns : c - 1;
+			right[c] = (c == columns) ? 0 : c + 1;
+			up[c] = c;
+			down[c] = c;
+			column[c] = c;
+		}
+
+		/* add one matrix row for every tile and value */
+		int node = columns + 1;
+		for (int i = 0; i < dimensions; i++) {
+			for (int j = 0; j < dimensions; j++) {
+				int localGroup = ((i / boxSize) * boxSize) + (j / boxSize);
+				for (int v = 0; v < dimensions; v++) {
+					int cand = (i * dimensions + j) * dimensions + v;
+					int[] constraints = { 1 + i * dimensions + j,
+							1 + tiles + i * dimensions + v,
+							1 + 2 * tiles + j * dimensions + v,
+							1 + 3 * tiles + localGroup * dimensions + v };
+					rowStart[cand] = node;
+					for (int k = 0; k < CONSTRAINT_TYPES; k++) {
+						int c = constraints[k];
+						/* append to the bottom of column c */
+						column[node] = c;
+						candidate[node] = cand;
+						up[node] = up[c];
+						down[node] = c;
+						down[up[c]] = node;
+						up[c] = node;
+						size[c]++;
+						/* link into the row */
+						left[node] = (k == 0) ? node + CONSTRAINT_TYPES - 1 : node - 1;
+						right[node] = (k == CONSTRAINT_TYPES - 1) ? node - CONSTRAINT_TYPES + 1 : node + 1;
+						node++;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * method to solve a board. The empty tiles of the board are filled in with the
+	 * solution; the board is left untouched if there is no solution.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @return the solved board
+	 * @throws SolverException
+	 *             if the given values collide or the board has no solution
+	 * @throws IllegalArgumentException
+	 *             if the board is not the size the matrix was built for
+	 */
+	public Board solve(Board board) throws SolverException {
+		if (search(board, null) != SearchResult.SOLVED) {
+			throw new SolverException(NO_SOLUTION_WARNING);
+		}
+		return board;
+	}
+
+	/**
+	 * method to search for a solution of a board without throwing on failure,
+	 * stopping early if the budget runs out.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @param budget
+	 *            budget of the search, or null for none
+	 * @return SOLVED with the board filled in, or NO_SOLUTION (also if the given
+	 *         values collide), CANCELLED or BUDGET_EXHAUSTED with the board left
+	 *         as it was passed in
+	 * @throws IllegalArgumentException
+	 *             if the board is not the size the matrix was built for
+	 */
+	public SearchResult search(Board board, SearchBudget budget) {
+		if (board.getBoxSize() != boxSize) {
+			throw new IllegalArgumentException(
+					"Board is " + board.getDimensions() + "x" + board.getDimensions() + ", matrix is for "
+							+ dimensions + "x" + dimensions);
+		}
+		int givens[] = new int[dimensions * dimensions];
+		int givenCount = 0;
+		boolean consistent = true;
+
+		/* choose the matrix rows of the values already on the board */
+		for (int i = 0; i < dimensions && consistent; i++) {
+			for (int j = 0; j < dimensions && consistent; j++) {
+				int value = board.getValue(i, j);
+				if (value != MISSING_VALUE) {
+					int r = rowStart[(i * dimensions + j) * dimensions + value - 1];
+					if (isRowAvailable(r)) {
+						selectRow(r);
+						givens[givenCount++] = r;
+					} else {
+						consistent = false;
+					}
+				}
+			}
+		}
+
+		this.budget = budget;
+		int depth = consistent ? search(0) : MISSING_VALUE;
+		this.budget = null;
+
+		/* copy the values of the chosen rows into the board */
+		for (int k = 0; k < depth; k++) {
+			int cand = candidate[chosen[k]];
+			int tile = cand / dimensions;
+			board.setValue(tile / dimensions, tile % dimensions, cand % dimensions + 1);
+		}
+
+		/* restore the matrix for the next board */
+		while (givenCount > 0) {
+			deselectRow(givens[--givenCount]);
+		}
+
+		if (depth == STOPPED) {
+			return budget.getStopResult();
+		}
+		return (depth == MISSING_VALUE) ? SearchResult.NO_SOLUTION : SearchResult.SOLVED;
+	}
+
+	/**
+	 * getter to return the statistics recorded by every search.
+	 *
+	 * @return statistics, or null if none are recorded
+	 */
+	public SolverStats getStats() {
+		return stats;
+	}
+
+	/**
+	 * setter to record statistics in every following search.
+	 *
+	 * @param stats
+	 *            statistics to add to, or null to stop recording
+	 */
+	public void setStats(SolverStats stats) {
+		this.stats = stats;
+	}
+
+	/**
+	 * Algorithm X: recursively cover the column with the fewest remaining rows and
+	 * try each of its rows in turn. The links are fully restored before returning.
+	 *
+	 * @param k
+	 *            search depth
+	 * @return number of rows chosen if a solution was found, STOPPED if the
+	 *         budget ran out, otherwise -1
+	 */
+	private int search(int k) {
+		if (right[ROOT] == ROOT) {
+			return k;
+		}
+		int c = chooseColumn();
+		if (size[c] == 0) {
+			return MISSING_VALUE;
+		}
+		boolean guess = size[c] > 1;
+		cover(c);
+		int result = MISSING_VALUE;
+		for (int r = down[c]; r != c && result == MISSING_VALUE; r = down[r]) {
+			if (guess && budget != null && !budget.guess(k + 1)) {
+				result = STOPPED;
+				break;
+			}
+			chosen[k] = r;
+			if (guess && stats != null) {
+				stats.guessed(k + 1);
+			}
+			for (int j = right[r]; j != r; j = right[j]) {
+				cover(column[j]);
+			}
+			result = search(k + 1);
+			for (int j = left[r]; j != r; j = left[j]) {
+				uncover(column[j]);
+			}
+			if (guess && stats != null && result == MISSING_VALUE) {
+				stats.backtracked();
+			}
+		}
+		uncover(c);
+		return result;
+	}
+
+	/**
+	 * method to choose the column with the fewest rows left.
+	 *
+	 * @return column header
+	 */
+	private int chooseColumn() {
+		int best = right[ROOT];
+		for (int c = right[best]; c != ROOT; c = right[c]) {
+			if (size[c] < size[best]) {
+				best = c;
+				if (size[c] <= 1) {
+					break;
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * method to determine whether every column of a matrix row is still uncovered.
+	 *
+	 * @param r
+	 *            first node of the row
+	 * @return true or false
+	 */
+	private boolean isRowAvailable(int r) {
+		int j = r;
+		do {
+			int c = column[j];
+			if (right[left[c]] != c) {
+				return false;
+			}
+			j = right[j];
+		} while (j != r);
+		return true;
+	}
+
+	/**
+	 * cover every column of a matrix row.
+	 *
+	 * @param r
+	 *            first node of the row
+	 */
+	private void selectRow(int r) {
+		int j = r;
+		do {
+			cover(column[j]);
+			j = right[j];
+		} while (j != r);
+	}
+
+	/**
+	 * uncover every column of a matrix row, in the reverse order of selectRow().
+	 *
+	 * @param r
+	 *            first node of the row
+	 */
+	private void deselectRow(int r) {
+		int j = r;
+		do {
+			j = left[j];
+			uncover(column[j]);
+		} while (j != r);
+	}
+
+	/**
+	 * remove a column from the header list and every row that uses it from the
+	 * other columns.
+	 *
+	 * @param c
+	 *            column header
+	 */
+	private void cover(int c) {
+		right[left[c]] = right[c];
+		left[right[c]] = left[c];
+		for (int i = down[c]; i != c; i = down[i]) {
+			for (int j = right[i]; j != i; j = right[j]) {
+				down[up[j]] = down[j];
+				up[down[j]] = up[j];
+				size[column[j]]--;
+			}
+		}
+	}
+
+	/**
+	 * undo cover() for a column.
+	 *
+	 * @param c
+	 *            column header
+	 */
+	private void uncover(int c) {
+		for (int i = up[c]; i != c; i = up[i]) {
+			for (int j = left[i]; j != i; j = left[j]) {
+				size[column[j]]++;
+				down[up[j]] = j;
+				up[down[j]] = j;
+			}
+		}
+		right[left[c]] = c;
+		left[right[c]] = c;
+	}
+
+}
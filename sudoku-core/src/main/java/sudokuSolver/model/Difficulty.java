@@ -0,0 +1,28 @@
+package sudokuSolver.model;
+
+/**
+ * Enumeration of the difficulty targets of the Generator, measured by whether
+ * the human techniques of Solver.heuristicSolver() are enough to solve the
+ * puzzle.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public enum Difficulty {
+
+	/**
+	 * any puzzle with a unique solution.
+	 */
+	ANY,
+
+	/**
+	 * the heuristic solver alone solves the puzzle.
+	 */
+	EASY,
+
+	/**
+	 * the heuristic solver gets stuck and guessing is needed.
+	 */
+	HARD
+
+}
@@ -0,0 +1,444 @@
+package sudokuSolver.model;
+
+import java.util.Set;
+
+/**
+ * EliminationSteps class which applies the techniques that eliminate
+ * possibilities without placing values: pointing pairs, box-line reduction, and
+ * naked and hidden pairs and triples. They let the singles of the heuristic
+ * solver and TrailSolver find values that would otherwise take a guess.
+ *
+ * The steps work on whatever the solver considers a tile's possibilities, read
+ * and narrowed through Candidates, so TrailSolver can record every elimination
+ * on its trail. The possibilities of the whole board are read once per round
+ * into a flat array and the groups are walked through the units of the board's
+ * BoardLayout, so a round that eliminates nothing, the common case, stays
+ * cheap. The scratch arrays are resized when the size of the board changes. An
+ * instance keeps that scratch state and must only be used by one thread at a
+ * time.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+final class EliminationSteps {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * every technique, in the order they are tried.
+	 */
+	private static final Technique TECHNIQUES[] = Technique.values();
+
+	/**
+	 * index of the first row in the group table.
+	 */
+	private static final int ROWS = 0;
+
+	/**
+	 * tables of the board being evaluated; null until the first board is
+	 * loaded.
+	 */
+	private BoardLayout layout;
+
+	/**
+	 * dimensions of the board being evaluated.
+	 */
+	private int dimensions;
+
+	/**
+	 * tile indices (x * dimensions + y) of every group of the board being
+	 * evaluated: the rows, then the columns, then the local groups.
+	 */
+	private int groupTiles[][];
+
+	/**
+	 * index of the first column in groupTiles.
+	 */
+	private int cols;
+
+	/**
+	 * index of the first local group in groupTiles.
+	 */
+	private int localGroups;
+
+	/**
+	 * possibilities of every tile of the board being evaluated, by tile index;
+	 * empty for tiles with a value.
+	 */
+	private int masks[];
+
+	/**
+	 * tile indices of the empty tiles of the group being evaluated.
+	 */
+	private int empty[];
+
+	/**
+	 * possible places of each value in the group being evaluated, as a bitmask of
+	 * indices into empty (index 0 unused).
+	 */
+	private int places[];
+
+	/**
+	 * rows, columns or local groups holding each value's possible places.
+	 */
+	private int lines[];
+
+	/**
+	 * second set of rows or columns holding each value's possible places.
+	 */
+	private int otherLines[];
+
+	/**
+	 * number of empty tiles in the group being evaluated.
+	 */
+	private int emptyCount;
+
+	/**
+	 * possibilities of the board being evaluated.
+	 */
+	private Candidates candidates;
+
+	/**
+	 * method to apply the chosen techniques in order until one of them
+	 * eliminates something.
+	 *
+	 * @param grid
+	 *            board being evaluated
+	 * @param candidates
+	 *            possibilities of the board's empty tiles
+	 * @param techniques
+	 *            techniques to apply; the singles are left to the solvers
+	 * @param stats
+	 *            statistics to add to, or null
+	 * @return true if a possibility was eliminated
+	 */
+	boolean apply(CompactBoard grid, Candidates candidates, Set<Technique> techniques, SolverStats stats) {
+		this.candidates = candidates;
+		try {
+			long start = (stats != null) ? System.nanoTime() : 0;
+			load(grid);
+			for (Technique technique : TECHNIQUES) {
+				if (!technique.isSingle() && techniques.contains(technique)) {
+					int eliminated = apply(technique);
+					if (stats != null) {
+						long now = System.nanoTime();
+						stats.eliminated(technique, eliminated);
+						stats.timed(technique, now - start);
+						start = now;
+					}
+					if (eliminated > 0) {
+						return true;
+					}
+				}
+			}
+			return false;
+		} finally {
+			this.candidates = null;
+		}
+	}
+
+	/**
+	 * method to apply one technique to every group of the loaded board.
+	 *
+	 * @return number of possibilities eliminated
+	 */
+	private int apply(Technique technique) {
+		switch (technique) {
+		case POINTING_PAIR:
+			return pointing();
+		case BOX_LINE_REDUCTION:
+			return boxLineReduction(ROWS) + boxLineReduction(cols);
+		case NAKED_PAIR:
+			return nakedSubsets(2);
+		case HIDDEN_PAIR:
+			return hiddenSubsets(2);
+		case NAKED_TRIPLE:
+			return nakedSubsets(3);
+		case HIDDEN_TRIPLE:
+			return hiddenSubsets(3);
+		default:
+			return 0;
+		}
+	}
+
+	/**
+	 * method to read the possibilities of a board.
+	 */
+	private void load(CompactBoard grid) {
+		if (grid.getLayout() != layout) {
+			resize(grid.getLayout());
+		}
+		for (int k = 0; k < masks.length; k++) {
+			masks[k] = (grid.getValue(k) == MISSING_VALUE) ? candidates.get(k) : CandidateMask.EMPTY;
+		}
+	}
+
+	/**
+	 * method to switch the tables and scratch arrays to another board size.
+	 */
+	private void resize(BoardLayout layout) {
+		this.layout = layout;
+		this.dimensions = layout.getDimensions();
+		this.groupTiles = new int[layout.getUnitCount()][];
+		for (int u = 0; u < groupTiles.length; u++) {
+			groupTiles[u] = layout.getUnit(u);
+		}
+		this.cols = layout.getColUnit(0);
+		this.localGroups = layout.getLocalGroupUnit(0);
+		this.masks = new int[dimensions * dimensions];
+		this.empty = new int[dimensions];
+		this.places = new int[dimensions + 1];
+		this.lines = new int[dimensions + 1];
+		this.otherLines = new int[dimensions + 1];
+	}
+
+	/**
+	 * method to eliminate every value whose possible tiles in a local group lie in
+	 * one row or column from the rest of that row or column.
+	 */
+	private int pointing() {
+		int eliminated = 0;
+		for (int lg = 0; lg < dimensions; lg++) {
+			spread(groupTiles[localGroups + lg], true);
+			for (int v = 1; v <= dimensions; v++) {
+				if (Integer.bitCount(lines[v]) == 1) {
+					eliminated += eliminateOutside(groupTiles[ROWS + Integer.numberOfTrailingZeros(lines[v])], v, lg);
+				}
+				if (Integer.bitCount(otherLines[v]) == 1) {
+					eliminated += eliminateOutside(groupTiles[cols + Integer.numberOfTrailingZeros(otherLines[v])], v,
+							lg);
+				}
+			}
+		}
+		return eliminated;
+	}
+
+	/**
+	 * method to eliminate every value whose possible tiles in a row (or column)
+	 * lie in one local group from the rest of that local group.
+	 *
+	 * @param first
+	 *            ROWS or cols
+	 */
+	private int boxLineReduction(int first) {
+		int eliminated = 0;
+		for (int line = 0; line < dimensions; line++) {
+			spread(groupTiles[first + line], false);
+			for (int v = 1; v <= dimensions; v++) {
+				if (Integer.bitCount(lines[v]) == 1) {
+					int lg = Integer.numberOfTrailingZeros(lines[v]);
+					for (int k : groupTiles[localGroups + lg]) {
+						if (((first == ROWS) ? layout.getRow(k) : layout.getCol(k)) != line) {
+							eliminated += eliminate(k, CandidateMask.of(v));
+						}
+					}
+				}
+			}
+		}
+		return eliminated;
+	}
+
+	/**
+	 * method to find, for every value, the rows and columns (or, for a line, the
+	 * local groups) holding its possible places in a group.
+	 *
+	 * @param group
+	 *            tile indices of the group
+	 * @param rowsAndCols
+	 *            true to fill lines with rows and otherLines with columns, false
+	 *            to fill lines with local groups
+	 */
+	private void spread(int group[], boolean rowsAndCols) {
+		for (int v = 1; v <= dimensions; v++) {
+			lines[v] = 0;
+			otherLines[v] = 0;
+		}
+		for (int k : group) {
+			int x = layout.getRow(k);
+			int y = layout.getCol(k);
+			for (int m = masks[k]; m != CandidateMask.EMPTY; m &= m - 1) {
+				int v = Integer.numberOfTrailingZeros(m) + 1;
+				if (rowsAndCols) {
+					lines[v] |= 1 << x;
+					otherLines[v] |= 1 << y;
+				} else {
+					lines[v] |= 1 << layout.getLocalGroup(k);
+				}
+			}
+		}
+	}
+
+	/**
+	 * method to eliminate a value from the tiles of a row or column outside a
+	 * local group.
+	 */
+	private int eliminateOutside(int line[], int value, int lg) {
+		int eliminated = 0;
+		for (int k : line) {
+			if (layout.getLocalGroup(k) != lg) {
+				eliminated += eliminate(k, CandidateMask.of(value));
+			}
+		}
+		return eliminated;
+	}
+
+	/**
+	 * method to find every set of size tiles in a group with only size
+	 * possibilities between them, and eliminate those possibilities from the
+	 * group's other tiles.
+	 */
+	private int nakedSubsets(int size) {
+		int eliminated = 0;
+		for (int group[] : groupTiles) {
+			/* with no more empty tiles than the set, there is nothing else to narrow */
+			if (collect(group) > size) {
+				eliminated += nakedSubsets(size, 0, 0, CandidateMask.EMPTY, 0);
+			}
+		}
+		return eliminated;
+	}
+
+	/**
+	 * method to try every set of empty tiles from index start on, adding to the
+	 * chosen tiles (a bitmask of indices into empty) and their possibilities.
+	 */
+	private int nakedSubsets(int size, int start, int chosen, int union, int chosenCount) {
+		if (chosenCount == size) {
+			if (CandidateMask.count(union) != size) {
+				return 0;
+			}
+			int eliminated = 0;
+			for (int e = 0; e < emptyCount; e++) {
+				if ((chosen & (1 << e)) == 0) {
+					eliminated += eliminate(empty[e], union);
+				}
+			}
+			return eliminated;
+		}
+		int eliminated = 0;
+		for (int e = start; e < emptyCount; e++) {
+			int mask = masks[empty[e]];
+			int count = CandidateMask.count(mask);
+			int next = union | mask;
+			/* a tile with more possibilities than the set can never be part of it */
+			if (count > 0 && count <= size && CandidateMask.count(next) <= size) {
+				eliminated += nakedSubsets(size, e + 1, chosen | (1 << e), next, chosenCount + 1);
+			}
+		}
+		return eliminated;
+	}
+
+	/**
+	 * method to find every set of size values with only size possible tiles
+	 * between them in a group, and eliminate every other possibility of those
+	 * tiles.
+	 */
+	private int hiddenSubsets(int size) {
+		int eliminated = 0;
+		for (int group[] : groupTiles) {
+			if (collect(group) > size) {
+				for (int v = 1; v <= dimensions; v++) {
+					places[v] = 0;
+				}
+				for (int e = 0; e < emptyCount; e++) {
+					for (int m = masks[empty[e]]; m != CandidateMask.EMPTY; m &= m - 1) {
+						places[Integer.numberOfTrailingZeros(m) + 1] |= 1 << e;
+					}
+				}
+				eliminated += hiddenSubsets(size, 1, CandidateMask.EMPTY, 0, 0);
+			}
+		}
+		return eliminated;
+	}
+
+	/**
+	 * method to try every set of values from start on, adding to the chosen
+	 * values (a bitmask, see CandidateMask) and their possible tiles.
+	 */
+	private int hiddenSubsets(int size, int start, int chosen, int union, int chosenCount) {
+		if (chosenCount == size) {
+			if (Integer.bitCount(union) != size) {
+				return 0;
+			}
+			int eliminated = 0;
+			for (int e = 0; e < emptyCount; e++) {
+				if ((union & (1 << e)) != 0) {
+					eliminated += eliminate(empty[e], ~chosen);
+				}
+			}
+			return eliminated;
+		}
+		int eliminated = 0;
+		for (int v = start; v <= dimensions; v++) {
+			int count = Integer.bitCount(places[v]);
+			int next = union | places[v];
+			/* placed values have no places, and a value with more places than the set is not part of it */
+			if (count > 0 && count <= size && Integer.bitCount(next) <= size) {
+				eliminated += hiddenSubsets(size, v + 1, CandidateMask.add(chosen, v), next, chosenCount + 1);
+			}
+		}
+		return eliminated;
+	}
+
+	/**
+	 * method to collect the empty tiles of a group.
+	 *
+	 * @return number of empty tiles
+	 */
+	private int collect(int group[]) {
+		emptyCount = 0;
+		for (int k : group) {
+			if (masks[k] != CandidateMask.EMPTY) {
+				empty[emptyCount++] = k;
+			}
+		}
+		return emptyCount;
+	}
+
+	/**
+	 * method to eliminate possibilities from a tile, keeping the loaded copy up to
+	 * date. Tiles with a value have no possibilities to eliminate.
+	 */
+	private int eliminate(int k, int mask) {
+		int removed = masks[k] & mask;
+		if (removed == CandidateMask.EMPTY) {
+			return 0;
+		}
+		masks[k] &= ~removed;
+		candidates.set(k, masks[k]);
+		return CandidateMask.count(removed);
+	}
+
+	/**
+	 * Candidates interface through which the steps read and narrow the
+	 * possibilities of empty tiles.
+	 *
+	 * @author Rachel Hatteberg, S02633540
+	 * @version 1.0, 04/27/2020 CSC-241 Student Project
+	 */
+	interface Candidates {
+
+		/**
+		 * getter to return the possibilities of an empty tile.
+		 *
+		 * @param cell
+		 *            index of an empty tile (see BoardLayout)
+		 * @return bitmask of possibilities
+		 */
+		int get(int cell);
+
+		/**
+		 * setter to narrow the possibilities of an empty tile.
+		 *
+		 * @param cell
+		 *            index of an empty tile
+		 * @param possibilities
+		 *            new bitmask of possibilities, a subset of the old one
+		 */
+		void set(int cell, int possibilities);
+	}
+
+}
@@ -0,0 +1,457 @@
+package sudokuSolver.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generator class which creates random puzzles with a unique solution, using
+ * the solver as its oracle. Each puzzle is made in three steps:
+ * <ul>
+ * <li>a random complete grid: the three local groups on the diagonal, which do
+ * not share any row or column, are filled with random orders of 1 - 9 and the
+ * rest is solved by TrailSolver, after which the grid is shuffled by a random
+ * BoardTransform</li>
+ * <li>clue removal: the orbits of the chosen ClueSymmetry are visited in random
+ * order and each is removed if the puzzle still has a unique solution (and, for
+ * an EASY target, is still solved by the heuristic solver). The oracle is only
+ * asked when the removed values are not simply forced by the remaining clues
+ * (as the only possibility of their tile, or the only place for their value in
+ * a row, column or local group), and then only whether some solution differs
+ * from the grid on a removed tile, in a single search (see
+ * TrailSolver.hasOtherSolution()). Every other solution it finds is remembered
+ * as an UnavoidableSets entry, so a later removal that would leave one of these
+ * without a clue is turned down without asking the oracle. Removing clues can
+ * only add solutions, so an orbit that could not be removed never can be
+ * later, and one pass leaves a puzzle that is minimal subject to the
+ * difficulty target: no orbit left can be removed without losing the unique
+ * solution or, for an EASY target, the heuristic solver's solution. An EASY
+ * puzzle may therefore keep clues that only the heuristic solver needs</li>
+ * <li>a HARD target rejects puzzles the heuristic solver can finish, and starts
+ * again from a new grid</li>
+ * </ul>
+ * Every worker thread keeps its own SolverWorkspace, so the oracle's scratch
+ * state is built once per thread.
+ *
+ * Puzzle number k of a run is made from a random generator seeded with the
+ * run's seed and k, so a run gives the same puzzles whatever the number of
+ * threads.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class Generator implements AutoCloseable {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * The sudoku board dimensions (9x9 grid).
+	 */
+	private static final int BOARD_DIMENSIONS = 9;
+
+	/**
+	 * number of columns per local group.
+	 */
+	private static final int COL_PER_GROUP = 3;
+
+	/**
+	 * odd constant spreading the seeds of consecutive puzzles.
+	 */
+	private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * Message dialogue which will appear if the generation was interrupted.
+	 */
+	private static final String INTERRUPTED_WARNING = "Generation was interrupted!";
+
+	/**
+	 * symmetry of the clue pattern.
+	 */
+	private final ClueSymmetry symmetry;
+
+	/**
+	 * difficulty target.
+	 */
+	private final Difficulty difficulty;
+
+	/**
+	 * orbits of the tiles under the symmetry, as tile indices.
+	 */
+	private final int orbits[][];
+
+	/**
+	 * the worker threads.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * scratch state of each worker thread.
+	 */
+	private final ThreadLocal<SolverWorkspace> workspaces = ThreadLocal.withInitial(SolverWorkspace::new);
+
+	/**
+	 * construct a generator.
+	 *
+	 * @param threads
+	 *            number of worker threads
+	 * @param symmetry
+	 *            symmetry of the clue pattern
+	 * @param difficulty
+	 *            difficulty target
+	 */
+	public Generator(int threads, ClueSymmetry symmetry, Difficulty difficulty) {
+		this.symmetry = symmetry;
+		this.difficulty = difficulty;
+		this.orbits = orbits(symmetry);
+		this.pool = new ForkJoinPool(threads);
+	}
+
+	/**
+	 * method to generate puzzles in parallel.
+	 *
+	 * @param count
+	 *            number of puzzles
+	 * @param seed
+	 *            seed of the run
+	 * @return puzzles, in order of their number
+	 */
+	public List<Board> generate(int count, long seed) {
+		return generate(0, count, seed);
+	}
+
+	/**
+	 * method to generate a range of the puzzles of a run in parallel, so that a
+	 * long run can be written out in blocks.
+	 *
+	 * @param first
+	 *            number of the first puzzle
+	 * @param count
+	 *            number of puzzles
+	 * @param seed
+	 *            seed of the run
+	 * @return puzzles, in order of their number
+	 */
+	public List<Board> generate(long first, int count, long seed) {
+		List<Future<Board>> futures = new ArrayList<>(count);
+		for (int k = 0; k < count; k++) {
+			long puzzleSeed = seed + (first + k) * SEED_STEP;
+			futures.add(pool.submit(() -> generate(new SplittableRandom(puzzleSeed))));
+		}
+		List<Board> puzzles = new ArrayList<>(count);
+		try {
+			for (Future<Board> future : futures) {
+				puzzles.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			futures.forEach(future -> future.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(INTERRUPTED_WARNING, e);
+		} catch (ExecutionException e) {
+			futures.forEach(future -> future.cancel(true));
+			throw new IllegalStateException(e.getCause());
+		}
+		return puzzles;
+	}
+
+	/**
+	 * method to generate a single puzzle on the calling thread.
+	 *
+	 * @param random
+	 *            source of randomness
+	 * @return puzzle with a unique solution
+	 */
+	public Board generate(SplittableRandom random) {
+		SolverWorkspace workspace = workspaces.get();
+		while (true) {
+			Board puzzle = removeClues(randomGrid(random, workspace), random, workspace);
+			if (difficulty != Difficulty.HARD || !isEasy(puzzle)) {
+				return puzzle;
+			}
+		}
+	}
+
+	/**
+	 * method to create a random complete grid.
+	 *
+	 * @param random
+	 *            source of randomness
+	 * @param workspace
+	 *            workspace to solve with
+	 * @return solved board
+	 */
+	private static Board randomGrid(SplittableRandom random, SolverWorkspace workspace) {
+		Board board = new Board();
+		int values[] = new int[BOARD_DIMENSIONS];
+		for (int g = 0; g < COL_PER_GROUP; g++) {
+			shuffledRange(values, random);
+			for (int k = 0; k < BOARD_DIMENSIONS; k++) {
+				board.setValue(g * COL_PER_GROUP + k / COL_PER_GROUP, g * COL_PER_GROUP + k % COL_PER_GROUP,
+						values[k]);
+			}
+		}
+		/* the diagonal local groups never collide, so the board always has solutions */
+		workspace.getTrailSolver().search(board);
+
+		/* shuffle the grid with a random symmetry */
+		int labels[] = new int[BOARD_DIMENSIONS + 1];
+		shuffledRange(values, random);
+		for (int v = 1; v <= BOARD_DIMENSIONS; v++) {
+			labels[v] = values[v - 1];
+		}
+		return new BoardTransform(random.nextBoolean(), randomOrder(random), randomOrder(random), labels).apply(board);
+	}
+
+	/**
+	 * method to remove clues from a complete grid while its solution stays unique.
+	 *
+	 * @param grid
+	 *            solved board, emptied in place
+	 * @param random
+	 *            source of randomness
+	 * @param workspace
+	 *            workspace to check uniqueness with
+	 * @return the puzzle
+	 */
+	private Board removeClues(Board grid, SplittableRandom random, SolverWorkspace workspace) {
+		TrailSolver oracle = workspace.getTrailSolver();
+		int order[] = new int[orbits.length];
+		for (int k = 0; k < order.length; k++) {
+			order[k] = k;
+		}
+		shuffle(order, random);
+		UnavoidableSets unavoidable = new UnavoidableSets(grid.getGrid());
+		int solution[] = new int[BOARD_DIMENSIONS * BOARD_DIMENSIONS];
+		for (int tile = 0; tile < solution.length; tile++) {
+			solution[tile] = grid.getValue(tile / BOARD_DIMENSIONS, tile % BOARD_DIMENSIONS);
+		}
+		int removed[] = new int[BOARD_DIMENSIONS * BOARD_DIMENSIONS];
+		int other[] = new int[BOARD_DIMENSIONS * BOARD_DIMENSIONS];
+		for (int o : order) {
+			int orbit[] = orbits[o];
+			for (int k = 0; k < orbit.length; k++) {
+				int tile = orbit[k];
+				removed[k] = grid.getValue(tile / BOARD_DIMENSIONS, tile % BOARD_DIMENSIONS);
+				grid.setValue(tile / BOARD_DIMENSIONS, tile % BOARD_DIMENSIONS, MISSING_VALUE);
+			}
+			unavoidable.removeClues(orbit);
+			boolean keep = isForced(grid, orbit, removed);
+			if (!keep && !unavoidable.isUncovered()) {
+				keep = hasNoOtherSolution(grid, orbit, removed, solution, oracle, other);
+				if (!keep) {
+					unavoidable.add(other);
+				}
+				keep = keep && (difficulty != Difficulty.EASY || isEasy(grid));
+			}
+			if (!keep) {
+				/* put the orbit back */
+				for (int k = 0; k < orbit.length; k++) {
+					int tile = orbit[k];
+					grid.setValue(tile / BOARD_DIMENSIONS, tile % BOARD_DIMENSIONS, removed[k]);
+				}
+				unavoidable.restoreClues(orbit);
+			}
+		}
+		return grid;
+	}
+
+	/**
+	 * method to determine whether every removed tile of an orbit is left with a
+	 * single possibility, or is the only tile of its row, column or local group
+	 * its value can go in. The remaining clues then force the removed values, so
+	 * the puzzle keeps its unique solution (and stays easy if it was) without
+	 * asking the oracle.
+	 *
+	 * @param puzzle
+	 *            puzzle with the orbit removed
+	 * @param orbit
+	 *            tile indices of the removed orbit
+	 * @param removed
+	 *            values the orbit's tiles had in the grid
+	 * @return true if every removed value is forced
+	 */
+	private static boolean isForced(Board puzzle, int orbit[], int removed[]) {
+		CompactBoard grid = puzzle.getGrid();
+		BoardLayout layout = grid.getLayout();
+		for (int k = 0; k < orbit.length; k++) {
+			int tile = orbit[k];
+			if (CandidateMask.count(CandidateMask.full(BOARD_DIMENSIONS) & ~grid.getUsedValues(tile)) == 1) {
+				continue;
+			}
+			if (!isOnlyPlace(grid, layout.getUnit(layout.getRowUnit(layout.getRow(tile))), tile, removed[k])
+					&& !isOnlyPlace(grid, layout.getUnit(layout.getColUnit(layout.getCol(tile))), tile, removed[k])
+					&& !isOnlyPlace(grid, layout.getUnit(layout.getLocalGroupUnit(layout.getLocalGroup(tile))), tile,
+							removed[k])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * method to determine whether every empty tile of a group other than the given
+	 * one already has the value in its row, column or local group.
+	 */
+	private static boolean isOnlyPlace(CompactBoard grid, int group[], int tile, int value) {
+		for (int t : group) {
+			if (t != tile && grid.getValue(t) == MISSING_VALUE
+					&& !CandidateMask.contains(grid.getUsedValues(t), value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * method to determine whether a puzzle with an orbit just removed still has
+	 * only the solution of the grid it came from. Any other solution would also
+	 * solve the puzzle from before the removal unless it differed on a removed
+	 * tile, so the oracle only looks for solutions that differ on one.
+	 *
+	 * @param puzzle
+	 *            puzzle with the orbit removed, left as it was passed in
+	 * @param orbit
+	 *            tile indices of the removed orbit
+	 * @param removed
+	 *            values the orbit's tiles had in the grid
+	 * @param solution
+	 *            values of every tile of the grid
+	 * @param oracle
+	 *            solver to search with
+	 * @param other
+	 *            filled in with another solution, if there is one
+	 * @return true if the solution is still unique
+	 */
+	private static boolean hasNoOtherSolution(Board puzzle, int orbit[], int removed[], int solution[],
+			TrailSolver oracle, int other[]) {
+		/* the orbit's tile indices are the cells of the 9x9 layout */
+		return !oracle.hasOtherSolution(puzzle, orbit, removed, orbit.length, solution, other);
+	}
+
+	/**
+	 * method to determine whether the heuristic solver alone solves a puzzle.
+	 *
+	 * @param puzzle
+	 *            puzzle being evaluated, left untouched
+	 * @return true or false
+	 */
+	private static boolean isEasy(Board puzzle) {
+		try {
+			return Solver.heuristicSolver((Board) puzzle.clone()).isSolved();
+		} catch (SolverException e) {
+			return false;
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * method to compute the distinct orbits of the tiles under a symmetry.
+	 *
+	 * @param symmetry
+	 *            symmetry of the clue pattern
+	 * @return orbits as arrays of distinct tile indices
+	 */
+	private static int[][] orbits(ClueSymmetry symmetry) {
+		boolean seen[] = new boolean[BOARD_DIMENSIONS * BOARD_DIMENSIONS];
+		List<int[]> orbits = new ArrayList<>();
+		for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+			for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+				if (seen[i * BOARD_DIMENSIONS + j]) {
+					continue;
+				}
+				int images[] = symmetry.orbit(i, j);
+				int distinct[] = new int[images.length];
+				int n = 0;
+				for (int tile : images) {
+					if (!seen[tile]) {
+						seen[tile] = true;
+						distinct[n++] = tile;
+					}
+				}
+				int orbit[] = new int[n];
+				System.arraycopy(distinct, 0, orbit, 0, n);
+				orbits.add(orbit);
+			}
+		}
+		return orbits.toArray(new int[0][]);
+	}
+
+	/**
+	 * method to fill an array with 1 - 9 in random order.
+	 */
+	private static void shuffledRange(int values[], SplittableRandom random) {
+		for (int k = 0; k < values.length; k++) {
+			values[k] = k + 1;
+		}
+		shuffle(values, random);
+	}
+
+	/**
+	 * method to return a random order of rows (or columns) that keeps the bands
+	 * (or stacks) together.
+	 */
+	private static int[] randomOrder(SplittableRandom random) {
+		int groups[] = { 0, 1, 2 };
+		shuffle(groups, random);
+		int order[] = new int[BOARD_DIMENSIONS];
+		for (int g = 0; g < COL_PER_GROUP; g++) {
+			int within[] = { 0, 1, 2 };
+			shuffle(within, random);
+			for (int m = 0; m < COL_PER_GROUP; m++) {
+				order[g * COL_PER_GROUP + m] = groups[g] * COL_PER_GROUP + within[m];
+			}
+		}
+		return order;
+	}
+
+	/**
+	 * method to shuffle an array in place (Fisher-Yates).
+	 */
+	private static void shuffle(int values[], SplittableRandom random) {
+		for (int k = values.length - 1; k > 0; k--) {
+			int r = random.nextInt(k + 1);
+			int swap = values[k];
+			values[k] = values[r];
+			values[r] = swap;
+		}
+	}
+
+	/**
+	 * getter to return the symmetry of the clue pattern.
+	 *
+	 * @return symmetry
+	 */
+	public ClueSymmetry getSymmetry() {
+		return symmetry;
+	}
+
+	/**
+	 * getter to return the difficulty target.
+	 *
+	 * @return difficulty
+	 */
+	public Difficulty getDifficulty() {
+		return difficulty;
+	}
+
+	/**
+	 * shut down the worker threads.
+	 */
+	@Override
+	public void close() {
+		pool.shutdown();
+		try {
+			pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,268 @@
+package sudokuSolver.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MappedPuzzleSource class to read very large fixed-width puzzle files through
+ * memory mapping instead of a Reader. Every record is 81 bytes (see
+ * PuzzleCodec) followed by the same line terminator, "\n" or "\r\n"; the last
+ * record may leave its terminator out. Comments and blank lines are not
+ * allowed.
+ *
+ * The file is split into chunks of a fixed number of records. A chunk is only
+ * mapped when it is asked for, and its pages are only read in by the operating
+ * system as its records are decoded, so solving can start on the first chunk
+ * straight away while the rest of the file is still on disk. Chunks are
+ * independent of each other and can be handed to different threads.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class MappedPuzzleSource implements Closeable {
+
+	/**
+	 * default number of records per chunk (about 80 MB of puzzles).
+	 */
+	public static final int DEFAULT_CHUNK_RECORDS = 1 << 20;
+
+	/**
+	 * The sudoku board dimensions (9x9 grid).
+	 */
+	private static final int BOARD_DIMENSIONS = 9;
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * longest line terminator allowed ("\r\n").
+	 */
+	private static final int MAX_TERMINATOR = 2;
+
+	/**
+	 * channel of the puzzle file.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * size of the puzzle file in bytes.
+	 */
+	private final long fileSize;
+
+	/**
+	 * number of bytes per record, including its line terminator.
+	 */
+	private final int recordLength;
+
+	/**
+	 * number of records in the file.
+	 */
+	private final long recordCount;
+
+	/**
+	 * number of records per chunk.
+	 */
+	private final int chunkRecords;
+
+	/**
+	 * open a puzzle file with the default chunk size.
+	 *
+	 * @param path
+	 *            puzzle file
+	 * @throws IOException
+	 *             if the file cannot be read or is not fixed width
+	 */
+	public MappedPuzzleSource(Path path) throws IOException {
+		this(path, DEFAULT_CHUNK_RECORDS);
+	}
+
+	/**
+	 * open a puzzle file.
+	 *
+	 * @param path
+	 *            puzzle file
+	 * @param chunkRecords
+	 *            number of records per chunk
+	 * @throws IOException
+	 *             if the file cannot be read or is not fixed width
+	 */
+	public MappedPuzzleSource(Path path, int chunkRecords) throws IOException {
+		if (chunkRecords <= 0) {
+			throw new IllegalArgumentException("Chunk size must be positive: " + chunkRecords);
+		}
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			this.fileSize = channel.size();
+			this.recordLength = findRecordLength();
+			int terminator = recordLength - PuzzleCodec.LINE_LENGTH;
+			/* the last record may leave out its line terminator */
+			if (fileSize > 0 && (fileSize + terminator) % recordLength != 0 && fileSize % recordLength != 0) {
+				throw new IOException("Puzzle file is not made of " + recordLength + " byte records: " + path);
+			}
+			this.recordCount = (fileSize + terminator) / recordLength;
+			/* keep every chunk mapping under the 2 GB limit of a single buffer */
+			this.chunkRecords = Math.min(chunkRecords, Integer.MAX_VALUE / recordLength);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * method to find the record length from the first line terminator, which
+	 * must be \n or \r\n straight after the first puzzle.
+	 */
+	private int findRecordLength() throws IOException {
+		ByteBuffer head = ByteBuffer.allocate(PuzzleCodec.LINE_LENGTH + MAX_TERMINATOR);
+		int read = 0;
+		while (head.hasRemaining() && read >= 0) {
+			read = channel.read(head, head.position());
+		}
+		int k = PuzzleCodec.LINE_LENGTH;
+		if (k < head.position() && head.get(k) == '\r') {
+			k++;
+		}
+		if (k < head.position()) {
+			if (head.get(k) == '\n') {
+				return k + 1;
+			}
+			throw new IOException("Puzzle file has no line terminator after its first "
+					+ PuzzleCodec.LINE_LENGTH + " characters");
+		}
+		if (fileSize <= PuzzleCodec.LINE_LENGTH) {
+			/* empty, or a single record without a line terminator */
+			return PuzzleCodec.LINE_LENGTH + 1;
+		}
+		throw new IOException("Puzzle file does not start with a " + PuzzleCodec.LINE_LENGTH + " character line");
+	}
+
+	/**
+	 * getter to return the number of records in the file.
+	 *
+	 * @return number of records
+	 */
+	public long getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * getter to return the number of chunks the file is split into.
+	 *
+	 * @return number of chunks
+	 */
+	public int getChunkCount() {
+		return (int) ((recordCount + chunkRecords - 1) / chunkRecords);
+	}
+
+	/**
+	 * method to map a chunk of the file. Safe to call from several threads.
+	 *
+	 * @param index
+	 *            chunk index from 0 to getChunkCount() - 1
+	 * @return the mapped chunk
+	 * @throws IOException
+	 */
+	public Chunk getChunk(int index) throws IOException {
+		long first = (long) index * chunkRecords;
+		if (index < 0 || first >= recordCount) {
+			throw new IndexOutOfBoundsException("Chunk " + index + " of " + getChunkCount());
+		}
+		int count = (int) Math.min(chunkRecords, recordCount - first);
+		long start = first * recordLength;
+		long bytes = Math.min((long) count * recordLength, fileSize - start);
+		return new Chunk(first, count, channel.map(FileChannel.MapMode.READ_ONLY, start, bytes));
+	}
+
+	/**
+	 * close the puzzle file. Chunks already mapped stay readable.
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Chunk class holding a mapped range of consecutive records.
+	 *
+	 * @author Rachel Hatteberg, S02633540
+	 * @version 1.0, 04/27/2020 CSC-241 Student Project
+	 */
+	public class Chunk {
+
+		/**
+		 * index of the first record of the chunk in the file.
+		 */
+		private final long firstRecord;
+
+		/**
+		 * number of records in the chunk.
+		 */
+		private final int size;
+
+		/**
+		 * mapped bytes of the chunk.
+		 */
+		private final MappedByteBuffer buffer;
+
+		/**
+		 * construct a chunk over mapped bytes.
+		 */
+		private Chunk(long firstRecord, int size, MappedByteBuffer buffer) {
+			this.firstRecord = firstRecord;
+			this.size = size;
+			this.buffer = buffer;
+		}
+
+		/**
+		 * getter to return the index of the first record of the chunk in the file.
+		 *
+		 * @return record index
+		 */
+		public long getFirstRecord() {
+			return firstRecord;
+		}
+
+		/**
+		 * getter to return the number of records in the chunk.
+		 *
+		 * @return number of records
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * method to decode a record of the chunk straight from the mapped bytes into a
+		 * new board. Only absolute reads are used, so several threads can decode
+		 * records of the same chunk.
+		 *
+		 * @param k
+		 *            record index within the chunk
+		 * @return board holding the record's values
+		 * @throws IllegalArgumentException
+		 *             if the record holds anything but 1 - 9, '.' or '0'
+		 */
+		public Board getBoard(int k) {
+			if (k < 0 || k >= size) {
+				throw new IndexOutOfBoundsException("Record " + k + " of " + size);
+			}
+			int offset = k * recordLength;
+			Board board = new Board();
+			for (int t = 0; t < PuzzleCodec.LINE_LENGTH; t++) {
+				int value = PuzzleCodec.decodeValue(buffer.get(offset + t));
+				if (value != MISSING_VALUE) {
+					board.setValue(t / BOARD_DIMENSIONS, t % BOARD_DIMENSIONS, value);
+				}
+			}
+			return board;
+		}
+	}
+
+}
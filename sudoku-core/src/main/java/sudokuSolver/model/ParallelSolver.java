@@ -0,0 +1,401 @@
+package sudokuSolver.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ParallelSolver class which searches a single hard board on several threads.
+ * After the heuristic solver, the board is split at its first one or two
+ * branching tiles (the tiles with the fewest possibilities): every possibility
+ * of those tiles becomes an independent subtree, held in its own copy of the
+ * board, and the subtrees are searched by TrailSolvers on a ForkJoinPool.
+ *
+ * When looking for a solution, the first subtree to find one cancels all of
+ * its siblings through a shared CancellationToken, and its values are copied
+ * into the board passed in, like the other engines do. Every subtree searches
+ * within a share of the caller's SearchBudget, so the deadline, the guess limit
+ * (counted over all subtrees together) and the caller's token hold for the
+ * whole parallel search; every value set on a branching tile to split the
+ * board counts as a guess too. When counting solutions, every subtree is
+ * searched to the end and the counts are added up. The board passed in is
+ * only ever changed by a successful solve.
+ *
+ * SolverWorkspace uses the shared instance (see getShared()) for
+ * SolverEngine.PARALLEL, which is meant for single hard puzzles; a batch of
+ * many boards is better spread over BatchSolver's threads one board each.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class ParallelSolver implements AutoCloseable {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * Message dialogue which will appear if there is no valid solution found.
+	 */
+	private static final String NO_SOLUTION_WARNING = "No valid solution found!";
+
+	/**
+	 * Message dialogue which will appear if the search was interrupted.
+	 */
+	private static final String INTERRUPTED_WARNING = "Search was interrupted!";
+
+	/**
+	 * number of branching tiles the shared instance splits boards at.
+	 */
+	private static final int DEFAULT_SPLIT_DEPTH = 2;
+
+	/**
+	 * instance running on the common pool, created on first use.
+	 */
+	private static volatile ParallelSolver shared;
+
+	/**
+	 * the worker threads.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * whether the pool was created by this solver, and is shut down by close().
+	 */
+	private final boolean ownsPool;
+
+	/**
+	 * number of branching tiles the board is split at (1 or 2).
+	 */
+	private final int splitDepth;
+
+	/**
+	 * scratch state of each worker thread.
+	 */
+	private final ThreadLocal<TrailSolver> solvers = ThreadLocal.withInitial(TrailSolver::new);
+
+	/**
+	 * construct a parallel solver.
+	 *
+	 * @param threads
+	 *            number of worker threads
+	 * @param splitDepth
+	 *            number of branching tiles to split the board at, 1 or 2
+	 */
+	public ParallelSolver(int threads, int splitDepth) {
+		if (splitDepth < 1 || splitDepth > 2) {
+			throw new IllegalArgumentException("Split depth must be 1 or 2: " + splitDepth);
+		}
+		this.pool = new ForkJoinPool(threads);
+		this.ownsPool = true;
+		this.splitDepth = splitDepth;
+	}
+
+	/**
+	 * construct a parallel solver on an existing pool.
+	 */
+	private ParallelSolver(ForkJoinPool pool, int splitDepth) {
+		this.pool = pool;
+		this.ownsPool = false;
+		this.splitDepth = splitDepth;
+	}
+
+	/**
+	 * method to return the instance shared by every SolverWorkspace, which runs on
+	 * the common ForkJoinPool and splits boards at two branching tiles. Closing it
+	 * does nothing.
+	 *
+	 * @return shared parallel solver
+	 */
+	public static ParallelSolver getShared() {
+		ParallelSolver solver = shared;
+		if (solver == null) {
+			synchronized (ParallelSolver.class) {
+				if (shared == null) {
+					shared = new ParallelSolver(ForkJoinPool.commonPool(), DEFAULT_SPLIT_DEPTH);
+				}
+				solver = shared;
+			}
+		}
+		return solver;
+	}
+
+	/**
+	 * method to solve a board, filling it in with the first solution found by any
+	 * subtree.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @return the solved board
+	 * @throws SolverException
+	 *             if the board has no solution, in which case it is left as it
+	 *             was passed in
+	 */
+	public Board solve(Board board) throws SolverException {
+		if (search(board, null, null) != SearchResult.SOLVED) {
+			throw new SolverException(NO_SOLUTION_WARNING);
+		}
+		return board;
+	}
+
+	/**
+	 * method to search for a solution of a board without throwing on failure,
+	 * stopping early if the budget runs out. The statistics of every subtree are
+	 * added to stats once the search is over.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @param stats
+	 *            statistics to add to, or null to record nothing
+	 * @param budget
+	 *            budget of the whole search, or null for none
+	 * @return SOLVED with the board filled in, or NO_SOLUTION, CANCELLED or
+	 *         BUDGET_EXHAUSTED with the board left as it was passed in
+	 */
+	public SearchResult search(Board board, SolverStats stats, SearchBudget budget) {
+		List<Board> subtrees;
+		try {
+			subtrees = split(new Board(board.getGrid().copy()), stats, budget);
+		} catch (SearchStoppedException e) {
+			return e.getResult();
+		} catch (SolverException e) {
+			return SearchResult.NO_SOLUTION;
+		}
+		CancellationToken siblings = new CancellationToken();
+		AtomicLong guesses = new AtomicLong((budget == null) ? 0 : budget.getGuessCount());
+		AtomicReference<Board> winner = new AtomicReference<>();
+		List<SearchBudget> budgets = new ArrayList<>(subtrees.size());
+		List<SolverStats> subtreeStats = new ArrayList<>(subtrees.size());
+		List<Future<?>> futures = new ArrayList<>(subtrees.size());
+		for (Board subtree : subtrees) {
+			SearchBudget share = (budget == null) ? new SearchBudget(siblings) : budget.share(siblings, guesses);
+			SolverStats shareStats = (stats == null) ? null : new SolverStats();
+			budgets.add(share);
+			subtreeStats.add(shareStats);
+			futures.add(pool.submit(() -> {
+				TrailSolver solver = solvers.get();
+				solver.setStats(shareStats);
+				try {
+					if (subtree.isSolved() || solver.search(subtree, share) == SearchResult.SOLVED) {
+						/* first solution wins: stop every sibling */
+						if (winner.compareAndSet(null, subtree)) {
+							siblings.cancel();
+						}
+					}
+				} finally {
+					solver.setStats(null);
+				}
+			}));
+		}
+		boolean interrupted = !await(futures, siblings);
+		boolean exhausted = false;
+		for (int s = 0; s < budgets.size(); s++) {
+			exhausted = exhausted || budgets.get(s).isExhausted();
+			if (stats != null) {
+				stats.add(subtreeStats.get(s));
+			}
+		}
+		if (budget != null) {
+			budget.collect(guesses, exhausted && winner.get() == null);
+		}
+		if (winner.get() != null) {
+			CompactBoard from = winner.get().getGrid();
+			CompactBoard to = board.getGrid();
+			for (int c = 0; c < from.getLayout().getCellCount(); c++) {
+				to.setValue(c, from.getValue(c));
+			}
+			return SearchResult.SOLVED;
+		}
+		if (interrupted || (budget != null && budget.isCancelled())) {
+			return SearchResult.CANCELLED;
+		}
+		return exhausted ? SearchResult.BUDGET_EXHAUSTED : SearchResult.NO_SOLUTION;
+	}
+
+	/**
+	 * method to count the solutions of a board by searching every subtree to the
+	 * end.
+	 *
+	 * @param board
+	 *            board being evaluated, left as it was passed in
+	 * @return number of solutions
+	 */
+	public long countSolutions(Board board) {
+		List<Board> subtrees;
+		try {
+			subtrees = split(new Board(board.getGrid().copy()), null, null);
+		} catch (SolverException e) {
+			return 0;
+		}
+		CancellationToken token = new CancellationToken();
+		List<Future<Long>> futures = new ArrayList<>(subtrees.size());
+		for (Board subtree : subtrees) {
+			futures.add(pool.submit(() -> {
+				if (subtree.isSolved()) {
+					return 1L;
+				}
+				TrailSolver solver = solvers.get();
+				solver.countSolutions(subtree, Long.MAX_VALUE, token);
+				return solver.getSolutionCount();
+			}));
+		}
+		long total = 0;
+		try {
+			for (Future<Long> future : futures) {
+				total += future.get();
+			}
+		} catch (InterruptedException | ExecutionException e) {
+			token.cancel();
+			throw new IllegalStateException(INTERRUPTED_WARNING, e);
+		}
+		return total;
+	}
+
+	/**
+	 * method to split a board into independent subtrees. Each subtree is a copy of
+	 * the board with one combination of values set on the branching tiles and the
+	 * heuristic solver applied; combinations the heuristic solver proves to be dead
+	 * ends are left out. Every value set on a branching tile is counted against
+	 * the budget as a guess.
+	 *
+	 * @param board
+	 *            board being split, which the heuristic solver fills in
+	 * @param stats
+	 *            statistics to add the heuristic passes to, or null
+	 * @param budget
+	 *            budget of the search, or null for none
+	 * @return subtrees, possibly already solved
+	 * @throws SearchStoppedException
+	 *             if the budget ran out or was cancelled while splitting
+	 * @throws SolverException
+	 *             if the board itself is a dead end
+	 */
+	private List<Board> split(Board board, SolverStats stats, SearchBudget budget) throws SolverException {
+		if (!board.isConsistent()) {
+			throw new SolverException(NO_SOLUTION_WARNING);
+		}
+		List<Board> subtrees = new ArrayList<>();
+		subtrees.add(Solver.heuristicSolver(board, stats));
+		for (int level = 0; level < splitDepth; level++) {
+			List<Board> next = new ArrayList<>();
+			for (Board parent : subtrees) {
+				Tile tile = fewestPossibilities(parent);
+				if (tile == null) {
+					next.add(parent);
+					continue;
+				}
+				int possible = Solver.getPossibilities(parent, tile);
+				for (int m = possible; m != CandidateMask.EMPTY; m = CandidateMask.removeLowest(m)) {
+					if (budget != null && !budget.guess(level + 1)) {
+						throw new SearchStoppedException(budget.getStopResult());
+					}
+					try {
+						Board child = (Board) parent.clone();
+						child.setValue(tile.getX(), tile.getY(), CandidateMask.lowest(m));
+						next.add(Solver.heuristicSolver(child, stats));
+					} catch (SolverException e) {
+						/* the heuristic solver found this combination to be a dead end */
+					} catch (CloneNotSupportedException e) {
+						throw new IllegalStateException(e);
+					}
+				}
+			}
+			subtrees = next;
+		}
+		return subtrees;
+	}
+
+	/**
+	 * method to find the empty tile with the fewest possibilities.
+	 *
+	 * @param board
+	 *            board being evaluated
+	 * @return tile, or null if the board is solved
+	 */
+	private static Tile fewestPossibilities(Board board) {
+		Tile best = null;
+		int bestCount = Integer.MAX_VALUE;
+		int dimensions = board.getDimensions();
+		for (int i = 0; i < dimensions; i++) {
+			for (int j = 0; j < dimensions; j++) {
+				Tile tile = board.getTile(i, j);
+				if (tile.getValue() == MISSING_VALUE) {
+					int count = CandidateMask.count(Solver.getPossibilities(board, tile));
+					if (count < bestCount) {
+						best = tile;
+						bestCount = count;
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * method to wait for every subtree to finish or be cancelled.
+	 *
+	 * @return false if the waiting thread was interrupted, in which case every
+	 *         subtree is cancelled and waited for, so that none of them is still
+	 *         writing to its statistics
+	 */
+	private static boolean await(List<Future<?>> futures, CancellationToken token) {
+		try {
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			return true;
+		} catch (InterruptedException e) {
+			token.cancel();
+			finish(futures);
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (ExecutionException e) {
+			token.cancel();
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * method to wait for every cancelled subtree to stop, which it does at its
+	 * next guess, whether or not the waiting thread is interrupted again.
+	 */
+	private static void finish(List<Future<?>> futures) {
+		for (Future<?> future : futures) {
+			boolean done = false;
+			while (!done) {
+				try {
+					future.get();
+					done = true;
+				} catch (InterruptedException e) {
+					/* interrupted again: the caller restores the flag */
+				} catch (ExecutionException e) {
+					done = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * shut down the worker threads, unless the solver runs on a pool it did not
+	 * create.
+	 */
+	@Override
+	public void close() {
+		if (!ownsPool) {
+			return;
+		}
+		pool.shutdown();
+		try {
+			pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,213 @@
+package sudokuSolver.model;
+
+import java.util.Arrays;
+
+/**
+ * PossibilityIndex class which keeps the empty tiles of a board in buckets by
+ * their number of possibilities, so the search can branch on the tile with the
+ * fewest possibilities (minimum remaining values) without rescanning the whole
+ * board at every step. Each bucket is a doubly linked list threaded through int
+ * arrays, so moving a tile between buckets is constant time.
+ *
+ * A tile's possibilities are its own possibilities without the values already
+ * used by its row, column and local group. The index has to be told whenever
+ * either of those change; Trail does this for every change it records.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+final class PossibilityIndex {
+
+	/**
+	 * int value for tiles without a value assigned to it, and for the end of a
+	 * bucket list.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * the board dimensions.
+	 */
+	private final int dimensions;
+
+	/**
+	 * first tile of each bucket, by number of possibilities.
+	 */
+	private final int head[];
+
+	/**
+	 * next tile in the same bucket, by cell index (see BoardLayout).
+	 */
+	private final int next[];
+
+	/**
+	 * previous tile in the same bucket.
+	 */
+	private final int prev[];
+
+	/**
+	 * bucket each tile is in, or MISSING_VALUE if the tile has a value.
+	 */
+	private final int bucket[];
+
+	/**
+	 * the board being indexed.
+	 */
+	private CompactBoard grid;
+
+	/**
+	 * tables of the board being indexed.
+	 */
+	private BoardLayout layout;
+
+	/**
+	 * construct an empty index for boards of the given dimensions.
+	 *
+	 * @param dimensions
+	 *            number of tiles per row
+	 */
+	PossibilityIndex(int dimensions) {
+		this.dimensions = dimensions;
+		int tiles = dimensions * dimensions;
+		head = new int[dimensions + 1];
+		next = new int[tiles];
+		prev = new int[tiles];
+		bucket = new int[tiles];
+	}
+
+	/**
+	 * index every empty tile of a board.
+	 *
+	 * @param grid
+	 *            board being indexed, or null to release the previous one
+	 */
+	void reset(CompactBoard grid) {
+		this.grid = grid;
+		Arrays.fill(head, MISSING_VALUE);
+		Arrays.fill(bucket, MISSING_VALUE);
+		if (grid == null) {
+			layout = null;
+			return;
+		}
+		layout = grid.getLayout();
+		for (int c = 0; c < bucket.length; c++) {
+			refresh(c);
+		}
+	}
+
+	/**
+	 * move a tile to the bucket matching its current possibilities, or take it out
+	 * of the index if it has a value.
+	 *
+	 * @param cell
+	 *            tile whose value or possibilities changed
+	 */
+	void refresh(int cell) {
+		int count = MISSING_VALUE;
+		if (grid.getValue(cell) == MISSING_VALUE) {
+			count = CandidateMask.count(grid.getPossibilities(cell) & ~grid.getUsedValues(cell));
+		}
+		if (count == bucket[cell]) {
+			return;
+		}
+		if (bucket[cell] != MISSING_VALUE) {
+			unlink(cell);
+		}
+		if (count != MISSING_VALUE) {
+			link(cell, count);
+		}
+	}
+
+	/**
+	 * refresh a tile and every tile sharing its row, column or local group, after
+	 * the tile's value changed. The row is refreshed in order, the tile itself
+	 * included, followed by the rest of its peers.
+	 *
+	 * @param cell
+	 *            tile whose value changed
+	 */
+	void refreshShared(int cell) {
+		for (int c : layout.getUnit(layout.getRowUnit(layout.getRow(cell)))) {
+			refresh(c);
+		}
+		int peers[] = layout.getPeers(cell);
+		for (int p = dimensions - 1; p < peers.length; p++) {
+			refresh(peers[p]);
+		}
+	}
+
+	/**
+	 * getter to return any tile with exactly the given number of possibilities.
+	 *
+	 * @param count
+	 *            number of possibilities
+	 * @return cell, or MISSING_VALUE if there is none
+	 */
+	int first(int count) {
+		return head[count];
+	}
+
+	/**
+	 * getter to return the empty tile with the fewest possibilities. Ties are
+	 * broken by degree: the tile whose row, column and local group have the most
+	 * empty tiles constrains the rest of the board the most. Only the tiles of the
+	 * lowest non-empty bucket are looked at.
+	 *
+	 * @return cell, or MISSING_VALUE if every tile has a value
+	 */
+	int best() {
+		for (int count = 0; count <= dimensions; count++) {
+			int bestTile = MISSING_VALUE;
+			int bestDegree = MISSING_VALUE;
+			for (int t = head[count]; t != MISSING_VALUE; t = next[t]) {
+				int degree = degree(t);
+				if (degree > bestDegree) {
+					bestTile = t;
+					bestDegree = degree;
+				}
+			}
+			if (bestTile != MISSING_VALUE) {
+				return bestTile;
+			}
+		}
+		return MISSING_VALUE;
+	}
+
+	/**
+	 * method to return the number of empty tiles in a tile's row, column and local
+	 * group, from the board's masks of used values.
+	 */
+	private int degree(int t) {
+		return 3 * dimensions - CandidateMask.count(grid.getUnitValues(layout.getRowUnit(layout.getRow(t))))
+				- CandidateMask.count(grid.getUnitValues(layout.getColUnit(layout.getCol(t))))
+				- CandidateMask.count(grid.getUnitValues(layout.getLocalGroupUnit(layout.getLocalGroup(t))));
+	}
+
+	/**
+	 * add a tile to the front of a bucket.
+	 */
+	private void link(int t, int count) {
+		bucket[t] = count;
+		prev[t] = MISSING_VALUE;
+		next[t] = head[count];
+		if (head[count] != MISSING_VALUE) {
+			prev[head[count]] = t;
+		}
+		head[count] = t;
+	}
+
+	/**
+	 * remove a tile from its bucket.
+	 */
+	private void unlink(int t) {
+		if (prev[t] != MISSING_VALUE) {
+			next[prev[t]] = next[t];
+		} else {
+			head[bucket[t]] = next[t];
+		}
+		if (next[t] != MISSING_VALUE) {
+			prev[next[t]] = prev[t];
+		}
+		bucket[t] = MISSING_VALUE;
+	}
+
+}
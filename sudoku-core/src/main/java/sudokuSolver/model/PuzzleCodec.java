@@ -0,0 +1,172 @@
+package sudokuSolver.model;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * PuzzleCodec class to read and write boards in the common one puzzle per line
+ * format: 81 characters in row-major order, with 1 - 9 for values and '.' or
+ * '0' for empty tiles. Lines are decoded straight into a Board and boards are
+ * written straight to a Writer, without building intermediate Strings.
+ *
+ * Larger boards use the same format with one character per tile, so a 16x16
+ * line is 256 characters and a 25x25 line 625; values from 10 up are written
+ * as the letters A - P. The board size is taken from the length of the line.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public final class PuzzleCodec {
+
+	/**
+	 * number of characters in an encoded 9x9 board.
+	 */
+	public static final int LINE_LENGTH = lineLength(Board.DEFAULT_BOX_SIZE);
+
+	/**
+	 * highest value written as a digit; higher values are written as letters.
+	 */
+	private static final int MAX_DIGIT = 9;
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * character written for empty tiles.
+	 */
+	private static final char EMPTY_CHAR = '.';
+
+	/**
+	 * Prevent instantiation of utility class.
+	 */
+	private PuzzleCodec() {
+	}
+
+	/**
+	 * method to return the number of characters in an encoded board.
+	 *
+	 * @param boxSize
+	 *            number of columns per local group
+	 * @return boxSize to the fourth power, 81 for a 9x9 board
+	 */
+	public static int lineLength(int boxSize) {
+		int dimensions = boxSize * boxSize;
+		return dimensions * dimensions;
+	}
+
+	/**
+	 * method to decode a line into a new board, sized by the length of the line.
+	 * Trailing whitespace (such as a carriage return) is ignored.
+	 *
+	 * @param line
+	 *            encoded board
+	 * @return board holding the line's values
+	 * @throws IllegalArgumentException
+	 *             if the line is not 81 (or 16, 256, 625) characters of values,
+	 *             '.' or '0'
+	 */
+	public static Board decode(CharSequence line) {
+		int length = line.length();
+		while (length > 0 && Character.isWhitespace(line.charAt(length - 1))) {
+			length--;
+		}
+		int boxSize = 1;
+		while (boxSize < Board.MAX_BOX_SIZE && lineLength(boxSize) < length) {
+			boxSize++;
+		}
+		if (length != lineLength(boxSize)) {
+			throw new IllegalArgumentException("Puzzle must be 16, 81, 256 or 625 characters long: " + line);
+		}
+		Board board = new Board(boxSize);
+		int dimensions = board.getDimensions();
+		for (int k = 0; k < length; k++) {
+			int value = decodeValue(line.charAt(k));
+			if (value != MISSING_VALUE) {
+				board.setValue(k / dimensions, k % dimensions, value);
+			}
+		}
+		return board;
+	}
+
+	/**
+	 * method to decode a single character into a tile value.
+	 *
+	 * @param c
+	 *            character being decoded
+	 * @return value from 1 - 9, 10 - 25 for the letters A - P (either case), or
+	 *         MISSING_VALUE for an empty tile
+	 * @throws IllegalArgumentException
+	 *             if the character is not a value, '.' or '0'
+	 */
+	public static int decodeValue(int c) {
+		if (c >= '1' && c <= '9') {
+			return c - '0';
+		}
+		if (c == '.' || c == '0') {
+			return MISSING_VALUE;
+		}
+		int letter = Character.toUpperCase(c) - 'A';
+		if (letter >= 0 && MAX_DIGIT + 1 + letter <= Board.MAX_BOX_SIZE * Board.MAX_BOX_SIZE) {
+			return MAX_DIGIT + 1 + letter;
+		}
+		throw new IllegalArgumentException("Invalid puzzle character: '" + (char) c + "'");
+	}
+
+	/**
+	 * method to encode a single tile value into a character.
+	 *
+	 * @param value
+	 *            value from 1 - 25, or MISSING_VALUE
+	 * @return 1 - 9, A - P, or '.' for an empty tile
+	 */
+	public static char encodeValue(int value) {
+		if (value == MISSING_VALUE) {
+			return EMPTY_CHAR;
+		}
+		return (value <= MAX_DIGIT) ? (char) ('0' + value) : (char) ('A' + value - MAX_DIGIT - 1);
+	}
+
+	/**
+	 * method to encode a board into a character buffer.
+	 *
+	 * @param board
+	 *            board being encoded
+	 * @param buffer
+	 *            buffer with at least lineLength(board.getBoxSize()) characters
+	 *            from offset
+	 * @param offset
+	 *            position of the first character
+	 */
+	public static void encode(Board board, char[] buffer, int offset) {
+		int dimensions = board.getDimensions();
+		for (int i = 0; i < dimensions; i++) {
+			for (int j = 0; j < dimensions; j++) {
+				int value = board.getValue(i, j);
+				buffer[offset++] = encodeValue(value);
+			}
+		}
+	}
+
+	/**
+	 * method to write a board to a writer as a single line, without the line
+	 * separator.
+	 *
+	 * @param board
+	 *            board being written
+	 * @param out
+	 *            writer, ideally buffered
+	 * @throws IOException
+	 */
+	public static void write(Board board, Writer out) throws IOException {
+		int dimensions = board.getDimensions();
+		for (int i = 0; i < dimensions; i++) {
+			for (int j = 0; j < dimensions; j++) {
+				int value = board.getValue(i, j);
+				out.write(encodeValue(value));
+			}
+		}
+	}
+
+}
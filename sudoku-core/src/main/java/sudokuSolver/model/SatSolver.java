@@ -0,0 +1,259 @@
+package sudokuSolver.model;
+
+import java.util.Arrays;
+
+/**
+ * SatSolver class which solves a sudoku board by encoding it as a formula in
+ * conjunctive normal form and handing it to a conflict driven clause learning
+ * SAT solver (see CdclSolver), with no external solver needed.
+ *
+ * There is one variable for every empty tile and every value it can still
+ * take (tile i, j holds value v); the given values and the values they rule out
+ * need none. The clauses say that:
+ * <ul>
+ * <li>every empty tile holds exactly one of its possible values</li>
+ * <li>every row, column and local group holds each of its missing values in
+ * exactly one of its empty tiles</li>
+ * </ul>
+ * "Exactly one" is encoded as one clause for at least one, and a clause for
+ * every pair for at most one. Pairs of tiles in a local group that share a row
+ * or column are left to the row or column, so no clause is added twice.
+ *
+ * Unlike the backtracking engines, the clause learning search remembers why
+ * each dead end failed and jumps straight back to the guess that caused it,
+ * which pays off on 16x16 and 25x25 boards and on puzzles made to defeat
+ * chronological backtracking. When a SolverStats is set, its decisions are
+ * recorded as guesses, along with its conflicts, learned clauses and restarts.
+ *
+ * The formula is built anew for every board, so one instance can be used for
+ * boards of any size, but not by more than one thread at a time.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class SatSolver {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * Message dialogue which will appear if there is no valid solution found.
+	 */
+	private static final String NO_SOLUTION_WARNING = "No valid solution found!";
+
+	/**
+	 * statistics recorded by every search, or null.
+	 */
+	private SolverStats stats;
+
+	/**
+	 * number of variables of the last formula.
+	 */
+	private int variableCount;
+
+	/**
+	 * number of clauses of the last formula.
+	 */
+	private int clauseCount;
+
+	/**
+	 * method to solve a board. The empty tiles of the board are filled in with the
+	 * solution; the board is left untouched if there is no solution.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @return the solved board
+	 * @throws SolverException
+	 *             if the board has no solution
+	 */
+	public Board solve(Board board) throws SolverException {
+		if (search(board, (SearchBudget) null) != SearchResult.SOLVED) {
+			throw new SolverException(NO_SOLUTION_WARNING);
+		}
+		return board;
+	}
+
+	/**
+	 * method to search for a solution of a board without throwing on failure,
+	 * stopping early if the token is cancelled.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @param token
+	 *            token to stop the search with, or null
+	 * @return SOLVED with the board filled in, or NO_SOLUTION or CANCELLED with
+	 *         the board left as it was passed in
+	 */
+	public SearchResult search(Board board, CancellationToken token) {
+		return search(board, SearchBudget.of(token));
+	}
+
+	/**
+	 * method to search for a solution of a board without throwing on failure,
+	 * stopping early if the budget runs out. Every decision of the clause
+	 * learning search counts as a guess.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @param budget
+	 *            budget of the search, or null for none
+	 * @return SOLVED with the board filled in, or NO_SOLUTION, CANCELLED or
+	 *         BUDGET_EXHAUSTED with the board left as it was passed in
+	 */
+	public SearchResult search(Board board, SearchBudget budget) {
+		if (!board.isConsistent()) {
+			return SearchResult.NO_SOLUTION;
+		}
+		CompactBoard grid = board.getGrid();
+		int dimensions = grid.getDimensions();
+		int variables[] = numberVariables(grid);
+		CdclSolver cdcl = new CdclSolver(variableCount);
+		clauseCount = 0;
+		encode(grid, variables, cdcl);
+		cdcl.setStats(stats);
+		SearchResult result = cdcl.solve(budget);
+		if (result == SearchResult.SOLVED) {
+			for (int k = 0; k < variables.length; k++) {
+				if (variables[k] != 0 && cdcl.getValue(variables[k])) {
+					grid.setValue(k / dimensions, k % dimensions + 1);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * method to number the variables of a board: one for every empty tile and
+	 * value it can still take.
+	 *
+	 * @return variable of each tile and value, index cell * dimensions + value -
+	 *         1, or 0 if there is none
+	 */
+	private int[] numberVariables(CompactBoard grid) {
+		int dimensions = grid.getDimensions();
+		int range = CandidateMask.full(dimensions);
+		int variables[] = new int[grid.getLayout().getCellCount() * dimensions];
+		int count = 0;
+		for (int c = 0; c < grid.getLayout().getCellCount(); c++) {
+			if (grid.getValue(c) == MISSING_VALUE) {
+				for (int m = range & ~grid.getUsedValues(c); m != CandidateMask.EMPTY; m &= m - 1) {
+					variables[c * dimensions + Integer.numberOfTrailingZeros(m)] = ++count;
+				}
+			}
+		}
+		variableCount = count;
+		return variables;
+	}
+
+	/**
+	 * method to add the clauses of a board to the solver.
+	 */
+	private void encode(CompactBoard grid, int variables[], CdclSolver cdcl) {
+		BoardLayout layout = grid.getLayout();
+		int dimensions = layout.getDimensions();
+		int literals[] = new int[dimensions];
+		int cells[] = new int[dimensions];
+		/* every empty tile holds exactly one of its values */
+		for (int c = 0; c < layout.getCellCount(); c++) {
+			if (grid.getValue(c) == MISSING_VALUE) {
+				int count = 0;
+				for (int v = 0; v < dimensions; v++) {
+					if (variables[c * dimensions + v] != 0) {
+						cells[count] = c;
+						literals[count++] = variables[c * dimensions + v];
+					}
+				}
+				addExactlyOne(cdcl, layout, literals, cells, count, false);
+			}
+		}
+		/* every unit holds each missing value in exactly one of its empty tiles */
+		for (int u = 0; u < layout.getUnitCount(); u++) {
+			boolean localGroup = u >= layout.getLocalGroupUnit(0);
+			int used = grid.getUnitValues(u);
+			for (int v = 1; v <= dimensions; v++) {
+				if (CandidateMask.contains(used, v)) {
+					continue;
+				}
+				int count = 0;
+				for (int c : layout.getUnit(u)) {
+					if (variables[c * dimensions + v - 1] != 0) {
+						cells[count] = c;
+						literals[count++] = variables[c * dimensions + v - 1];
+					}
+				}
+				addExactlyOne(cdcl, layout, literals, cells, count, localGroup);
+			}
+		}
+	}
+
+	/**
+	 * method to add the clauses saying that exactly one of some variables is
+	 * true.
+	 *
+	 * @param literals
+	 *            the variables
+	 * @param cells
+	 *            tile of each variable
+	 * @param count
+	 *            number of variables
+	 * @param skipLines
+	 *            true to leave out the pairs of tiles sharing a row or column,
+	 *            which their row or column already covers
+	 */
+	private void addExactlyOne(CdclSolver cdcl, BoardLayout layout, int literals[], int cells[], int count,
+			boolean skipLines) {
+		cdcl.addClause(Arrays.copyOf(literals, count));
+		clauseCount++;
+		for (int a = 0; a < count; a++) {
+			for (int b = a + 1; b < count; b++) {
+				if (skipLines && (layout.getRow(cells[a]) == layout.getRow(cells[b])
+						|| layout.getCol(cells[a]) == layout.getCol(cells[b]))) {
+					continue;
+				}
+				cdcl.addClause(-literals[a], -literals[b]);
+				clauseCount++;
+			}
+		}
+	}
+
+	/**
+	 * getter to return the number of variables of the last board's formula.
+	 *
+	 * @return variable count
+	 */
+	public int getVariableCount() {
+		return variableCount;
+	}
+
+	/**
+	 * getter to return the number of clauses of the last board's formula, not
+	 * counting the clauses learned while solving it.
+	 *
+	 * @return clause count
+	 */
+	public int getClauseCount() {
+		return clauseCount;
+	}
+
+	/**
+	 * getter to return the statistics recorded by every search.
+	 *
+	 * @return statistics, or null if none are recorded
+	 */
+	public SolverStats getStats() {
+		return stats;
+	}
+
+	/**
+	 * setter to record statistics in every following search.
+	 *
+	 * @param stats
+	 *            statistics to add to, or null to stop recording
+	 */
+	public void setStats(SolverStats stats) {
+		this.stats = stats;
+	}
+
+}
@@ -0,0 +1,313 @@
+package sudokuSolver.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SearchBudget class limiting how much work a search may do: a deadline, a
+ * maximum number of guesses (every guess is one node of the search tree), and
+ * an optional CancellationToken. Every engine checks the budget at each guess,
+ * which costs a counter increment, a read of the token and, when there is a
+ * deadline, a call to System.nanoTime(); between two guesses the engines only
+ * propagate, which always finishes quickly.
+ *
+ * A search that runs out of budget returns SearchResult.BUDGET_EXHAUSTED (or
+ * CANCELLED if the token was cancelled) instead of throwing, with the board
+ * left as the engine was given it and whatever statistics were recorded so
+ * far.
+ *
+ * A ProgressListener can be set to hear how far the search has got, the
+ * number of guesses and the depth of the latest one, at most once per
+ * interval; it is called on the searching thread.
+ *
+ * The deadline is fixed when the budget is created, and the guesses of every
+ * search it is passed to are counted against it, so a budget is meant for one
+ * solve: create a new one for every board. A budget must only be used by one
+ * thread at a time, although its token can be shared. ParallelSolver gives
+ * each of its subtrees a share of the budget, which keeps the deadline, counts
+ * every subtree's guesses against the one limit and also stops when the
+ * original token is cancelled; its listener is then called from several
+ * threads.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public final class SearchBudget {
+
+	/**
+	 * no limit on the time or the number of guesses.
+	 */
+	public static final long UNLIMITED = Long.MAX_VALUE;
+
+	/**
+	 * number of nanoseconds in a millisecond.
+	 */
+	private static final long NANOS_PER_MILLI = 1000000;
+
+	/**
+	 * value of System.nanoTime() at which the budget runs out.
+	 */
+	private final long deadline;
+
+	/**
+	 * whether there is a deadline at all.
+	 */
+	private final boolean timed;
+
+	/**
+	 * maximum number of guesses.
+	 */
+	private final long maxGuesses;
+
+	/**
+	 * token to stop the search with, or null.
+	 */
+	private final CancellationToken token;
+
+	/**
+	 * token of the budget this one is a share of, or null.
+	 */
+	private final CancellationToken parentToken;
+
+	/**
+	 * guesses of every share of one budget, or null if this is not a share.
+	 */
+	private final AtomicLong sharedGuesses;
+
+	/**
+	 * number of guesses counted so far.
+	 */
+	private long guesses = 0;
+
+	/**
+	 * whether the deadline or the guess limit has been reached.
+	 */
+	private boolean exhausted = false;
+
+	/**
+	 * listener told about the progress of the search, or null.
+	 */
+	private ProgressListener listener;
+
+	/**
+	 * nanoseconds between two calls of the listener.
+	 */
+	private long reportInterval;
+
+	/**
+	 * value of System.nanoTime() when the listener was last called.
+	 */
+	private long lastReport;
+
+	/**
+	 * construct a budget.
+	 *
+	 * @param timeoutMillis
+	 *            milliseconds from now until the deadline, or UNLIMITED
+	 * @param maxGuesses
+	 *            maximum number of guesses, or UNLIMITED
+	 * @param token
+	 *            token to stop the search with, or null
+	 * @throws IllegalArgumentException
+	 *             if timeoutMillis or maxGuesses is negative
+	 */
+	public SearchBudget(long timeoutMillis, long maxGuesses, CancellationToken token) {
+		if (timeoutMillis < 0 || maxGuesses < 0) {
+			throw new IllegalArgumentException("Budget must not be negative: " + timeoutMillis + "ms, "
+					+ maxGuesses + " guesses");
+		}
+		/* timeouts too long to add to nanoTime() are as good as none */
+		this.timed = timeoutMillis < UNLIMITED / NANOS_PER_MILLI;
+		this.deadline = timed ? System.nanoTime() + timeoutMillis * NANOS_PER_MILLI : 0;
+		this.maxGuesses = maxGuesses;
+		this.token = token;
+		this.parentToken = null;
+		this.sharedGuesses = null;
+	}
+
+	/**
+	 * construct a share of a budget.
+	 */
+	private SearchBudget(SearchBudget parent, CancellationToken token, AtomicLong sharedGuesses) {
+		this.timed = parent.timed;
+		this.deadline = parent.deadline;
+		this.maxGuesses = parent.maxGuesses;
+		this.token = token;
+		this.parentToken = parent.token;
+		this.sharedGuesses = sharedGuesses;
+		this.listener = parent.listener;
+		this.reportInterval = parent.reportInterval;
+		this.lastReport = parent.lastReport;
+	}
+
+	/**
+	 * construct a budget without a deadline or guess limit, which only stops when
+	 * the token is cancelled.
+	 *
+	 * @param token
+	 *            token to stop the search with
+	 */
+	public SearchBudget(CancellationToken token) {
+		this(UNLIMITED, UNLIMITED, token);
+	}
+
+	/**
+	 * method to return a budget that only stops when a token is cancelled.
+	 *
+	 * @param token
+	 *            token to stop the search with, or null
+	 * @return budget, or null if there is no token
+	 */
+	static SearchBudget of(CancellationToken token) {
+		return (token == null) ? null : new SearchBudget(token);
+	}
+
+	/**
+	 * method to return a share of the budget for one of several searches running
+	 * at once.
+	 *
+	 * @param token
+	 *            token shared by the searches, to stop them all at once
+	 * @param sharedGuesses
+	 *            guesses made by all of the searches, started off at
+	 *            getGuessCount()
+	 * @return share of the budget
+	 */
+	SearchBudget share(CancellationToken token, AtomicLong sharedGuesses) {
+		return new SearchBudget(this, token, sharedGuesses);
+	}
+
+	/**
+	 * method to take back the guesses made by the shares of the budget, once
+	 * their searches have finished.
+	 *
+	 * @param sharedGuesses
+	 *            guesses made by all of the shares
+	 * @param exhausted
+	 *            whether any share ran out of budget
+	 */
+	void collect(AtomicLong sharedGuesses, boolean exhausted) {
+		this.guesses = Math.min(sharedGuesses.get(), maxGuesses);
+		this.exhausted = this.exhausted || exhausted;
+	}
+
+	/**
+	 * method called by the engines before every guess to count it against the
+	 * budget.
+	 *
+	 * @param depth
+	 *            number of guesses the new guess is nested in, counting itself
+	 * @return true if the guess may be made, false if the search must stop (see
+	 *         getStopResult())
+	 */
+	boolean guess(int depth) {
+		if (isCancelled()) {
+			return false;
+		}
+		long count = (sharedGuesses == null) ? guesses + 1 : sharedGuesses.incrementAndGet();
+		if (count > maxGuesses || (timed && System.nanoTime() - deadline >= 0)) {
+			exhausted = true;
+			return false;
+		}
+		guesses++;
+		if (listener != null) {
+			long now = System.nanoTime();
+			if (now - lastReport >= reportInterval) {
+				lastReport = now;
+				listener.progress(count, depth);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * getter to return the outcome of a search stopped by the budget.
+	 *
+	 * @return BUDGET_EXHAUSTED if the deadline or the guess limit was reached,
+	 *         otherwise CANCELLED
+	 */
+	SearchResult getStopResult() {
+		return exhausted ? SearchResult.BUDGET_EXHAUSTED : SearchResult.CANCELLED;
+	}
+
+	/**
+	 * method to determine whether the token of the budget has been cancelled.
+	 *
+	 * @return true or false
+	 */
+	public boolean isCancelled() {
+		return (token != null && token.isCancelled()) || (parentToken != null && parentToken.isCancelled());
+	}
+
+	/**
+	 * method to determine whether a search has run into the deadline or the guess
+	 * limit.
+	 *
+	 * @return true or false
+	 */
+	public boolean isExhausted() {
+		return exhausted;
+	}
+
+	/**
+	 * getter to return the number of guesses made so far.
+	 *
+	 * @return guess count
+	 */
+	public long getGuessCount() {
+		return guesses;
+	}
+
+	/**
+	 * getter to return the maximum number of guesses.
+	 *
+	 * @return guess limit, or UNLIMITED
+	 */
+	public long getMaxGuesses() {
+		return maxGuesses;
+	}
+
+	/**
+	 * getter to return the token of the budget.
+	 *
+	 * @return token, or null
+	 */
+	public CancellationToken getToken() {
+		return token;
+	}
+
+	/**
+	 * setter to hear about the progress of every following search. The listener
+	 * is called at the first guess and then at most once per interval.
+	 *
+	 * @param listener
+	 *            listener to call, or null to stop reporting
+	 * @param intervalMillis
+	 *            milliseconds between two calls
+	 */
+	public void setProgressListener(ProgressListener listener, long intervalMillis) {
+		this.listener = listener;
+		this.reportInterval = intervalMillis * NANOS_PER_MILLI;
+		this.lastReport = System.nanoTime() - reportInterval;
+	}
+
+	/**
+	 * ProgressListener interface for reports on a running search.
+	 *
+	 * @author Rachel Hatteberg, S02633540
+	 * @version 1.0, 04/27/2020 CSC-241 Student Project
+	 */
+	public interface ProgressListener {
+
+		/**
+		 * method called on the searching thread as the search goes on.
+		 *
+		 * @param guesses
+		 *            number of guesses made so far
+		 * @param depth
+		 *            number of guesses the latest guess is nested in, counting
+		 *            itself
+		 */
+		void progress(long guesses, int depth);
+	}
+
+}
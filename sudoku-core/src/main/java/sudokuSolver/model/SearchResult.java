@@ -0,0 +1,35 @@
+package sudokuSolver.model;
+
+/**
+ * Enumeration of the outcomes of a search. The search engines return these
+ * codes instead of throwing exceptions for dead ends, so that backtracking
+ * stays cheap; only the top level Solver methods turn a failed search into a
+ * SolverException.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public enum SearchResult {
+
+	/**
+	 * the board was solved.
+	 */
+	SOLVED,
+
+	/**
+	 * every possibility was tried and the board has no solution.
+	 */
+	NO_SOLUTION,
+
+	/**
+	 * the search was stopped through its CancellationToken before it finished.
+	 */
+	CANCELLED,
+
+	/**
+	 * the search ran into the deadline or the guess limit of its SearchBudget
+	 * before it finished.
+	 */
+	BUDGET_EXHAUSTED
+
+}
@@ -0,0 +1,43 @@
+package sudokuSolver.model;
+
+/**
+ * Exception thrown by the clone backtracking solver when its SearchBudget
+ * stops the search, so that the recursion unwinds straight to the top instead
+ * of backtracking to the next possibility like it does for a dead end.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class SearchStoppedException extends SolverException {
+
+	/**
+	 * serialization version of the exception.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * why the search was stopped.
+	 */
+	private final SearchResult result;
+
+	/**
+	 * construct the exception.
+	 *
+	 * @param result
+	 *            CANCELLED or BUDGET_EXHAUSTED
+	 */
+	public SearchStoppedException(SearchResult result) {
+		super(result == SearchResult.CANCELLED ? "Search was cancelled" : "Search budget exhausted");
+		this.result = result;
+	}
+
+	/**
+	 * getter to return why the search was stopped.
+	 *
+	 * @return CANCELLED or BUDGET_EXHAUSTED
+	 */
+	public SearchResult getResult() {
+		return result;
+	}
+
+}
@@ -0,0 +1,615 @@
+package sudokuSolver.model;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SolutionCache class which remembers the solutions of recently solved boards,
+ * so that a board that has been seen before is filled in without solving it
+ * again. Boards are keyed by a compact encoding of their given values (4 bits
+ * per tile packed into 6 longs) and solutions are stored as plain values, so
+ * nothing cached shares a Tile with a caller's Board. Optionally, boards can
+ * also be keyed by their canonical form, so a puzzle that is a relabelled,
+ * transposed or reordered copy of one already solved is also filled in from the
+ * cache. Only 9x9 boards are cached; boards of other sizes are passed straight
+ * through to the solver.
+ *
+ * Canonicalizing a board costs about as much as solving it, so it is only done
+ * for boards that may be equivalent to one seen before. Every board is first
+ * looked up by its own values. Then its cheap invariant key (see
+ * Canonicalizer.invariant()) is looked up among those of recently seen boards.
+ * A board whose invariant is new cannot be equivalent to any of them, so it is
+ * solved and cached under its own values. A board whose invariant has been seen
+ * is canonicalized and keyed by its canonical form. The first board seen with
+ * that invariant is then canonicalized too, and its solution cached under its
+ * canonical key, so the second board of every equivalence class already finds
+ * it. A board with no canonical form (see Canonicalizer.canonicalize()) is
+ * keyed by its own values. Such a key holds the solution as the board reads;
+ * a canonical key holds the solution in canonical form. The two can never
+ * disagree: a board whose own key equals another's canonical key is that
+ * board's canonical form.
+ *
+ * The cache holds at most a fixed number of solutions and evicts the least
+ * recently used one when it is full. It is safe to use from many threads: the
+ * entries are spread over independently locked segments, and the hit, miss and
+ * eviction counters are kept without locking. Two threads missing on the same
+ * board at the same time both solve it; the second solution simply replaces
+ * the first. The invariants of the boards seen are kept the same way, for as
+ * many boards as the cache holds solutions; a board whose invariant has been
+ * forgotten is keyed by its own values again.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class SolutionCache {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * The sudoku board dimensions (9x9 grid).
+	 */
+	private static final int BOARD_DIMENSIONS = 9;
+
+	/**
+	 * number of bits used per tile in a key.
+	 */
+	private static final int BITS_PER_TILE = 4;
+
+	/**
+	 * number of tiles packed into each long of a key.
+	 */
+	private static final int TILES_PER_WORD = Long.SIZE / BITS_PER_TILE;
+
+	/**
+	 * number of independently locked segments of a large cache.
+	 */
+	private static final int SEGMENTS = 16;
+
+	/**
+	 * smallest capacity per segment before the cache uses a single segment.
+	 */
+	private static final int MIN_SEGMENT_CAPACITY = 4;
+
+	/**
+	 * marker for an invariant key whose first board has been canonicalized. It is
+	 * only ever compared by reference.
+	 */
+	private static final Key CANONICAL = new Key(new Board());
+
+	/**
+	 * maximum number of solutions held.
+	 */
+	private final int capacity;
+
+	/**
+	 * whether boards are keyed by their canonical form (see Canonicalizer), so
+	 * that symmetry equivalent boards share one solution.
+	 */
+	private final boolean canonicalize;
+
+	/**
+	 * the segments, each an access ordered map holding up to its share of the
+	 * capacity.
+	 */
+	private final Segment segments[];
+
+	/**
+	 * the invariant keys of the boards seen, each mapped to the key of the first
+	 * board seen with it, or to CANONICAL once that board has been canonicalized;
+	 * null unless boards are canonicalized.
+	 */
+	private final InvariantSegment invariants[];
+
+	/**
+	 * number of lookups that found a solution.
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * number of lookups that did not find a solution.
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * number of solutions evicted to make room for newer ones.
+	 */
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * construct a solution cache.
+	 *
+	 * @param capacity
+	 *            maximum number of solutions held
+	 */
+	public SolutionCache(int capacity) {
+		this(capacity, false);
+	}
+
+	/**
+	 * construct a solution cache that can also recognize boards that are
+	 * symmetry equivalent to one already solved. Such boards are keyed by their
+	 * canonical form, and the cached solution is stored in canonical form and
+	 * transformed back for every board that finds it. Only boards that share an
+	 * invariant key with a board seen before are canonicalized.
+	 *
+	 * @param capacity
+	 *            maximum number of solutions held
+	 * @param canonicalize
+	 *            true to key boards by their canonical form
+	 */
+	public SolutionCache(int capacity, boolean canonicalize) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+		}
+		this.capacity = capacity;
+		this.canonicalize = canonicalize;
+		int count = (capacity >= SEGMENTS * MIN_SEGMENT_CAPACITY) ? SEGMENTS : 1;
+		segments = new Segment[count];
+		invariants = canonicalize ? new InvariantSegment[count] : null;
+		for (int s = 0; s < count; s++) {
+			/* spread the capacity so that the segments add up to exactly capacity */
+			int segmentCapacity = capacity / count + ((s < capacity % count) ? 1 : 0);
+			segments[s] = new Segment(segmentCapacity);
+			if (canonicalize) {
+				invariants[s] = new InvariantSegment(segmentCapacity);
+			}
+		}
+	}
+
+	/**
+	 * method to solve a board, filling it in from the cache if its given values
+	 * have been solved before, and otherwise solving it with the workspace and
+	 * remembering the solution.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @param workspace
+	 *            workspace to solve the board with on a miss
+	 * @param engine
+	 *            engine to solve the board with on a miss
+	 * @return solved board: the board passed in when it was found in the cache,
+	 *         otherwise whatever the engine returns
+	 * @throws SolverException
+	 *             if the board has no solution; failures are not cached
+	 */
+	public Board solve(Board board, SolverWorkspace workspace, SolverEngine engine) throws SolverException {
+		return solve(board, workspace, engine, null);
+	}
+
+	/**
+	 * overloaded solve method which adds what the engine did on a miss to the
+	 * statistics.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @param workspace
+	 *            workspace to solve the board with on a miss
+	 * @param engine
+	 *            engine to solve the board with on a miss
+	 * @param stats
+	 *            statistics to add to, or null to record nothing
+	 * @return solved board: the board passed in when it was found in the cache,
+	 *         otherwise whatever the engine returns
+	 * @throws SolverException
+	 *             if the board has no solution; failures are not cached
+	 */
+	public Board solve(Board board, SolverWorkspace workspace, SolverEngine engine, SolverStats stats)
+			throws SolverException {
+		if (board.getBoxSize() != Board.DEFAULT_BOX_SIZE) {
+			return workspace.solve(board, engine, stats);
+		}
+		Key own = new Key(board);
+		if (fill(board, own, null)) {
+			return board;
+		}
+		BoardTransform transform = transformOf(board, own);
+		Key key = (transform == null) ? own : keyOf(board, transform);
+		if (transform != null && fill(board, key, transform)) {
+			return board;
+		}
+		misses.increment();
+		Board solution = workspace.solve(board, engine, stats);
+		put(key, solution, transform);
+		return solution;
+	}
+
+	/**
+	 * method to fill in a board from the cache.
+	 *
+	 * @param board
+	 *            board being filled in
+	 * @return true if the board's given values were found in the cache
+	 */
+	public boolean fill(Board board) {
+		if (board.getBoxSize() != Board.DEFAULT_BOX_SIZE) {
+			return false;
+		}
+		Key own = new Key(board);
+		if (fill(board, own, null)) {
+			return true;
+		}
+		BoardTransform transform = transformOf(board, own);
+		if (transform != null && fill(board, keyOf(board, transform), transform)) {
+			return true;
+		}
+		misses.increment();
+		return false;
+	}
+
+	/**
+	 * method to remember the solution of a board. Boards other than 9x9 are not
+	 * remembered.
+	 *
+	 * @param givens
+	 *            board holding only the given values
+	 * @param solution
+	 *            solved board
+	 */
+	public void put(Board givens, Board solution) {
+		if (givens.getBoxSize() != Board.DEFAULT_BOX_SIZE) {
+			return;
+		}
+		Key own = new Key(givens);
+		BoardTransform transform = transformOf(givens, own);
+		put((transform == null) ? own : keyOf(givens, transform), solution, transform);
+	}
+
+	/**
+	 * method to return the transform of a board to its canonical form, or null if
+	 * the board is keyed by its own values: when this cache does not canonicalize
+	 * boards, when no board with the same invariant key has been seen, or when the
+	 * board has no canonical form. The first time a second board turns up with an
+	 * invariant key, the first board's solution is cached under its canonical key
+	 * as well.
+	 *
+	 * @param board
+	 *            board being looked up
+	 * @param own
+	 *            key of the board's own values
+	 */
+	private BoardTransform transformOf(Board board, Key own) {
+		if (!canonicalize) {
+			return null;
+		}
+		long invariant = Canonicalizer.invariant(board);
+		InvariantSegment segment = invariants[(int) ((invariant >>> 16) % invariants.length)];
+		Key first = segment.firstSeen(invariant, own);
+		if (first == null || first.equals(own)) {
+			return null;
+		}
+		Canonicalizer.CanonicalForm form = Canonicalizer.canonicalize(board);
+		if (first != CANONICAL) {
+			canonicalizeFirst(first);
+			segment.canonicalized(invariant);
+		}
+		return (form == null) ? null : form.getTransform();
+	}
+
+	/**
+	 * method to cache the solution of the first board seen with an invariant key
+	 * under its canonical key, if it is still cached.
+	 */
+	private void canonicalizeFirst(Key first) {
+		byte solution[] = segmentFor(first).getSolution(first);
+		if (solution == null) {
+			return;
+		}
+		Board givens = first.toBoard();
+		Canonicalizer.CanonicalForm form = Canonicalizer.canonicalize(givens);
+		if (form != null) {
+			put(keyOf(givens, form.getTransform()), boardOf(solution), form.getTransform());
+		}
+	}
+
+	/**
+	 * method to return the key of a board, after transforming it if there is a
+	 * transform.
+	 */
+	private static Key keyOf(Board board, BoardTransform transform) {
+		return new Key((transform == null) ? board : transform.apply(board));
+	}
+
+	/**
+	 * method to fill in the empty tiles of a board from the cached solution of its
+	 * key, transforming the solution back first if there is a transform. Hits are
+	 * counted here; the callers count a miss once every key has been tried.
+	 */
+	private boolean fill(Board board, Key key, BoardTransform transform) {
+		byte solution[] = segmentFor(key).getSolution(key);
+		if (solution == null) {
+			return false;
+		}
+		hits.increment();
+		if (transform != null) {
+			solution = valuesOf(transform.invert(boardOf(solution)));
+		}
+		for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+			for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+				if (board.getValue(i, j) == MISSING_VALUE) {
+					board.setValue(i, j, solution[i * BOARD_DIMENSIONS + j]);
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * method to copy the values of a solution into the segment of its key,
+	 * transforming the solution first if there is a transform.
+	 */
+	private void put(Key key, Board solution, BoardTransform transform) {
+		segmentFor(key).putSolution(key, valuesOf((transform == null) ? solution : transform.apply(solution)));
+	}
+
+	/**
+	 * method to copy the values of a board.
+	 */
+	private static byte[] valuesOf(Board board) {
+		byte values[] = new byte[BOARD_DIMENSIONS * BOARD_DIMENSIONS];
+		for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+			for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+				values[i * BOARD_DIMENSIONS + j] = (byte) board.getValue(i, j);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * method to build a board from copied values.
+	 */
+	private static Board boardOf(byte values[]) {
+		Board board = new Board();
+		for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+			for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+				board.setValue(i, j, values[i * BOARD_DIMENSIONS + j]);
+			}
+		}
+		return board;
+	}
+
+	/**
+	 * method to return the segment holding a key.
+	 */
+	private Segment segmentFor(Key key) {
+		return segments[(key.hash >>> 16) % segments.length];
+	}
+
+	/**
+	 * getter to return the maximum number of solutions held.
+	 *
+	 * @return capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * getter to return the number of solutions currently held.
+	 *
+	 * @return size
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * getter to return the number of lookups that found a solution.
+	 *
+	 * @return hit count
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * getter to return the number of lookups that did not find a solution.
+	 *
+	 * @return miss count
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * getter to return the number of solutions evicted to make room for newer
+	 * ones.
+	 *
+	 * @return eviction count
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * overridden toString() method to return the cache statistics.
+	 */
+	@Override
+	public String toString() {
+		return "SolutionCache[size=" + size() + "/" + capacity + ", hits=" + getHitCount() + ", misses="
+				+ getMissCount() + ", evictions=" + getEvictionCount() + "]";
+	}
+
+	/**
+	 * Segment class holding part of the cache in least recently used order.
+	 */
+	private final class Segment extends LinkedHashMap<Key, byte[]> {
+
+		/**
+		 * serial version UID.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * maximum number of solutions held by this segment.
+		 */
+		private final int segmentCapacity;
+
+		/**
+		 * construct a segment.
+		 */
+		private Segment(int segmentCapacity) {
+			super(16, 0.75f, true);
+			this.segmentCapacity = segmentCapacity;
+		}
+
+		/**
+		 * method to look up a solution, marking it as most recently used.
+		 */
+		private synchronized byte[] getSolution(Key key) {
+			return super.get(key);
+		}
+
+		/**
+		 * method to add a solution, evicting the least recently used one if the
+		 * segment is full.
+		 */
+		private synchronized void putSolution(Key key, byte values[]) {
+			super.put(key, values);
+		}
+
+		/**
+		 * overridden removeEldestEntry() method to bound the segment's size.
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, byte[]> eldest) {
+			if (size() > segmentCapacity) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * InvariantSegment class holding part of the invariant keys of the boards
+	 * seen, in least recently used order.
+	 */
+	private static final class InvariantSegment extends LinkedHashMap<Long, Key> {
+
+		/**
+		 * serial version UID.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * maximum number of invariant keys held by this segment.
+		 */
+		private final int segmentCapacity;
+
+		/**
+		 * construct a segment.
+		 */
+		private InvariantSegment(int segmentCapacity) {
+			super(16, 0.75f, true);
+			this.segmentCapacity = segmentCapacity;
+		}
+
+		/**
+		 * method to look up an invariant key, remembering the board's key as the
+		 * first seen with it if it is new.
+		 *
+		 * @return null if the invariant key is new, otherwise the key of the first
+		 *         board seen with it, or CANONICAL
+		 */
+		private synchronized Key firstSeen(long invariant, Key own) {
+			return super.putIfAbsent(invariant, own);
+		}
+
+		/**
+		 * method to record that the first board seen with an invariant key has been
+		 * canonicalized.
+		 */
+		private synchronized void canonicalized(long invariant) {
+			super.put(invariant, CANONICAL);
+		}
+
+		/**
+		 * overridden removeEldestEntry() method to bound the segment's size.
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Key> eldest) {
+			return size() > segmentCapacity;
+		}
+	}
+
+	/**
+	 * Key class holding the given values of a board, 4 bits per tile.
+	 */
+	private static final class Key {
+
+		/**
+		 * the packed values, tile (i * 9 + j) in bits 4 * (tile % 16) of word
+		 * tile / 16, with 0 for an empty tile.
+		 */
+		private final long words[] = new long[(BOARD_DIMENSIONS * BOARD_DIMENSIONS + TILES_PER_WORD - 1)
+				/ TILES_PER_WORD];
+
+		/**
+		 * hash of the packed values.
+		 */
+		private final int hash;
+
+		/**
+		 * construct the key of a board's values.
+		 */
+		private Key(Board board) {
+			int tile = 0;
+			for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+				for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+					int value = board.getValue(i, j);
+					if (value != MISSING_VALUE) {
+						words[tile / TILES_PER_WORD] |= (long) value << (BITS_PER_TILE * (tile % TILES_PER_WORD));
+					}
+					tile++;
+				}
+			}
+			long h = 0;
+			for (long word : words) {
+				h = (h + word) * 0x9E3779B97F4A7C15L;
+			}
+			hash = (int) (h ^ (h >>> 32));
+		}
+
+		/**
+		 * method to build a new board holding the values of the key.
+		 */
+		private Board toBoard() {
+			Board board = new Board();
+			for (int tile = 0; tile < BOARD_DIMENSIONS * BOARD_DIMENSIONS; tile++) {
+				int value = (int) (words[tile / TILES_PER_WORD] >>> (BITS_PER_TILE * (tile % TILES_PER_WORD))) & 0xF;
+				if (value != 0) {
+					board.setValue(tile / BOARD_DIMENSIONS, tile % BOARD_DIMENSIONS, value);
+				}
+			}
+			return board;
+		}
+
+		/**
+		 * overridden hashCode() method.
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/**
+		 * overridden equals() method comparing the packed values.
+		 */
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Key && hash == ((Key) other).hash && Arrays.equals(words, ((Key) other).words);
+		}
+	}
+
+}
@@ -0,0 +1,764 @@
+package sudokuSolver.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Solver class which provides a multi-faceted sudoku solving mechanism for all
+ * ranges of difficulty from easy to evil. This class can be broken into two
+ * main parts: the heuristic solver and the recursive, brute force solver. For
+ * easy puzzles, the heuristic solver is usually all that is needed to solve the
+ * problem; however, difficult and evil puzzles can be started using the
+ * heuristic, but will need to be completed using a brute-force methodology.
+ *
+ * A mixed approach was implemented for personal enjoyment in trying to apply
+ * personal solving techniques into this algorithm, but with the understanding
+ * that I lack understanding of how to humanly solve such a difficult problem,
+ * brute force is needed to finish the job.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class Solver {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static int MISSING_VALUE = -1;
+
+	/**
+	 * Message dialogue which will appear if there is no valid solution found.
+	 */
+	private static final String NO_SOLUTION_WARNING = "No valid solution found!";
+
+	/**
+	 * Message denoting unknown entity to evaluate.
+	 */
+	private static final String UNKNOWN_STRING = "Cannot determine what to evaluate";
+
+	/**
+	 * unique possibility in shared tiles' lists of possibilities.
+	 */
+	private static final int UNIQUE_POSSIBILITY = 1;
+
+	/**
+	 * there are no possibilities for the specified tile.
+	 */
+	private static final int NO_POSSIBILITIES = 0;
+
+	/**
+	 * String representation of ROW
+	 */
+	private static final String ROW = "ROW";
+
+	/**
+	 * String representation of ROW
+	 */
+	private static final String COLUMN = "COLUMN";
+
+	/**
+	 * String representation of LOCAL_GROUP
+	 */
+	private static final String LOCAL_GROUP = "LG";
+
+	/**
+	 * high level solver method to solve a board with the chosen engine. Callers
+	 * solving many boards on one thread should keep a SolverWorkspace instead, so
+	 * the engines' scratch state is reused.
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @param engine
+	 *            engine used to solve the board
+	 * @return board completed board
+	 * @throws SolverException
+	 */
+	public static Board solve(Board board, SolverEngine engine) throws SolverException {
+		return new SolverWorkspace().solve(board, engine);
+	}
+
+	/**
+	 * high level solver method to solve a board with the chosen engine and add
+	 * what the engine did to the statistics (see SolverStats).
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @param engine
+	 *            engine used to solve the board
+	 * @param stats
+	 *            statistics to add to, or null to record nothing
+	 * @return board completed board
+	 * @throws SolverException
+	 */
+	public static Board solve(Board board, SolverEngine engine, SolverStats stats) throws SolverException {
+		return new SolverWorkspace().solve(board, engine, stats);
+	}
+
+	/**
+	 * high level solver method to solve a board with the chosen engine within a
+	 * budget (see SearchBudget). Instead of throwing, it returns whether the
+	 * board was solved, has no solution, or the budget ran out first; the
+	 * statistics hold what the engine did up to then.
+	 *
+	 * @param board
+	 *            board being worked on, filled in with the solution if one is
+	 *            found
+	 * @param engine
+	 *            engine used to solve the board
+	 * @param stats
+	 *            statistics to add to, or null to record nothing
+	 * @param budget
+	 *            deadline, guess limit and cancellation token of the solve, or
+	 *            null for none
+	 * @return SOLVED, NO_SOLUTION, CANCELLED or BUDGET_EXHAUSTED
+	 */
+	public static SearchResult solve(Board board, SolverEngine engine, SolverStats stats, SearchBudget budget) {
+		return new SolverWorkspace().solve(board, engine, stats, budget);
+	}
+
+	/**
+	 * high level solver method to call the heuristic solver and, if needed, finish
+	 * the board with the trail based backtracking solver (see TrailSolver).
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @return board completed board
+	 * @throws SolverException
+	 */
+	public static Board solve(Board board) throws SolverException {
+		return solve(board, SolverEngine.HEURISTIC);
+	}
+
+	/**
+	 * high level method to check whether a board is a proper puzzle: it returns
+	 * NONE, UNIQUE or MULTIPLE (with two different solutions as witnesses), and
+	 * stops searching as soon as a second solution is found. The board is left as
+	 * it was passed in. Callers checking many boards on one thread should keep a
+	 * SolverWorkspace instead.
+	 *
+	 * @param board
+	 *            board being evaluated
+	 * @return the uniqueness of the board, with the solutions found
+	 */
+	public static UniquenessResult checkUniqueness(Board board) {
+		return new SolverWorkspace().checkUniqueness(board);
+	}
+
+	/**
+	 * solver method to call the heuristic solver and, if needed, call the brute
+	 * force recursive solver which clones the board for every guess. Kept as the
+	 * reference implementation to compare the other engines against.
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @return board completed board
+	 * @throws SolverException
+	 */
+	public static Board cloneBacktrackingSolve(Board board) throws SolverException {
+		return cloneBacktrackingSolve(board, null);
+	}
+
+	/**
+	 * overloaded cloneBacktrackingSolve method which also records what the
+	 * solvers did.
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @param stats
+	 *            statistics to add to, or null
+	 * @return board completed board
+	 * @throws SolverException
+	 */
+	public static Board cloneBacktrackingSolve(Board board, SolverStats stats) throws SolverException {
+		return cloneBacktrackingSolve(board, stats, Collections.emptySet());
+	}
+
+	/**
+	 * overloaded cloneBacktrackingSolve method which also applies the chosen
+	 * elimination techniques in every heuristic pass (see Technique).
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @param stats
+	 *            statistics to add to, or null
+	 * @param techniques
+	 *            elimination techniques to apply besides the singles
+	 * @return board completed board
+	 * @throws SolverException
+	 */
+	public static Board cloneBacktrackingSolve(Board board, SolverStats stats, Set<Technique> techniques)
+			throws SolverException {
+		return cloneBacktrackingSolve(board, stats, techniques, null);
+	}
+
+	/**
+	 * overloaded cloneBacktrackingSolve method which counts every guess against a
+	 * budget (see SearchBudget) and gives up once it runs out.
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @param stats
+	 *            statistics to add to, or null
+	 * @param techniques
+	 *            elimination techniques to apply besides the singles
+	 * @param budget
+	 *            budget of the search, or null for none
+	 * @return board completed board
+	 * @throws SearchStoppedException
+	 *             if the budget ran out before the search finished
+	 * @throws SolverException
+	 *             if the board has no solution
+	 */
+	public static Board cloneBacktrackingSolve(Board board, SolverStats stats, Set<Technique> techniques,
+			SearchBudget budget) throws SolverException {
+		Board finalBoard = null;
+		if (!board.isConsistent())
+			throw new SolverException(NO_SOLUTION_WARNING);
+		Board resultBoard = heuristicSolver(board, stats, techniques);
+		if (resultBoard.isSolved())
+			return resultBoard;
+		Tile t = findNextTile(resultBoard);
+		int nextPos = t.pollPossibility();
+		if (nextPos == MISSING_VALUE) {
+			throw new SolverException(NO_SOLUTION_WARNING);
+		}
+		finalBoard = recursiveBruteForce(resultBoard, t, nextPos, stats, techniques, budget, 1);
+		if (finalBoard == null)
+			throw new SolverException(NO_SOLUTION_WARNING);
+
+		return finalBoard;
+	}
+
+	/**
+	 * method to evaluate a board and try to find as many correct values to insert
+	 * into tiles as possible. This method uses human approaches to solving the
+	 * sudoku puzzle.
+	 *
+	 * @param board
+	 *            the initial board prior to being passed through the solver.
+	 * @return board an instance of the board after passed through the solver.
+	 * @throws SolverException
+	 */
+	public static Board heuristicSolver(Board board) throws SolverException {
+		return heuristicSolver(board, null);
+	}
+
+	/**
+	 * overloaded heuristicSolver method which also records the values placed and
+	 * possibilities eliminated by each technique, the time spent in it and the
+	 * number of passes. Nothing is recorded when stats is null.
+	 *
+	 * @param board
+	 *            the initial board prior to being passed through the solver.
+	 * @param stats
+	 *            statistics to add to, or null
+	 * @return board an instance of the board after passed through the solver.
+	 * @throws SolverException
+	 */
+	public static Board heuristicSolver(Board board, SolverStats stats) throws SolverException {
+		return heuristicSolver(board, stats, Collections.emptySet());
+	}
+
+	/**
+	 * overloaded heuristicSolver method which also applies the chosen elimination
+	 * techniques (see Technique) whenever the singles find nothing more. Each
+	 * tile's possibilities are started off from the board and then only ever
+	 * narrowed, so eliminations carry over to the following passes.
+	 *
+	 * @param board
+	 *            the initial board prior to being passed through the solver.
+	 * @param stats
+	 *            statistics to add to, or null
+	 * @param techniques
+	 *            elimination techniques to apply besides the singles
+	 * @return board an instance of the board after passed through the solver.
+	 * @throws SolverException
+	 */
+	public static Board heuristicSolver(Board board, SolverStats stats, Set<Technique> techniques)
+			throws SolverException {
+		int dimensions = board.getDimensions();
+		/* start every empty tile off with the possibilities left on the board */
+		for (int i = 0; i < dimensions; i++) {
+			for (int j = 0; j < dimensions; j++) {
+				Tile curTile = board.getTile(i, j);
+				if (curTile.getValue() == MISSING_VALUE) {
+					curTile.setPossibilities(getPossibilities(board, curTile));
+				}
+			}
+		}
+		EliminationSteps steps = techniques.isEmpty() ? null : new EliminationSteps();
+		EliminationSteps.Candidates candidates = techniques.isEmpty() ? null : heuristicCandidates(board);
+		/*
+		 * flag will hold status of whether the heuristic solver has been able to find
+		 * any new answers to be put into the board. The solver will continue until the
+		 * flag is set to false.
+		 */
+		boolean found = true;
+		while (found) {
+			found = false;
+			long start = 0;
+			if (stats != null) {
+				stats.pass();
+				start = System.nanoTime();
+			}
+			for (int i = 0; i < dimensions; i++) {
+				for (int j = 0; j < dimensions; j++) {
+					Tile curTile = board.getTile(i, j);
+					/* if curTile is empty, then we need to find a solution for it! */
+					if (curTile.getValue() == MISSING_VALUE) {
+						/* get all possibilities left for the current tile */
+						int possible = curTile.getPossibilities() & getPossibilities(board, curTile);
+						curTile.setPossibilities(possible);
+						if (CandidateMask.count(possible) == NO_POSSIBILITIES) {
+							throw new SolverException(NO_SOLUTION_WARNING);
+						}
+						/* if there is only one unique possibility in the mask,
+						 * then set the value to the curTile and set the found flag
+						 * to true since we found something
+						 */
+						if (CandidateMask.count(possible) == UNIQUE_POSSIBILITY) {
+							found = true;
+							int value = curTile.pollPossibility();
+							if (stats != null) {
+								stats.placed(Technique.NAKED_SINGLE, 1);
+								stats.eliminated(Technique.NAKED_SINGLE, countEliminations(board, curTile, value));
+							}
+							board.setValue(i, j, value);
+							break;
+						}
+					}
+				}
+			}
+			if (stats != null) {
+				stats.timed(Technique.NAKED_SINGLE, System.nanoTime() - start);
+			}
+
+			try {
+
+				/*
+				 * make successive calls to evaluate tiles by groups (i.e. row, column,
+				 * localgroup). These method calls are an attempt to heuristically solve the
+				 * puzzle even further before moving on to the brute-force method.
+				 */
+
+				/*
+				 * if evaluateTileGroupNumbers returns true, leave found as true, otherwise
+				 * found remains original bool.
+				 */
+				found = evaluateTileGroupNumbers(board, ROW, stats) ? true : found;
+				found = evaluateTileGroupNumbers(board, COLUMN, stats) ? true : found;
+				found = evaluateTileGroupNumbers(board, LOCAL_GROUP, stats) ? true : found;
+
+			} catch (SolverException e) {
+				e.printStackTrace();
+			}
+
+			/*
+			 * once the singles find nothing more, eliminate possibilities with the
+			 * stronger techniques, cheapest first, and go round again if any were.
+			 */
+			if (!found && steps != null) {
+				found = steps.apply(board.getGrid(), candidates, techniques, stats);
+			}
+		}
+		return board;
+	}
+
+	/**
+	 * method to return the possibilities the heuristic solver works with: each
+	 * tile's own possibilities, without the values already used by its row,
+	 * column and local group.
+	 *
+	 * @param board
+	 *            current board
+	 * @return possibilities of the board's empty tiles
+	 */
+	private static EliminationSteps.Candidates heuristicCandidates(Board board) {
+		CompactBoard grid = board.getGrid();
+		int range = CandidateMask.full(grid.getDimensions());
+		return new EliminationSteps.Candidates() {
+			@Override
+			public int get(int cell) {
+				return grid.getPossibilities(cell) & range & ~grid.getUsedValues(cell);
+			}
+
+			@Override
+			public void set(int cell, int possibilities) {
+				grid.setPossibilities(cell, possibilities);
+			}
+		};
+	}
+
+	/**
+	 * method to evaluate tiles within individual group (i.e. row, column, local
+	 * group). The tiles' possibilities must have been started off by
+	 * heuristicSolver(), and are narrowed to what is left on the board.
+	 *
+	 * @param board
+	 *            current board
+	 * @param str
+	 *            representation of which group to evaluate
+	 * @return true or false depending on whether a value was found for any number
+	 *         of tiles.
+	 * @throws SolverException
+	 */
+	public static boolean evaluateTileGroupNumbers(Board board, String str) throws SolverException {
+		return evaluateTileGroupNumbers(board, str, null);
+	}
+
+	/**
+	 * overloaded evaluateTileGroupNumbers method which also records the values
+	 * placed, the possibilities eliminated and the time spent.
+	 *
+	 * @param board
+	 *            current board
+	 * @param str
+	 *            representation of which group to evaluate
+	 * @param stats
+	 *            statistics to add to, or null
+	 * @return true or false depending on whether a value was found for any number
+	 *         of tiles.
+	 * @throws SolverException
+	 */
+	public static boolean evaluateTileGroupNumbers(Board board, String str, SolverStats stats)
+			throws SolverException {
+		long start = (stats != null) ? System.nanoTime() : 0;
+
+		/*
+		 * found flag will determine whether the heuristic solver will continue
+		 * evaluating. first set to false, and will be set to true if a solution has
+		 * been found for any tile.
+		 */
+		boolean found = false;
+
+		/*
+		 * set method call to func if matches string parameter so we only have to call
+		 * the method we want.
+		 */
+		Function<Integer, List<Tile>> func;
+		Technique technique;
+		switch (str) {
+		case ROW:
+			func = (Integer) -> board.getRowTiles(Integer);
+			technique = Technique.HIDDEN_SINGLE_ROW;
+			break;
+		case COLUMN:
+			func = (Integer) -> board.getColTiles(Integer);
+			technique = Technique.HIDDEN_SINGLE_COLUMN;
+			break;
+		case LOCAL_GROUP:
+			func = (Integer) -> board.getLocalGroupTiles(Integer);
+			technique = Technique.HIDDEN_SINGLE_LOCAL_GROUP;
+			break;
+		default:
+			throw new SolverException(UNKNOWN_STRING);
+		}
+
+		/*
+		 * loop over each tile in group being evaluated and find all of the
+		 * possibilities for each tile.
+		 */
+		for (int i = 0; i < board.getDimensions(); i++) {
+			List<Tile> tileGroup = func.apply(i);
+			/*
+			 * seenOnce holds every possibility found in at least one tile of the group,
+			 * seenTwice every possibility found in at least two of them.
+			 */
+			int seenOnce = CandidateMask.EMPTY;
+			int seenTwice = CandidateMask.EMPTY;
+			for (Tile t : tileGroup) {
+				if (t.getValue() == MISSING_VALUE) {
+					int possible = t.getPossibilities() & getPossibilities(board, t);
+					t.setPossibilities(possible);
+					seenTwice |= seenOnce & possible;
+					seenOnce |= possible;
+				}
+			}
+			int unique = seenOnce & ~seenTwice;
+			/*
+			 * using the masks of possibilities for each tile, evaluate whether any tile
+			 * has a unique possibility, if so, set the possibility/value to the tile.
+			 * Last, remove the possibility from the other shared tiles' possibilities.
+			 */
+			for (Tile t : tileGroup) {
+				if (t.getValue() == MISSING_VALUE) {
+					int poss = CandidateMask.lowest(t.getPossibilities() & unique);
+					/*
+					 * found a unique possibility amongst shared tiles' possibilities. set that
+					 * value to the tile.
+					 */
+					if (poss != MISSING_VALUE) {
+						if (stats != null) {
+							stats.placed(technique, 1);
+							stats.eliminated(technique, countEliminations(board, t, poss));
+						}
+						if (!board.setValue(t.getX(), t.getY(), poss)) {
+							throw new SolverException(NO_SOLUTION_WARNING);
+						}
+						t.setPossibilities(CandidateMask.EMPTY);
+						/* set found flag to true since we found something */
+						found = true;
+						/*
+						 * remove the set value from the shared tiles' possibilities.
+						 */
+						board.getGrid().eliminateFromPeers(t.getCell(), poss);
+					}
+				}
+			}
+		}
+		if (stats != null) {
+			stats.timed(technique, System.nanoTime() - start);
+		}
+		/* did we find anything? */
+		return found;
+	}
+
+	/**
+	 * Recursive method to finish solving the sudoku puzzle at hand. The method
+	 * accepts an instance of the current sudoku board, the current tile being
+	 * worked on, and a single possibility of which the tile's value will try to be
+	 * set with. The methodology of this solver is to set a possible value to a tile
+	 * and pass the updated board back into the heuristic solver and see if the
+	 * heuristic solver can find a solution. If not, then it backtracks to the
+	 * original board and tries setting the next possibility to the tile and trying
+	 * again until a solution is found.
+	 *
+	 * @param board
+	 *            current instance of board
+	 * @param tile
+	 *            current tile being worked on
+	 * @param poss
+	 *            possible value which is being set to the tile
+	 *
+	 * @return an instance of the Board
+	 * @throws SolverException
+	 */
+	public static Board recursiveBruteForce(Board board, Tile tile, int poss) throws SolverException {
+		return recursiveBruteForce(board, tile, poss, null, Collections.emptySet(), null, 1);
+	}
+
+	/**
+	 * recursive method behind recursiveBruteForce(), which also records the
+	 * guesses, backtracks and depth of the search and counts every guess against
+	 * the budget.
+	 *
+	 * @param board
+	 *            current instance of board
+	 * @param tile
+	 *            current tile being worked on
+	 * @param poss
+	 *            possible value which is being set to the tile
+	 * @param stats
+	 *            statistics to add to, or null
+	 * @param techniques
+	 *            elimination techniques to apply besides the singles
+	 * @param budget
+	 *            budget of the search, or null
+	 * @param depth
+	 *            number of guesses this guess is nested in, counting itself
+	 * @return an instance of the Board
+	 * @throws SearchStoppedException
+	 *             if the budget ran out
+	 * @throws SolverException
+	 */
+	private static Board recursiveBruteForce(Board board, Tile tile, int poss, SolverStats stats,
+			Set<Technique> techniques, SearchBudget budget, int depth) throws SolverException {
+		if (budget != null && !budget.guess(depth)) {
+			throw new SearchStoppedException(budget.getStopResult());
+		}
+		if (stats != null) {
+			stats.guessed(depth);
+		}
+		/* make clone of board */
+		Board attemptedBoard = null;
+		try {
+			attemptedBoard = (Board) board.clone();
+		} catch (CloneNotSupportedException e1) {
+			e1.printStackTrace();
+		}
+		/*
+		 * start attempting to solve the remaining puzzle by setting a possible value
+		 * poss to attempted board and try passing newly updated board into the heuristic
+		 * solver.
+		 */
+		try {
+			/* a possibility colliding with a shared tile is a dead end straight away */
+			if (!attemptedBoard.setValue(tile.getX(), tile.getY(), poss)) {
+				throw new SolverException(NO_SOLUTION_WARNING);
+			}
+			/*
+			 * enter into heuristic solver with setting tile to be first element in poss
+			 */
+			attemptedBoard = heuristicSolver(attemptedBoard, stats, techniques);
+
+			/* heuristicSolver will return a SolverException if a dead end was found */
+		} catch (SolverException e) {
+			if (stats != null) {
+				stats.backtracked();
+			}
+			if (tile.getPossibilityCount() == NO_POSSIBILITIES) {
+				throw new SolverException(NO_SOLUTION_WARNING);
+			} else {
+				int nextPos = tile.pollPossibility();
+				return recursiveBruteForce(board, tile, nextPos, stats, techniques, budget, depth);
+			}
+		}
+		/* check whether the board has been solved or not before continuing */
+		if (!attemptedBoard.isSolved()) {
+			Tile newtile = findNextTile(attemptedBoard, tile);
+			try {
+				/* recursive call with next tile and a possibility to try */
+				return recursiveBruteForce(attemptedBoard, newtile, newtile.pollPossibility(), stats, techniques,
+						budget, depth + 1);
+			} catch (SearchStoppedException e) {
+				/* the budget ran out, so give up instead of backtracking */
+				throw e;
+			} catch (SolverException e) {
+				/*
+				 * attempt recursive method call again by backtracking to original board and
+				 * tile and try the next possibility in the mask of possibilities. If the
+				 * tile has run out of possibilities, let the caller backtrack instead.
+				 */
+				if (stats != null) {
+					stats.backtracked();
+				}
+				if (tile.getPossibilityCount() == NO_POSSIBILITIES) {
+					throw new SolverException(NO_SOLUTION_WARNING);
+				}
+				return recursiveBruteForce(board, tile, tile.pollPossibility(), stats, techniques, budget, depth);
+			}
+		}
+		return attemptedBoard;
+	}
+
+	/**
+	 * method to retrieve a list of tiles connected to a specific tile. More
+	 * specifically, it will return the other tiles of the row, column, and local
+	 * group that the tile is associated with, each of them once (20 tiles on a
+	 * 9x9 board).
+	 *
+	 * @param board
+	 *            current board being worked on
+	 * @param tile
+	 *            current tile being evaluated
+	 * @return tile list list of shared tiles among the rows, columns, and local
+	 *         groups
+	 */
+	public static List<Tile> getAllSharedTiles(Board board, Tile tile) {
+		BoardLayout layout = board.getGrid().getLayout();
+		int peers[] = layout.getPeers(layout.getCell(tile.getX(), tile.getY()));
+		List<Tile> allSharedTiles = new ArrayList<>(peers.length);
+		for (int p : peers) {
+			allSharedTiles.add(board.getTile(layout.getRow(p), layout.getCol(p)));
+		}
+		return allSharedTiles;
+	}
+
+	/**
+	 * method to remove a possibility from a tile's possibilities. This prevents
+	 * duplicate values from being added to a row, column, or local group.
+	 *
+	 * @param tiles
+	 *            list of tiles of which a possibility is being removed from
+	 * @param poss
+	 *            value being removed from the tiles' possibilities
+	 */
+	public static void removePossibility(List<Tile> tiles, int poss) {
+		for (Tile t : tiles) {
+			/*
+			 * only remove a possibility from a tile's possibilities if the tile does not
+			 * have a set value.
+			 */
+			if (t.getValue() == MISSING_VALUE) {
+				t.removePossibility(poss);
+			}
+		}
+	}
+
+	/**
+	 * method to count the possibilities that setting a value on a tile eliminates:
+	 * the other empty tiles of its row, column and local group that could still
+	 * take the value. Only used to record statistics, so it must be called before
+	 * the value is set.
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @param tile
+	 *            tile the value is about to be set on
+	 * @param value
+	 *            value about to be set
+	 * @return number of possibilities eliminated
+	 */
+	private static int countEliminations(Board board, Tile tile, int value) {
+		CompactBoard grid = board.getGrid();
+		int count = 0;
+		for (int p : grid.getLayout().getPeers(tile.getCell())) {
+			if (grid.getValue(p) == MISSING_VALUE && !CandidateMask.contains(grid.getUsedValues(p), value)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * getter method to return the bitmask of possibilities for a tile.
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @param tile
+	 *            current tile being evaluated
+	 * @return bitmask of possible values (see CandidateMask)
+	 */
+	public static int getPossibilities(Board board, Tile tile) {
+		/*
+		 * possibilities are all values from 1 - 9 (or 1 - 16, 1 - 25 on larger boards)
+		 * not already used by the row, column or local group, which the board keeps
+		 * track of as values are set.
+		 */
+		return CandidateMask.full(board.getDimensions()) & ~board.getUsedValues(tile.getX(), tile.getY());
+	}
+
+	/**
+	 * method to find the next tile which should be evaluated. called upon initial
+	 * solving, and don't need to compare to current tile.
+	 *
+	 * @param board
+	 *            board being evaluated
+	 * @return tile next tile to evaluate
+	 */
+	public static Tile findNextTile(Board board) {
+		return findNextTile(board, null);
+	}
+
+	/**
+	 *
+	 * overloaded findNextTile method accepting an additional parameter, tile, which
+	 * will allow us to compare our "next" tile to the current tile and make sure we
+	 * aren't going to attempt to process the same tile again.
+	 *
+	 * @param board
+	 *            board being evaluated
+	 * @param tile
+	 *            tile being evaluated
+	 * @return tile next tile to be evaluated
+	 */
+	public static Tile findNextTile(Board board, Tile tile) {
+
+		// find tile that is empty and is not itself
+		int dimensions = board.getDimensions();
+		for (int i = 0; i < dimensions; i++) {
+			for (int j = 0; j < dimensions; j++) {
+				Tile curTile = board.getTile(i, j);
+				if (curTile.getValue() == MISSING_VALUE)
+					if ((tile == null) || (tile != curTile)) {
+						return curTile;
+					}
+			}
+		}
+		return null;
+	}
+
+}
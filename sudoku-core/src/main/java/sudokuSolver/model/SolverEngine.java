@@ -0,0 +1,46 @@
+package sudokuSolver.model;
+
+/**
+ * Enumeration of the solving backends that Solver.solve() can use on a board.
+ * Every engine accepts the same Board and returns the same solved Board, so the
+ * same puzzles can be routed to whichever engine suits them best.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public enum SolverEngine {
+
+	/**
+	 * the heuristic solver, finished off by the trail based backtracking solver
+	 * (see TrailSolver) for puzzles the heuristics cannot complete.
+	 */
+	HEURISTIC,
+
+	/**
+	 * the heuristic solver, finished off by the brute force solver which clones
+	 * the board for every guess (see Solver.recursiveBruteForce). Kept as the
+	 * reference for differential testing of the other engines.
+	 */
+	CLONE_BACKTRACKING,
+
+	/**
+	 * Algorithm X exact cover search on a dancing links matrix (see
+	 * DancingLinks). Suited to minimal and evil puzzles.
+	 */
+	DANCING_LINKS,
+
+	/**
+	 * the board encoded as a SAT formula and solved by conflict driven clause
+	 * learning (see SatSolver). Suited to 16x16 and 25x25 boards and to puzzles
+	 * made to defeat chronological backtracking.
+	 */
+	SAT,
+
+	/**
+	 * the heuristic solver, then the trail based backtracking solver run on
+	 * several subtrees of the board at once (see ParallelSolver.getShared()).
+	 * Suited to single hard puzzles; elimination techniques are not applied.
+	 */
+	PARALLEL
+
+}
@@ -0,0 +1,366 @@
+package sudokuSolver.model;
+
+/**
+ * SolverStats class which counts the work done while solving boards: the
+ * values placed and possibilities eliminated by each technique and the time
+ * spent in it, the passes of the propagation loop, the guesses, backtracks and
+ * deepest guess of the search, and for the SAT engine the conflicts, learned
+ * clauses and restarts of its clause learning search (its decisions count as
+ * guesses, at their decision level). Statistics are only recorded when a
+ * SolverStats is passed to the solver (see SolverWorkspace.solve()); without
+ * one, the solvers skip every counter and timer.
+ *
+ * One instance records a single solve or, through add(), the total of many.
+ * Instances are not thread safe: give every thread its own and add them up
+ * afterwards, as BatchSolver does.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class SolverStats {
+
+	/**
+	 * number of nanoseconds in a microsecond.
+	 */
+	private static final long NANOS_PER_MICRO = 1000;
+
+	/**
+	 * every technique, in declaration order.
+	 */
+	private static final Technique TECHNIQUES[] = Technique.values();
+
+	/**
+	 * number of values placed by each technique.
+	 */
+	private final long placements[] = new long[TECHNIQUES.length];
+
+	/**
+	 * number of possibilities eliminated by each technique.
+	 */
+	private final long eliminations[] = new long[TECHNIQUES.length];
+
+	/**
+	 * nanoseconds spent in each technique.
+	 */
+	private final long nanos[] = new long[TECHNIQUES.length];
+
+	/**
+	 * number of solves recorded.
+	 */
+	private long solves;
+
+	/**
+	 * nanoseconds spent solving, from start to finish.
+	 */
+	private long solveNanos;
+
+	/**
+	 * number of passes of the propagation loops.
+	 */
+	private long passes;
+
+	/**
+	 * number of guesses made by the search.
+	 */
+	private long guesses;
+
+	/**
+	 * number of guesses that turned out to be dead ends.
+	 */
+	private long backtracks;
+
+	/**
+	 * deepest nesting of guesses.
+	 */
+	private int maxDepth;
+
+	/**
+	 * number of conflicts found by the clause learning search.
+	 */
+	private long conflicts;
+
+	/**
+	 * number of clauses learned by the clause learning search.
+	 */
+	private long learnedClauses;
+
+	/**
+	 * number of restarts of the clause learning search.
+	 */
+	private long restarts;
+
+	/**
+	 * method to record a finished solve.
+	 *
+	 * @param nanoseconds
+	 *            time spent on the solve
+	 */
+	void solved(long nanoseconds) {
+		solves++;
+		solveNanos += nanoseconds;
+	}
+
+	/**
+	 * method to record values placed by a technique.
+	 *
+	 * @param technique
+	 *            technique that placed the values
+	 * @param count
+	 *            number of values placed
+	 */
+	void placed(Technique technique, int count) {
+		placements[technique.ordinal()] += count;
+	}
+
+	/**
+	 * method to record possibilities eliminated by a technique.
+	 *
+	 * @param technique
+	 *            technique that eliminated the possibilities
+	 * @param count
+	 *            number of possibilities eliminated
+	 */
+	void eliminated(Technique technique, int count) {
+		eliminations[technique.ordinal()] += count;
+	}
+
+	/**
+	 * method to record time spent in a technique.
+	 *
+	 * @param technique
+	 *            technique the time was spent in
+	 * @param nanoseconds
+	 *            time spent
+	 */
+	void timed(Technique technique, long nanoseconds) {
+		nanos[technique.ordinal()] += nanoseconds;
+	}
+
+	/**
+	 * method to record a pass of a propagation loop.
+	 */
+	void pass() {
+		passes++;
+	}
+
+	/**
+	 * method to record a guess.
+	 *
+	 * @param depth
+	 *            number of guesses the new guess is nested in, counting itself
+	 */
+	void guessed(int depth) {
+		guesses++;
+		if (depth > maxDepth) {
+			maxDepth = depth;
+		}
+	}
+
+	/**
+	 * method to record a guess that turned out to be a dead end.
+	 */
+	void backtracked() {
+		backtracks++;
+	}
+
+	/**
+	 * method to record a conflict of the clause learning search.
+	 */
+	void conflicted() {
+		conflicts++;
+	}
+
+	/**
+	 * method to record a clause learned by the clause learning search.
+	 */
+	void learned() {
+		learnedClauses++;
+	}
+
+	/**
+	 * method to record a restart of the clause learning search.
+	 */
+	void restarted() {
+		restarts++;
+	}
+
+	/**
+	 * method to add the statistics of another instance to these, keeping the
+	 * deeper of the two maximum depths.
+	 *
+	 * @param other
+	 *            statistics being added
+	 */
+	public void add(SolverStats other) {
+		for (int t = 0; t < TECHNIQUES.length; t++) {
+			placements[t] += other.placements[t];
+			eliminations[t] += other.eliminations[t];
+			nanos[t] += other.nanos[t];
+		}
+		solves += other.solves;
+		solveNanos += other.solveNanos;
+		passes += other.passes;
+		guesses += other.guesses;
+		backtracks += other.backtracks;
+		maxDepth = Math.max(maxDepth, other.maxDepth);
+		conflicts += other.conflicts;
+		learnedClauses += other.learnedClauses;
+		restarts += other.restarts;
+	}
+
+	/**
+	 * method to set every statistic back to zero.
+	 */
+	public void reset() {
+		for (int t = 0; t < TECHNIQUES.length; t++) {
+			placements[t] = 0;
+			eliminations[t] = 0;
+			nanos[t] = 0;
+		}
+		solves = 0;
+		solveNanos = 0;
+		passes = 0;
+		guesses = 0;
+		backtracks = 0;
+		maxDepth = 0;
+		conflicts = 0;
+		learnedClauses = 0;
+		restarts = 0;
+	}
+
+	/**
+	 * getter to return the number of values placed by a technique.
+	 *
+	 * @param technique
+	 *            technique being evaluated
+	 * @return placement count
+	 */
+	public long getPlacementCount(Technique technique) {
+		return placements[technique.ordinal()];
+	}
+
+	/**
+	 * getter to return the number of possibilities eliminated by a technique.
+	 *
+	 * @param technique
+	 *            technique being evaluated
+	 * @return elimination count
+	 */
+	public long getEliminationCount(Technique technique) {
+		return eliminations[technique.ordinal()];
+	}
+
+	/**
+	 * getter to return the nanoseconds spent in a technique.
+	 *
+	 * @param technique
+	 *            technique being evaluated
+	 * @return nanoseconds
+	 */
+	public long getNanos(Technique technique) {
+		return nanos[technique.ordinal()];
+	}
+
+	/**
+	 * getter to return the number of solves recorded.
+	 *
+	 * @return solve count
+	 */
+	public long getSolveCount() {
+		return solves;
+	}
+
+	/**
+	 * getter to return the nanoseconds spent solving, from start to finish.
+	 *
+	 * @return nanoseconds
+	 */
+	public long getSolveNanos() {
+		return solveNanos;
+	}
+
+	/**
+	 * getter to return the number of passes of the propagation loops.
+	 *
+	 * @return pass count
+	 */
+	public long getPassCount() {
+		return passes;
+	}
+
+	/**
+	 * getter to return the number of guesses made by the search.
+	 *
+	 * @return guess count
+	 */
+	public long getGuessCount() {
+		return guesses;
+	}
+
+	/**
+	 * getter to return the number of guesses that turned out to be dead ends.
+	 *
+	 * @return backtrack count
+	 */
+	public long getBacktrackCount() {
+		return backtracks;
+	}
+
+	/**
+	 * getter to return the deepest nesting of guesses.
+	 *
+	 * @return maximum depth
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * getter to return the number of conflicts found by the clause learning
+	 * search.
+	 *
+	 * @return conflict count
+	 */
+	public long getConflictCount() {
+		return conflicts;
+	}
+
+	/**
+	 * getter to return the number of clauses learned by the clause learning
+	 * search.
+	 *
+	 * @return learned clause count
+	 */
+	public long getLearnedClauseCount() {
+		return learnedClauses;
+	}
+
+	/**
+	 * getter to return the number of restarts of the clause learning search.
+	 *
+	 * @return restart count
+	 */
+	public long getRestartCount() {
+		return restarts;
+	}
+
+	/**
+	 * overridden toString() method to return the statistics, with times in
+	 * microseconds and each technique as placements/eliminations/time.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("SolverStats[solves=").append(solves).append(", time=")
+				.append(solveNanos / NANOS_PER_MICRO).append("us, passes=").append(passes).append(", guesses=")
+				.append(guesses).append(", backtracks=").append(backtracks).append(", maxDepth=").append(maxDepth)
+				.append(", conflicts=").append(conflicts).append(", learnedClauses=").append(learnedClauses)
+				.append(", restarts=").append(restarts);
+		for (Technique technique : TECHNIQUES) {
+			int t = technique.ordinal();
+			builder.append(", ").append(technique).append('=').append(placements[t]).append('/')
+					.append(eliminations[t]).append('/').append(nanos[t] / NANOS_PER_MICRO).append("us");
+		}
+		return builder.append(']').toString();
+	}
+
+}
@@ -0,0 +1,287 @@
+package sudokuSolver.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * SolverWorkspace class which holds the reusable scratch state of the solver
+ * engines (the trail and frame stack of TrailSolver, the matrix of
+ * DancingLinks, the SatSolver), so that a thread solving many boards in a row
+ * only builds them once. Each engine is created the first time it is used; the dancing
+ * links matrix is built once for every board size solved.
+ *
+ * The workspace also holds the elimination techniques (see Technique) that the
+ * heuristic solver and TrailSolver apply besides the singles. None are applied
+ * unless chosen with setTechniques().
+ *
+ * A workspace must only be used by one thread at a time; give every worker
+ * thread its own.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class SolverWorkspace {
+
+	/**
+	 * Message dialogue which will appear if there is no valid solution found.
+	 */
+	private static final String NO_SOLUTION_WARNING = "No valid solution found!";
+
+	/**
+	 * Message denoting unknown entity to evaluate.
+	 */
+	private static final String UNKNOWN_STRING = "Cannot determine what to evaluate";
+
+	/**
+	 * trail based backtracking solver, created on first use.
+	 */
+	private TrailSolver trailSolver;
+
+	/**
+	 * dancing links solver of each box size, created on first use.
+	 */
+	private final DancingLinks dancingLinks[] = new DancingLinks[Board.MAX_BOX_SIZE + 1];
+
+	/**
+	 * SAT solver, created on first use.
+	 */
+	private SatSolver satSolver;
+
+	/**
+	 * elimination techniques applied besides the singles.
+	 */
+	private Set<Technique> techniques = Collections.emptySet();
+
+	/**
+	 * method to solve a board with the chosen engine.
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @param engine
+	 *            engine used to solve the board
+	 * @return board completed board
+	 * @throws SolverException
+	 */
+	public Board solve(Board board, SolverEngine engine) throws SolverException {
+		return solve(board, engine, null);
+	}
+
+	/**
+	 * method to solve a board with the chosen engine, adding what the engine did
+	 * to the statistics (see SolverStats). The solve is recorded whether or not
+	 * it finds a solution.
+	 *
+	 * @param board
+	 *            board being worked on
+	 * @param engine
+	 *            engine used to solve the board
+	 * @param stats
+	 *            statistics to add to, or null to record nothing
+	 * @return board completed board
+	 * @throws SolverException
+	 */
+	public Board solve(Board board, SolverEngine engine, SolverStats stats) throws SolverException {
+		if (solve(board, engine, stats, null) != SearchResult.SOLVED) {
+			throw new SolverException(NO_SOLUTION_WARNING);
+		}
+		return board;
+	}
+
+	/**
+	 * method to solve a board with the chosen engine within a budget (see
+	 * SearchBudget), adding what the engine did to the statistics. Instead of
+	 * throwing, it returns the outcome of the solve; when the budget runs out,
+	 * the statistics hold what the engine did up to then. The solve is recorded
+	 * whatever the outcome.
+	 *
+	 * When the budget stops the search, the board is left as it was passed in.
+	 * When there is no solution, it may keep values the heuristic solver filled
+	 * in before finding out.
+	 *
+	 * @param board
+	 *            board being worked on, filled in with the solution if one is
+	 *            found
+	 * @param engine
+	 *            engine used to solve the board
+	 * @param stats
+	 *            statistics to add to, or null to record nothing
+	 * @param budget
+	 *            deadline, guess limit and cancellation token of the solve, or
+	 *            null for none
+	 * @return SOLVED, NO_SOLUTION, CANCELLED or BUDGET_EXHAUSTED
+	 */
+	public SearchResult solve(Board board, SolverEngine engine, SolverStats stats, SearchBudget budget) {
+		long start = (stats != null) ? System.nanoTime() : 0;
+		try {
+			if (!board.isConsistent())
+				return SearchResult.NO_SOLUTION;
+			/* the heuristic solver works on the board itself, so a search it starts is undone from a copy */
+			CompactBoard passedIn = (budget != null && (engine == SolverEngine.HEURISTIC
+					|| engine == SolverEngine.CLONE_BACKTRACKING)) ? board.getGrid().copy() : null;
+			switch (engine) {
+			case HEURISTIC:
+				try {
+					Solver.heuristicSolver(board, stats, techniques);
+				} catch (SolverException e) {
+					return SearchResult.NO_SOLUTION;
+				}
+				if (board.isSolved())
+					return SearchResult.SOLVED;
+				getTrailSolver().setStats(stats);
+				SearchResult result = getTrailSolver().search(board, budget);
+				if (result == SearchResult.CANCELLED || result == SearchResult.BUDGET_EXHAUSTED) {
+					restore(passedIn, board);
+				}
+				return result;
+			case CLONE_BACKTRACKING:
+				try {
+					copyValues(Solver.cloneBacktrackingSolve(board, stats, techniques, budget), board);
+					return SearchResult.SOLVED;
+				} catch (SearchStoppedException e) {
+					restore(passedIn, board);
+					return e.getResult();
+				} catch (SolverException e) {
+					return SearchResult.NO_SOLUTION;
+				}
+			case DANCING_LINKS:
+				getDancingLinks(board.getBoxSize()).setStats(stats);
+				return getDancingLinks(board.getBoxSize()).search(board, budget);
+			case SAT:
+				getSatSolver().setStats(stats);
+				return getSatSolver().search(board, budget);
+			case PARALLEL:
+				return ParallelSolver.getShared().search(board, stats, budget);
+			default:
+				throw new IllegalArgumentException(UNKNOWN_STRING);
+			}
+		} finally {
+			if (stats != null) {
+				/* stop recording, so later uses of the engines stay free of statistics */
+				if (trailSolver != null) {
+					trailSolver.setStats(null);
+				}
+				for (DancingLinks links : dancingLinks) {
+					if (links != null) {
+						links.setStats(null);
+					}
+				}
+				if (satSolver != null) {
+					satSolver.setStats(null);
+				}
+				stats.solved(System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * method to copy the values of a solved board into the board it was cloned
+	 * from.
+	 */
+	private static void copyValues(Board solution, Board board) {
+		if (solution != board) {
+			CompactBoard from = solution.getGrid();
+			CompactBoard to = board.getGrid();
+			for (int c = 0; c < from.getLayout().getCellCount(); c++) {
+				to.setValue(c, from.getValue(c));
+			}
+		}
+	}
+
+	/**
+	 * method to put back the values and possibilities a board had before a
+	 * search that was stopped.
+	 */
+	private static void restore(CompactBoard passedIn, Board board) {
+		CompactBoard grid = board.getGrid();
+		for (int c = 0; c < passedIn.getLayout().getCellCount(); c++) {
+			grid.setValue(c, passedIn.getValue(c));
+			grid.setPossibilities(c, passedIn.getPossibilities(c));
+		}
+	}
+
+	/**
+	 * method to check whether a board has no, one or several solutions, stopping
+	 * the search at the second solution. The board is left as it was passed in.
+	 *
+	 * @param board
+	 *            board being evaluated
+	 * @return the uniqueness of the board, with the solutions found
+	 */
+	public UniquenessResult checkUniqueness(Board board) {
+		return getTrailSolver().checkUniqueness(board);
+	}
+
+	/**
+	 * getter to return the elimination techniques applied besides the singles.
+	 *
+	 * @return techniques
+	 */
+	public Set<Technique> getTechniques() {
+		return Collections.unmodifiableSet(techniques);
+	}
+
+	/**
+	 * setter to choose the elimination techniques applied besides the singles by
+	 * every following solve. Singles in the set are ignored.
+	 *
+	 * @param techniques
+	 *            techniques to apply
+	 */
+	public void setTechniques(Set<Technique> techniques) {
+		this.techniques = techniques.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(techniques);
+		if (trailSolver != null) {
+			trailSolver.setTechniques(this.techniques);
+		}
+	}
+
+	/**
+	 * getter to return the workspace's trail based backtracking solver.
+	 *
+	 * @return trail solver
+	 */
+	public TrailSolver getTrailSolver() {
+		if (trailSolver == null) {
+			trailSolver = new TrailSolver();
+			trailSolver.setTechniques(techniques);
+		}
+		return trailSolver;
+	}
+
+	/**
+	 * getter to return the workspace's dancing links solver for 9x9 boards.
+	 *
+	 * @return dancing links solver
+	 */
+	public DancingLinks getDancingLinks() {
+		return getDancingLinks(Board.DEFAULT_BOX_SIZE);
+	}
+
+	/**
+	 * getter to return the workspace's dancing links solver for boards of a
+	 * given size.
+	 *
+	 * @param boxSize
+	 *            number of columns per local group
+	 * @return dancing links solver
+	 */
+	public DancingLinks getDancingLinks(int boxSize) {
+		if (dancingLinks[boxSize] == null) {
+			dancingLinks[boxSize] = new DancingLinks(boxSize);
+		}
+		return dancingLinks[boxSize];
+	}
+
+	/**
+	 * getter to return the workspace's SAT solver.
+	 *
+	 * @return SAT solver
+	 */
+	public SatSolver getSatSolver() {
+		if (satSolver == null) {
+			satSolver = new SatSolver();
+		}
+		return satSolver;
+	}
+
+}
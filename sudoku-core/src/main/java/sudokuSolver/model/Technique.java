@@ -0,0 +1,86 @@
+package sudokuSolver.model;
+
+/**
+ * Enumeration of the human solving techniques applied by the heuristic solver
+ * and by the propagation step of TrailSolver, used to break the solver
+ * statistics down by technique (see SolverStats).
+ *
+ * The singles place values and are always applied. The other techniques only
+ * eliminate possibilities (see EliminationSteps) and are switched on per
+ * workspace (see SolverWorkspace.setTechniques()); when the singles find
+ * nothing more, the enabled ones are tried in declaration order, cheapest
+ * first, until one of them eliminates something.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public enum Technique {
+
+	/**
+	 * a tile with a single possibility left.
+	 */
+	NAKED_SINGLE,
+
+	/**
+	 * a value with a single possible tile left in its row.
+	 */
+	HIDDEN_SINGLE_ROW,
+
+	/**
+	 * a value with a single possible tile left in its column.
+	 */
+	HIDDEN_SINGLE_COLUMN,
+
+	/**
+	 * a value with a single possible tile left in its local group.
+	 */
+	HIDDEN_SINGLE_LOCAL_GROUP,
+
+	/**
+	 * a value whose possible tiles in a local group all lie in one row or
+	 * column, so it is eliminated from the rest of that row or column.
+	 */
+	POINTING_PAIR,
+
+	/**
+	 * a value whose possible tiles in a row or column all lie in one local group,
+	 * so it is eliminated from the rest of that local group.
+	 */
+	BOX_LINE_REDUCTION,
+
+	/**
+	 * two tiles of a group with the same two possibilities, which are eliminated
+	 * from the group's other tiles.
+	 */
+	NAKED_PAIR,
+
+	/**
+	 * two values with the same two possible tiles in a group, whose other
+	 * possibilities are eliminated.
+	 */
+	HIDDEN_PAIR,
+
+	/**
+	 * three tiles of a group with three possibilities between them, which are
+	 * eliminated from the group's other tiles.
+	 */
+	NAKED_TRIPLE,
+
+	/**
+	 * three values with three possible tiles between them in a group, whose other
+	 * possibilities are eliminated.
+	 */
+	HIDDEN_TRIPLE;
+
+	/**
+	 * method to check whether the technique places values, rather than only
+	 * eliminating possibilities.
+	 *
+	 * @return true for the singles
+	 */
+	public boolean isSingle() {
+		return this == NAKED_SINGLE || this == HIDDEN_SINGLE_ROW || this == HIDDEN_SINGLE_COLUMN
+				|| this == HIDDEN_SINGLE_LOCAL_GROUP;
+	}
+
+}
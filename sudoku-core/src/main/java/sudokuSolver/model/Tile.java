@@ -0,0 +1,233 @@
+package sudokuSolver.model;
+
+/**
+ * Tile class to create and manipulate tiles within the
+ * Sudoku board. Tiles will have an i and j location, an
+ * associated set of possibilities, and a value. The possibilities
+ * are held as a bitmask (see CandidateMask) so they can be updated
+ * without boxing or allocating.
+ *
+ * The tiles of a Board are views over one cell of its CompactBoard:
+ * the value and possibilities are read from and written to the
+ * board's arrays. A tile constructed on its own holds them itself.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class Tile implements Cloneable {
+
+	/**
+	 * array holding the numerical value associated with a particular tile,
+	 * at index cell.
+	 */
+	private final short values[];
+
+	/**
+	 * array holding the bitmask of possible values a particular tile may
+	 * possess, at index cell.
+	 */
+	private final int possibilities[];
+
+	/**
+	 * index of the tile in values and possibilities.
+	 */
+	private final int cell;
+
+    /**
+     * holds the x locator information in the x-y sudoku grid.
+     */
+	private int x;
+
+	/**
+     * holds the y locator information in the x-y sudoku grid.
+     */
+	private int y;
+
+	/**
+     * holds the local group locator information in the x-y sudoku grid.
+     */
+	private int localGroup;
+
+	/**
+	 * parameter assigned to any tile with no value.
+	 */
+	private static Integer MISSING_VALUE = -1;
+
+	/**
+	 * constructor to create a tile at a specified location.
+	 *
+	 * @param x location in the x direction.
+	 * @param y location in the y direction.
+	 * @param localGroup position of the individual local group (3x3 grid on a 9x9 board) this tile is a part of.
+	 */
+	public Tile(int x, int y, int localGroup) {
+		this(MISSING_VALUE, x, y, localGroup);
+	}
+
+	/**
+	 * constructor to create a tile at a specified location and assign it
+	 * a value.
+	 *
+	 * @param value value of tile at indicated location.
+	 * @param x location in the x direction.
+	 * @param y location in the y direction.
+	 * @param localGroup position of the individual local group (3x3 grid on a 9x9 board) this tile is a part of.
+	 */
+	public Tile(int value, int x, int y, int localGroup) {
+		this.values = new short[] { (short) value };
+		this.possibilities = new int[] { CandidateMask.EMPTY };
+		this.cell = 0;
+		this.x = x;
+		this.y = y;
+		this.localGroup = localGroup;
+	}
+
+	/**
+	 * constructor to create a view of one cell of a board.
+	 *
+	 * @param grid board holding the tile's value and possibilities.
+	 * @param cell index of the tile on the board.
+	 */
+	Tile(CompactBoard grid, int cell) {
+		BoardLayout layout = grid.getLayout();
+		this.values = grid.values;
+		this.possibilities = grid.possibilities;
+		this.cell = cell;
+		this.x = layout.getRow(cell);
+		this.y = layout.getCol(cell);
+		this.localGroup = layout.getLocalGroup(cell);
+	}
+
+	/**
+	 * getter to return the x location of the tile.
+	 *
+	 * @return x
+	 */
+	public int getX() {
+		return this.x;
+	}
+
+	/**
+	 * getter to return the y location of the tile.
+	 *
+	 * @return y
+	 */
+	public int getY() {
+		return this.y;
+	}
+
+	/**
+	 * getter to return the local group location of the tile.
+	 *
+	 * @return localGroup
+	 */
+	public int getLocalGroup() {
+		return this.localGroup;
+	}
+
+	/**
+	 * getter to return the tile's value.
+	 *
+	 * @return value
+	 */
+	public int getValue() {
+		return values[cell];
+	}
+
+	/**
+	 * getter to return the index of the tile on its board (see BoardLayout).
+	 *
+	 * @return cell
+	 */
+	int getCell() {
+		return cell;
+	}
+
+	/**
+	 * set bitmask of possibilities to a tile.
+	 *
+	 * @param pos
+	 */
+	public void setPossibilities(int pos) {
+		possibilities[cell] = pos;
+	}
+
+	/**
+	 * getter to return the bitmask of possibilities for a tile.
+	 *
+	 * @return possibilities
+	 */
+	public int getPossibilities() {
+		return possibilities[cell];
+	}
+
+	/**
+	 * getter to return the number of possibilities for a tile.
+	 *
+	 * @return number of possibilities
+	 */
+	public int getPossibilityCount() {
+		return CandidateMask.count(possibilities[cell]);
+	}
+
+	/**
+	 * method to determine whether a value is still a possibility for a tile.
+	 *
+	 * @param poss
+	 *            value being looked for
+	 * @return true or false
+	 */
+	public boolean hasPossibility(int poss) {
+		return CandidateMask.contains(possibilities[cell], poss);
+	}
+
+	/**
+	 * remove a value from the tile's possibilities.
+	 *
+	 * @param poss
+	 *            value being removed
+	 */
+	public void removePossibility(int poss) {
+		possibilities[cell] = CandidateMask.remove(possibilities[cell], poss);
+	}
+
+	/**
+	 * remove and return the lowest possibility of the tile.
+	 *
+	 * @return lowest possibility, or MISSING_VALUE if there are none left
+	 */
+	public int pollPossibility() {
+		int poss = CandidateMask.lowest(possibilities[cell]);
+		possibilities[cell] = CandidateMask.removeLowest(possibilities[cell]);
+		return poss;
+	}
+
+	/**
+	 * overridden toString() method to return information about a tile.
+	 */
+	@Override
+	public String toString() {
+		String returnString = "";
+		returnString += "\n------";
+		returnString += "\nrow = " + x;
+		returnString += "\ncol = " + y;
+		returnString += "\ngrp = " + localGroup;
+		returnString += "\npossible = " + CandidateMask.toList(possibilities[cell]);
+		returnString += "\n------";
+
+		return returnString;
+	}
+
+	/**
+	 * overridden clone() method to clone tile properties. The clone holds
+	 * its own value and possibilities, even when this tile is a view of a
+	 * board.
+	 */
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		Tile clonedTile = new Tile(getValue(), x, y, localGroup);
+		clonedTile.setPossibilities(getPossibilities());
+		return clonedTile;
+	}
+
+}
@@ -0,0 +1,173 @@
+package sudokuSolver.model;
+
+import java.util.Arrays;
+
+/**
+ * Trail class which records every change made to a board during a search so
+ * that the changes can be undone back to an earlier choice point, instead of
+ * cloning the whole board for every guess. Two kinds of change are recorded:
+ * a value set on an empty tile, and a tile's possibilities being overwritten.
+ * When given a PossibilityIndex, the trail keeps it up to date with every
+ * change it makes and undoes.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+final class Trail {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * initial number of changes the trail can hold before growing.
+	 */
+	private static final int INITIAL_CAPACITY = 256;
+
+	/**
+	 * cell of each change (see BoardLayout). Possibility changes are stored as
+	 * the bitwise complement of the cell index so they can be told apart from
+	 * value changes.
+	 */
+	private int tiles[] = new int[INITIAL_CAPACITY];
+
+	/**
+	 * possibilities of the tile before each possibility change.
+	 */
+	private int saved[] = new int[INITIAL_CAPACITY];
+
+	/**
+	 * number of changes on the trail.
+	 */
+	private int size = 0;
+
+	/**
+	 * index of tiles by number of possibilities to keep up to date, or null.
+	 */
+	private final PossibilityIndex index;
+
+	/**
+	 * construct an empty trail.
+	 *
+	 * @param index
+	 *            index to keep up to date with every change, or null
+	 */
+	Trail(PossibilityIndex index) {
+		this.index = index;
+	}
+
+	/**
+	 * getter to return the current position of the trail, to be passed to undo()
+	 * when backtracking to this point.
+	 *
+	 * @return trail position
+	 */
+	int mark() {
+		return size;
+	}
+
+	/**
+	 * set a value on an empty tile and record it.
+	 *
+	 * @param grid
+	 *            board being searched
+	 * @param cell
+	 *            empty tile
+	 * @param value
+	 *            value being set
+	 * @return false if the value collides with a shared tile
+	 */
+	boolean setValue(CompactBoard grid, int cell, int value) {
+		push(cell, 0);
+		boolean consistent = grid.setValue(cell, value);
+		if (index != null) {
+			index.refreshShared(cell);
+		}
+		return consistent;
+	}
+
+	/**
+	 * overwrite a tile's possibilities and record the old ones.
+	 *
+	 * @param grid
+	 *            board being searched
+	 * @param cell
+	 *            tile being changed
+	 * @param possibilities
+	 *            new bitmask of possibilities
+	 */
+	void setPossibilities(CompactBoard grid, int cell, int possibilities) {
+		push(~cell, grid.getPossibilities(cell));
+		grid.setPossibilities(cell, possibilities);
+		if (index != null) {
+			index.refresh(cell);
+		}
+	}
+
+	/**
+	 * undo every change recorded since the given mark, newest first.
+	 *
+	 * @param grid
+	 *            board being searched
+	 * @param mark
+	 *            trail position returned by mark()
+	 */
+	void undo(CompactBoard grid, int mark) {
+		while (size > mark) {
+			size--;
+			int t = tiles[size];
+			if (t >= 0) {
+				grid.setValue(t, MISSING_VALUE);
+				if (index != null) {
+					index.refreshShared(t);
+				}
+			} else {
+				grid.setPossibilities(~t, saved[size]);
+				if (index != null) {
+					index.refresh(~t);
+				}
+			}
+		}
+	}
+
+	/**
+	 * undo every recorded change without keeping the index up to date, for when
+	 * the index is about to be reset anyway.
+	 *
+	 * @param grid
+	 *            board being searched
+	 */
+	void rewind(CompactBoard grid) {
+		while (size > 0) {
+			size--;
+			int t = tiles[size];
+			if (t >= 0) {
+				grid.setValue(t, MISSING_VALUE);
+			} else {
+				grid.setPossibilities(~t, saved[size]);
+			}
+		}
+	}
+
+	/**
+	 * forget every recorded change without undoing it.
+	 */
+	void clear() {
+		size = 0;
+	}
+
+	/**
+	 * add a change to the trail, growing the arrays when full.
+	 */
+	private void push(int tile, int old) {
+		if (size == tiles.length) {
+			tiles = Arrays.copyOf(tiles, size * 2);
+			saved = Arrays.copyOf(saved, size * 2);
+		}
+		tiles[size] = tile;
+		saved[size] = old;
+		size++;
+	}
+
+}
@@ -0,0 +1,703 @@
+package sudokuSolver.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * TrailSolver class which finishes solving a board by backtracking on the board
+ * itself. Instead of cloning the board for every guess like
+ * Solver.recursiveBruteForce(), every value and possibility change is recorded
+ * on a Trail and undone when a guess turns out to be a dead end, so searching
+ * deeper allocates almost nothing.
+ *
+ * At every step the same human techniques as the heuristic solver are applied
+ * (a tile with a single possibility, and a value with a single place in its row,
+ * column or local group) before guessing a value for the empty tile with the
+ * fewest possibilities. The empty tiles are kept in a PossibilityIndex that is
+ * updated as values are set and undone, so neither step rescans the board.
+ * When the singles find nothing more, the elimination techniques chosen with
+ * setTechniques() are applied too, and their eliminations are recorded on the
+ * trail like any other change.
+ *
+ * The search is iterative: each guess pushes a frame (tile, possibilities left
+ * to try, trail position) onto an explicit stack instead of recursing, and dead
+ * ends are reported as SearchResult codes rather than exceptions. Every frame
+ * sets one empty tile, so the stack never grows deeper than the number of empty
+ * tiles and is allocated once per instance.
+ *
+ * Besides finding one solution, the solver can count solutions up to a limit,
+ * check whether a board has exactly one solution (stopping at the second), or
+ * check whether a board has a solution other than a known one after some of
+ * its clues were removed (see hasOtherSolution()), and all kinds of search can
+ * be stopped from another thread through a CancellationToken, or limited by
+ * the deadline and guess limit of a SearchBudget.
+ *
+ * When a SolverStats is set, every search also records the values placed and
+ * possibilities eliminated by each technique, the time spent in it, and the
+ * guesses, backtracks and depth of the search; otherwise nothing is recorded.
+ *
+ * An instance can be reused for any number of boards, but not by more than one
+ * thread at a time. Its index, trail and frame stack are sized for the first
+ * board solved and only rebuilt when a board of another size comes along, so
+ * reusing an instance for boards of one size allocates nothing per search.
+ * The search works on the board's CompactBoard by cell index, walking the
+ * units and peers of its BoardLayout, so it never creates the board's Tiles.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class TrailSolver {
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * Message dialogue which will appear if there is no valid solution found.
+	 */
+	private static final String NO_SOLUTION_WARNING = "No valid solution found!";
+
+	/**
+	 * number of columns per local group of the boards the solver is sized for; 0
+	 * until the first search.
+	 */
+	private int boxSize;
+
+	/**
+	 * bitmask holding the range of values from 1 to the board dimensions.
+	 */
+	private int range;
+
+	/**
+	 * index of the empty tiles by number of possibilities.
+	 */
+	private PossibilityIndex index;
+
+	/**
+	 * record of the changes made to the board being solved.
+	 */
+	private Trail trail;
+
+	/**
+	 * the board being solved.
+	 */
+	private CompactBoard grid;
+
+	/**
+	 * tables of the board being solved.
+	 */
+	private BoardLayout layout;
+
+	/**
+	 * number of solutions found by the last search.
+	 */
+	private long solutionCount;
+
+	/**
+	 * cell being guessed at each depth of the search.
+	 */
+	private int frameCell[];
+
+	/**
+	 * possibilities not yet tried for the tile at each depth.
+	 */
+	private int frameRemaining[];
+
+	/**
+	 * value currently being tried at each depth, or MISSING_VALUE before the first.
+	 */
+	private int frameValue[];
+
+	/**
+	 * trail position to undo to before trying the next value at each depth.
+	 */
+	private int frameMark[];
+
+	/**
+	 * values of the first two solutions found, when recordWitnesses is set.
+	 */
+	private final int witnesses[][] = new int[2][];
+
+	/**
+	 * value each tile is guessed first, by cell index, or null to guess in
+	 * increasing order.
+	 */
+	private int preferred[];
+
+	/**
+	 * whether solutions found are copied into witnesses.
+	 */
+	private boolean recordWitnesses;
+
+	/**
+	 * statistics recorded by every search, or null.
+	 */
+	private SolverStats stats;
+
+	/**
+	 * elimination techniques applied besides the singles.
+	 */
+	private Set<Technique> techniques = Collections.emptySet();
+
+	/**
+	 * scratch state of the elimination techniques.
+	 */
+	private final EliminationSteps steps = new EliminationSteps();
+
+	/**
+	 * possibilities of the board being solved, as seen by the elimination
+	 * techniques; every elimination is recorded on the trail.
+	 */
+	private final EliminationSteps.Candidates candidates = new EliminationSteps.Candidates() {
+		@Override
+		public int get(int cell) {
+			return possibilities(cell);
+		}
+
+		@Override
+		public void set(int cell, int possibilities) {
+			trail.setPossibilities(grid, cell, possibilities);
+		}
+	};
+
+	/**
+	 * method to solve a board in place.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @return the solved board
+	 * @throws SolverException
+	 *             if the board has no solution, in which case it is left as it
+	 *             was passed in
+	 */
+	public Board solve(Board board) throws SolverException {
+		if (search(board) != SearchResult.SOLVED) {
+			throw new SolverException(NO_SOLUTION_WARNING);
+		}
+		return board;
+	}
+
+	/**
+	 * method to search for a solution of a board in place without throwing on
+	 * failure.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @return SOLVED with the board filled in, or NO_SOLUTION with the board left
+	 *         as it was passed in
+	 */
+	public SearchResult search(Board board) {
+		return start(board, 1, null, true);
+	}
+
+	/**
+	 * method to search for a solution of a board in place without throwing on
+	 * failure, stopping early if the token is cancelled.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @param token
+	 *            token to stop the search with, or null
+	 * @return SOLVED with the board filled in, or NO_SOLUTION or CANCELLED with
+	 *         the board left as it was passed in
+	 */
+	public SearchResult search(Board board, CancellationToken token) {
+		return start(board, 1, SearchBudget.of(token), true);
+	}
+
+	/**
+	 * method to search for a solution of a board in place without throwing on
+	 * failure, stopping early if the budget runs out.
+	 *
+	 * @param board
+	 *            board being solved
+	 * @param budget
+	 *            budget of the search, or null for none
+	 * @return SOLVED with the board filled in, or NO_SOLUTION, CANCELLED or
+	 *         BUDGET_EXHAUSTED with the board left as it was passed in
+	 */
+	public SearchResult search(Board board, SearchBudget budget) {
+		return start(board, 1, budget, true);
+	}
+
+	/**
+	 * method to count the solutions of a board, stopping once the limit has been
+	 * reached. The board is always left as it was passed in; the number found is
+	 * returned by getSolutionCount().
+	 *
+	 * @param board
+	 *            board being evaluated
+	 * @param limit
+	 *            number of solutions to stop at
+	 * @param token
+	 *            token to stop the search with, or null
+	 * @return SOLVED if at least one solution was found, NO_SOLUTION if there are
+	 *         none, or CANCELLED
+	 */
+	public SearchResult countSolutions(Board board, long limit, CancellationToken token) {
+		return start(board, limit, SearchBudget.of(token), false);
+	}
+
+	/**
+	 * method to count the solutions of a board, stopping once the limit has been
+	 * reached or the budget runs out. The board is always left as it was passed
+	 * in; the number found so far is returned by getSolutionCount().
+	 *
+	 * @param board
+	 *            board being evaluated
+	 * @param limit
+	 *            number of solutions to stop at
+	 * @param budget
+	 *            budget of the search, or null for none
+	 * @return SOLVED if at least one solution was found, NO_SOLUTION if there are
+	 *         none, or CANCELLED or BUDGET_EXHAUSTED
+	 */
+	public SearchResult countSolutions(Board board, long limit, SearchBudget budget) {
+		return start(board, limit, budget, false);
+	}
+
+	/**
+	 * method to check whether a board has no, one or several solutions. The search
+	 * stops as soon as a second solution is found. The board is always left as it
+	 * was passed in.
+	 *
+	 * @param board
+	 *            board being evaluated
+	 * @return the uniqueness of the board, with the solutions found
+	 */
+	public UniquenessResult checkUniqueness(Board board) {
+		if (!board.isConsistent()) {
+			return new UniquenessResult(null, null);
+		}
+		recordWitnesses = true;
+		try {
+			start(board, witnesses.length, null, false);
+		} finally {
+			recordWitnesses = false;
+		}
+		Board first = (solutionCount > 0) ? witnessBoard(0) : null;
+		Board second = (solutionCount > 1) ? witnessBoard(1) : null;
+		return new UniquenessResult(first, second);
+	}
+
+	/**
+	 * method to determine whether a board has a solution other than a known one,
+	 * where the known solution's values of some empty tiles are given. Any other
+	 * solution differs on one of these tiles, so the search is split into one
+	 * branch per tile: the tile avoids its known value while the tiles before it
+	 * keep theirs. The branches never overlap, and all of them share the board's
+	 * set up and first propagation, each being undone on the trail before the
+	 * next. When the whole known solution is given, every guess tries its value
+	 * first, so the other solution found tends to differ from it on few tiles.
+	 * The board is always left as it was passed in.
+	 *
+	 * @param board
+	 *            board being evaluated, which the known solution solves
+	 * @param cells
+	 *            cells of the empty tiles the other solution may differ on
+	 * @param values
+	 *            values of those tiles in the known solution
+	 * @param count
+	 *            number of cells
+	 * @param solution
+	 *            the known solution's values by cell index, or null
+	 * @param other
+	 *            filled in with the values of the other solution by cell index,
+	 *            if one is found; may be null
+	 * @return true if some other solution exists
+	 */
+	public boolean hasOtherSolution(Board board, int cells[], int values[], int count, int solution[],
+			int other[]) {
+		load(board);
+		preferred = solution;
+		try {
+			if (!propagate()) {
+				return false;
+			}
+			for (int k = 0; k < count; k++) {
+				int cell = cells[k];
+				/* a tile the clues force can only take its known value */
+				if (grid.getValue(cell) != MISSING_VALUE) {
+					continue;
+				}
+				int mark = trail.mark();
+				trail.setPossibilities(grid, cell, CandidateMask.remove(grid.getPossibilities(cell), values[k]));
+				if (run(1, null) == SearchResult.SOLVED) {
+					if (other != null) {
+						for (int c = 0; c < layout.getCellCount(); c++) {
+							other[c] = grid.getValue(c);
+						}
+					}
+					return true;
+				}
+				trail.undo(grid, mark);
+				if (!trail.setValue(grid, cell, values[k]) || !propagate()) {
+					/* only if the known solution does not solve the board after all */
+					return false;
+				}
+			}
+			return false;
+		} finally {
+			preferred = null;
+			trail.rewind(grid);
+			unload();
+		}
+	}
+
+	/**
+	 * method to build a new board from the values of a witness.
+	 */
+	private Board witnessBoard(int w) {
+		Board result = new Board(boxSize);
+		int dimensions = result.getDimensions();
+		for (int i = 0; i < dimensions; i++) {
+			for (int j = 0; j < dimensions; j++) {
+				result.setValue(i, j, witnesses[w][i * dimensions + j]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * getter to return the number of solutions found by the last search.
+	 *
+	 * @return number of solutions
+	 */
+	public long getSolutionCount() {
+		return solutionCount;
+	}
+
+	/**
+	 * getter to return the statistics recorded by every search.
+	 *
+	 * @return statistics, or null if none are recorded
+	 */
+	public SolverStats getStats() {
+		return stats;
+	}
+
+	/**
+	 * setter to record statistics in every following search.
+	 *
+	 * @param stats
+	 *            statistics to add to, or null to stop recording
+	 */
+	public void setStats(SolverStats stats) {
+		this.stats = stats;
+	}
+
+	/**
+	 * getter to return the elimination techniques applied besides the singles.
+	 *
+	 * @return techniques
+	 */
+	public Set<Technique> getTechniques() {
+		return Collections.unmodifiableSet(techniques);
+	}
+
+	/**
+	 * setter to choose the elimination techniques applied besides the singles in
+	 * every following search (see Technique). Singles in the set are ignored.
+	 *
+	 * @param techniques
+	 *            techniques to apply
+	 */
+	public void setTechniques(Set<Technique> techniques) {
+		this.techniques = techniques.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(techniques);
+	}
+
+	/**
+	 * method to set up the search of a board, run it and clean up afterwards.
+	 */
+	private SearchResult start(Board board, long limit, SearchBudget budget, boolean keepSolution) {
+		load(board);
+		SearchResult result = run(limit, budget);
+		if (result != SearchResult.SOLVED || !keepSolution) {
+			trail.rewind(grid);
+		}
+		unload();
+		return result;
+	}
+
+	/**
+	 * method to take on a board, with an empty trail and index of its empty tiles.
+	 */
+	private void load(Board board) {
+		if (board.getBoxSize() != boxSize) {
+			resize(board.getBoxSize());
+		}
+		this.grid = board.getGrid();
+		this.layout = grid.getLayout();
+		trail.clear();
+		/* start every empty tile off with the possibilities left on the board */
+		for (int c = 0; c < layout.getCellCount(); c++) {
+			if (grid.getValue(c) == MISSING_VALUE) {
+				grid.setPossibilities(c, range & ~grid.getUsedValues(c));
+			}
+		}
+		index.reset(grid);
+	}
+
+	/**
+	 * method to let go of the board once the trail has been undone as far as
+	 * wanted.
+	 */
+	private void unload() {
+		trail.clear();
+		index.reset(null);
+		this.grid = null;
+		this.layout = null;
+	}
+
+	/**
+	 * method to size the index, trail, frame stack and witnesses for boards of
+	 * another box size.
+	 */
+	private void resize(int boxSize) {
+		int dimensions = boxSize * boxSize;
+		int tiles = dimensions * dimensions;
+		this.boxSize = boxSize;
+		this.range = CandidateMask.full(dimensions);
+		this.index = new PossibilityIndex(dimensions);
+		this.trail = new Trail(index);
+		this.frameCell = new int[tiles];
+		this.frameRemaining = new int[tiles];
+		this.frameValue = new int[tiles];
+		this.frameMark = new int[tiles];
+		for (int w = 0; w < witnesses.length; w++) {
+			witnesses[w] = new int[tiles];
+		}
+	}
+
+	/**
+	 * iterative search: apply the heuristics, then try each possibility of the next
+	 * empty tile in turn, undoing the trail back to the tile's frame after each
+	 * failed attempt. A solution found before reaching the limit is counted and
+	 * then treated like a dead end, so the search carries on to the next one.
+	 *
+	 * @param limit
+	 *            number of solutions to stop at
+	 * @param budget
+	 *            budget of the search, or null
+	 * @return search result
+	 */
+	private SearchResult run(long limit, SearchBudget budget) {
+		solutionCount = 0;
+		if (!propagate()) {
+			return SearchResult.NO_SOLUTION;
+		}
+		int depth = 0;
+		boolean descend = true;
+		while (true) {
+			if (descend) {
+				if (grid.isSolved()) {
+					if (recordWitnesses && solutionCount < witnesses.length) {
+						recordWitness((int) solutionCount);
+					}
+					solutionCount++;
+					if (solutionCount >= limit || depth == 0) {
+						return SearchResult.SOLVED;
+					}
+				} else {
+					/* push a frame for the tile with the fewest possibilities */
+					int cell = index.best();
+					frameCell[depth] = cell;
+					frameRemaining[depth] = possibilities(cell);
+					frameValue[depth] = MISSING_VALUE;
+					frameMark[depth] = trail.mark();
+					depth++;
+				}
+			}
+			int f = depth - 1;
+			int cell = frameCell[f];
+			if (frameValue[f] != MISSING_VALUE) {
+				/*
+				 * the last guess was a dead end, so undo it and rule it out for this tile
+				 * until we backtrack past this frame.
+				 */
+				if (stats != null) {
+					stats.backtracked();
+				}
+				trail.undo(grid, frameMark[f]);
+				trail.setPossibilities(grid, cell, CandidateMask.remove(grid.getPossibilities(cell), frameValue[f]));
+				frameMark[f] = trail.mark();
+			}
+			if (frameRemaining[f] == CandidateMask.EMPTY) {
+				/* out of guesses for this tile: pop the frame, the parent's guess failed */
+				depth--;
+				if (depth == 0) {
+					return (solutionCount > 0) ? SearchResult.SOLVED : SearchResult.NO_SOLUTION;
+				}
+				descend = false;
+				continue;
+			}
+			if (budget != null && !budget.guess(depth)) {
+				return budget.getStopResult();
+			}
+			int poss = CandidateMask.lowest(frameRemaining[f]);
+			if (preferred != null && CandidateMask.contains(frameRemaining[f], preferred[cell])) {
+				poss = preferred[cell];
+			}
+			frameRemaining[f] = CandidateMask.remove(frameRemaining[f], poss);
+			frameValue[f] = poss;
+			if (stats != null) {
+				stats.guessed(depth);
+			}
+			descend = trail.setValue(grid, cell, poss) && propagate();
+		}
+	}
+
+	/**
+	 * method to copy the values of the solved board into a witness.
+	 */
+	private void recordWitness(int w) {
+		for (int c = 0; c < layout.getCellCount(); c++) {
+			witnesses[w][c] = grid.getValue(c);
+		}
+	}
+
+	/**
+	 * method to fill in every tile the heuristics can find a value for.
+	 *
+	 * @return false if a dead end was found
+	 */
+	private boolean propagate() {
+		boolean found = true;
+		while (found) {
+			found = false;
+			long start = 0;
+			if (stats != null) {
+				stats.pass();
+				start = System.nanoTime();
+			}
+			/* tiles with a single possibility, straight from the index */
+			int single;
+			while ((single = index.first(1)) != MISSING_VALUE) {
+				int value = CandidateMask.lowest(possibilities(single));
+				if (stats != null) {
+					stats.placed(Technique.NAKED_SINGLE, 1);
+					stats.eliminated(Technique.NAKED_SINGLE, countEliminations(single, value));
+				}
+				if (!trail.setValue(grid, single, value)) {
+					return false;
+				}
+			}
+			if (stats != null) {
+				stats.timed(Technique.NAKED_SINGLE, System.nanoTime() - start);
+			}
+			/* a tile with no possibilities left is a dead end */
+			if (index.first(0) != MISSING_VALUE) {
+				return false;
+			}
+			/* values with a single place in a row, column or local group */
+			for (int g = 0; g < layout.getDimensions(); g++) {
+				int rowFound = placeUniqueValues(layout.getUnit(layout.getRowUnit(g)), Technique.HIDDEN_SINGLE_ROW);
+				int colFound = placeUniqueValues(layout.getUnit(layout.getColUnit(g)), Technique.HIDDEN_SINGLE_COLUMN);
+				int lgFound = placeUniqueValues(layout.getUnit(layout.getLocalGroupUnit(g)),
+						Technique.HIDDEN_SINGLE_LOCAL_GROUP);
+				if (rowFound == MISSING_VALUE || colFound == MISSING_VALUE || lgFound == MISSING_VALUE) {
+					return false;
+				}
+				found = found || rowFound > 0 || colFound > 0 || lgFound > 0;
+			}
+			/* once the singles find nothing more, try to eliminate possibilities */
+			if (!found && !techniques.isEmpty()) {
+				found = steps.apply(grid, candidates, techniques, stats);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * method to set every value that only has one possible tile in a group.
+	 *
+	 * @param group
+	 *            cells of a row, column or local group
+	 * @param technique
+	 *            technique the statistics are recorded under
+	 * @return number of values set, or MISSING_VALUE if a value has nowhere to go
+	 */
+	private int placeUniqueValues(int group[], Technique technique) {
+		if (stats == null) {
+			return placeUniqueValuesUntimed(group, technique);
+		}
+		long start = System.nanoTime();
+		int count = placeUniqueValuesUntimed(group, technique);
+		stats.timed(technique, System.nanoTime() - start);
+		return count;
+	}
+
+	/**
+	 * method behind placeUniqueValues(), without the timer.
+	 */
+	private int placeUniqueValuesUntimed(int group[], Technique technique) {
+		int seenOnce = CandidateMask.EMPTY;
+		int seenTwice = CandidateMask.EMPTY;
+		int placed = CandidateMask.EMPTY;
+		for (int t : group) {
+			int value = grid.getValue(t);
+			if (value == MISSING_VALUE) {
+				int possible = possibilities(t);
+				seenTwice |= seenOnce & possible;
+				seenOnce |= possible;
+			} else {
+				placed |= CandidateMask.of(value);
+			}
+		}
+		if ((seenOnce | placed) != range) {
+			return MISSING_VALUE;
+		}
+		int unique = seenOnce & ~seenTwice;
+		int count = 0;
+		for (int t : group) {
+			if (unique == CandidateMask.EMPTY) {
+				break;
+			}
+			if (grid.getValue(t) == MISSING_VALUE) {
+				int poss = CandidateMask.lowest(possibilities(t) & unique);
+				if (poss != MISSING_VALUE) {
+					if (stats != null) {
+						stats.placed(technique, 1);
+						stats.eliminated(technique, countEliminations(t, poss));
+					}
+					if (!trail.setValue(grid, t, poss)) {
+						return MISSING_VALUE;
+					}
+					unique = CandidateMask.remove(unique, poss);
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * method to count the possibilities that setting a value on a tile eliminates
+	 * from the other empty tiles of its row, column and local group. Only used to
+	 * record statistics, so it must be called before the value is set.
+	 */
+	private int countEliminations(int cell, int value) {
+		int count = 0;
+		for (int p : layout.getPeers(cell)) {
+			if (grid.getValue(p) == MISSING_VALUE && CandidateMask.contains(possibilities(p), value)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * method to return the possibilities of an empty tile: its own possibilities
+	 * without the values already used by its row, column and local group.
+	 *
+	 * @param cell
+	 *            tile being evaluated
+	 * @return bitmask of possibilities
+	 */
+	private int possibilities(int cell) {
+		return grid.getPossibilities(cell) & ~grid.getUsedValues(cell);
+	}
+
+}
@@ -0,0 +1,247 @@
+package sudokuSolver.model;
+
+import java.util.Arrays;
+
+/**
+ * UnavoidableSets class which keeps the clues of a puzzle being made from a
+ * solved grid, along with sets of tiles that every puzzle of the grid must keep
+ * a clue in. Such a set is unavoidable when its values can be rearranged into
+ * another valid grid: a puzzle with no clue in it is solved by both grids. The
+ * tiles where any other solution differs from the grid always make one, so the
+ * generator adds every other solution its oracle finds. The sets start off
+ * with those made by two values alone: the tiles of the two values in some of
+ * the rows, when swapping the values there leaves every column and local group
+ * with one of each. The smallest are four tiles in two rows, two columns and
+ * two local groups holding the values crosswise.
+ *
+ * When clues are removed, a set left without any clue proves straight away that
+ * the puzzle has more than one solution, with no search at all.
+ *
+ * Tiles are kept as bitmasks over the cell indices of the board's BoardLayout,
+ * in words of 64 bits.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+final class UnavoidableSets {
+
+	/**
+	 * number of cell bits held by each word of a mask.
+	 */
+	private static final int WORD_BITS = Long.SIZE;
+
+	/**
+	 * largest two value set to start off with; larger ones are rarely left
+	 * without a clue.
+	 */
+	private static final int MAX_PAIR_SET_SIZE = 12;
+
+	/**
+	 * initial number of sets that can be held before growing.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * values of the solved grid, by cell index.
+	 */
+	private final int solution[];
+
+	/**
+	 * number of words per mask.
+	 */
+	private final int words;
+
+	/**
+	 * tiles that are still clues.
+	 */
+	private final long clues[];
+
+	/**
+	 * the masks of every set, one after the other.
+	 */
+	private long sets[];
+
+	/**
+	 * number of sets held.
+	 */
+	private int size = 0;
+
+	/**
+	 * construct the sets of a solved grid, every tile of which starts off as a
+	 * clue.
+	 *
+	 * @param grid
+	 *            solved board
+	 */
+	UnavoidableSets(CompactBoard grid) {
+		BoardLayout layout = grid.getLayout();
+		int cells = layout.getCellCount();
+		this.solution = new int[cells];
+		for (int c = 0; c < cells; c++) {
+			solution[c] = grid.getValue(c);
+		}
+		this.words = (cells + WORD_BITS - 1) / WORD_BITS;
+		this.clues = new long[words];
+		for (int c = 0; c < cells; c++) {
+			clues[c / WORD_BITS] |= 1L << c;
+		}
+		this.sets = new long[INITIAL_CAPACITY * words];
+		addValuePairs(layout);
+	}
+
+	/**
+	 * method to add the sets made by every pair of values. Swapping the two
+	 * values in a row moves each into the other's column, so the rows they can be
+	 * swapped in without repeating a value in a column are the unions of the
+	 * cycles of row -> row holding the first value in the column of the second.
+	 * A union is kept if the local groups stay valid too, and it is small enough.
+	 */
+	private void addValuePairs(BoardLayout layout) {
+		int dimensions = layout.getDimensions();
+		/* cell of each value in each row */
+		int cellOf[][] = new int[dimensions + 1][dimensions];
+		for (int c = 0; c < solution.length; c++) {
+			cellOf[solution[c]][layout.getRow(c)] = c;
+		}
+		int rowOfFirst[] = new int[dimensions];
+		int cycleOf[] = new int[dimensions];
+		for (int a = 1; a <= dimensions; a++) {
+			for (int b = a + 1; b <= dimensions; b++) {
+				for (int r = 0; r < dimensions; r++) {
+					rowOfFirst[layout.getCol(cellOf[a][r])] = r;
+				}
+				int cycles = 0;
+				Arrays.fill(cycleOf, -1);
+				for (int r = 0; r < dimensions; r++) {
+					for (int s = r; cycleOf[s] < 0; s = rowOfFirst[layout.getCol(cellOf[b][s])]) {
+						cycleOf[s] = cycles;
+					}
+					if (cycleOf[r] == cycles) {
+						cycles++;
+					}
+				}
+				/* every union of cycles but the one of all rows, which holds every tile of both values */
+				for (int union = 1; union < (1 << cycles) - 1; union++) {
+					addValuePair(layout, cellOf[a], cellOf[b], cycleOf, union);
+				}
+			}
+		}
+	}
+
+	/**
+	 * method to add the set of two values in the rows of a union of cycles, if the
+	 * swapped values stay valid in every local group and the set is small enough.
+	 */
+	private void addValuePair(BoardLayout layout, int first[], int second[], int cycleOf[], int union) {
+		long firstGroups = 0;
+		long secondGroups = 0;
+		int tiles = 0;
+		for (int r = 0; r < cycleOf.length; r++) {
+			if ((union & (1 << cycleOf[r])) != 0) {
+				firstGroups |= 1L << layout.getLocalGroup(first[r]);
+				secondGroups |= 1L << layout.getLocalGroup(second[r]);
+				tiles += 2;
+			}
+		}
+		if (firstGroups != secondGroups || tiles > MAX_PAIR_SET_SIZE) {
+			return;
+		}
+		int offset = grow();
+		for (int r = 0; r < cycleOf.length; r++) {
+			if ((union & (1 << cycleOf[r])) != 0) {
+				mark(offset, first[r]);
+				mark(offset, second[r]);
+			}
+		}
+	}
+
+	/**
+	 * method to add the set of tiles where another solution differs from the
+	 * grid.
+	 *
+	 * @param other
+	 *            values of the other solution, by cell index
+	 */
+	void add(int other[]) {
+		int offset = grow();
+		for (int c = 0; c < solution.length; c++) {
+			if (other[c] != solution[c]) {
+				mark(offset, c);
+			}
+		}
+	}
+
+	/**
+	 * method to stop counting tiles as clues.
+	 *
+	 * @param cells
+	 *            tiles whose clues were removed
+	 */
+	void removeClues(int cells[]) {
+		for (int c : cells) {
+			clues[c / WORD_BITS] &= ~(1L << c);
+		}
+	}
+
+	/**
+	 * method to count tiles as clues again.
+	 *
+	 * @param cells
+	 *            tiles whose clues were put back
+	 */
+	void restoreClues(int cells[]) {
+		for (int c : cells) {
+			clues[c / WORD_BITS] |= 1L << c;
+		}
+	}
+
+	/**
+	 * method to determine whether some set has no clue left, in which case the
+	 * puzzle has another solution besides the grid.
+	 *
+	 * @return true or false
+	 */
+	boolean isUncovered() {
+		for (int offset = 0; offset < size * words; offset += words) {
+			boolean covered = false;
+			for (int w = 0; w < words && !covered; w++) {
+				covered = (sets[offset + w] & clues[w]) != 0;
+			}
+			if (!covered) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * getter to return the number of sets held.
+	 *
+	 * @return number of sets
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * method to make room for one more, empty, set.
+	 *
+	 * @return offset of the new set's first word
+	 */
+	private int grow() {
+		int offset = size * words;
+		if (offset + words > sets.length) {
+			sets = Arrays.copyOf(sets, sets.length * 2);
+		}
+		size++;
+		return offset;
+	}
+
+	/**
+	 * method to add a tile to the set starting at an offset.
+	 */
+	private void mark(int offset, int cell) {
+		sets[offset + cell / WORD_BITS] |= 1L << cell;
+	}
+
+}
@@ -0,0 +1,27 @@
+package sudokuSolver.model;
+
+/**
+ * Enumeration of how many solutions a board has, as far as a proper puzzle is
+ * concerned: none, exactly one, or more than one.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public enum Uniqueness {
+
+	/**
+	 * the board has no solution.
+	 */
+	NONE,
+
+	/**
+	 * the board has exactly one solution, i.e. it is a proper puzzle.
+	 */
+	UNIQUE,
+
+	/**
+	 * the board has at least two solutions.
+	 */
+	MULTIPLE
+
+}
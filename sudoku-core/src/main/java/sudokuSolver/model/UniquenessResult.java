@@ -0,0 +1,87 @@
+package sudokuSolver.model;
+
+/**
+ * UniquenessResult class holding the outcome of a uniqueness check (see
+ * Solver.checkUniqueness()): whether the board has no, one or several
+ * solutions, along with the solutions found. A board with several solutions
+ * comes with two different ones as witnesses. The solutions are new boards that
+ * share nothing with the board that was checked.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class UniquenessResult {
+
+	/**
+	 * number of solutions of the board.
+	 */
+	private final Uniqueness uniqueness;
+
+	/**
+	 * first solution found, or null.
+	 */
+	private final Board firstSolution;
+
+	/**
+	 * second solution found, or null.
+	 */
+	private final Board secondSolution;
+
+	/**
+	 * construct a uniqueness result.
+	 *
+	 * @param firstSolution
+	 *            first solution found, or null if there is none
+	 * @param secondSolution
+	 *            second solution found, or null if there is none
+	 */
+	UniquenessResult(Board firstSolution, Board secondSolution) {
+		if (firstSolution == null) {
+			this.uniqueness = Uniqueness.NONE;
+		} else if (secondSolution == null) {
+			this.uniqueness = Uniqueness.UNIQUE;
+		} else {
+			this.uniqueness = Uniqueness.MULTIPLE;
+		}
+		this.firstSolution = firstSolution;
+		this.secondSolution = secondSolution;
+	}
+
+	/**
+	 * getter to return how many solutions the board has.
+	 *
+	 * @return NONE, UNIQUE or MULTIPLE
+	 */
+	public Uniqueness getUniqueness() {
+		return uniqueness;
+	}
+
+	/**
+	 * method to determine whether the board has exactly one solution.
+	 *
+	 * @return true or false
+	 */
+	public boolean isUnique() {
+		return uniqueness == Uniqueness.UNIQUE;
+	}
+
+	/**
+	 * getter to return the first solution found.
+	 *
+	 * @return the solution for UNIQUE, the first witness for MULTIPLE, or null
+	 *         for NONE
+	 */
+	public Board getFirstSolution() {
+		return firstSolution;
+	}
+
+	/**
+	 * getter to return the second solution found.
+	 *
+	 * @return the second witness for MULTIPLE, otherwise null
+	 */
+	public Board getSecondSolution() {
+		return secondSolution;
+	}
+
+}
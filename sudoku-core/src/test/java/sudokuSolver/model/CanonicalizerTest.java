@@ -0,0 +1,128 @@
+package sudokuSolver.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * CanonicalizerTest class checking that a puzzle solved in its canonical form
+ * and mapped back gives the puzzle's own solution, and that relabelled,
+ * transposed and reordered copies of a puzzle share its canonical key and
+ * invariant key.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+class CanonicalizerTest {
+
+	/**
+	 * number of random copies made of every puzzle.
+	 */
+	private static final int COPIES = 3;
+
+	/**
+	 * seed of the random copies, so that a failure can be repeated.
+	 */
+	private static final long SEED = 241;
+
+	/**
+	 * method to check canonicalize, solve and invert on every 9x9 puzzle.
+	 */
+	@Test
+	void solvingCanonicalFormRoundTrips() throws IOException, SolverException {
+		SolverWorkspace workspace = new SolverWorkspace();
+		for (String file : Corpus.NINE_BY_NINE_FILES) {
+			for (Board puzzle : Corpus.load(file)) {
+				Canonicalizer.CanonicalForm form = Canonicalizer.canonicalize(puzzle);
+				assertNotNull(form, Corpus.encode(puzzle));
+				BoardTransform transform = form.getTransform();
+				Board canonical = transform.apply(puzzle);
+				assertEquals(form.getKey(), Corpus.encode(canonical), file);
+				assertEquals(Corpus.encode(puzzle), Corpus.encode(transform.invert(canonical)), file);
+
+				Board solution = transform.invert(workspace.solve(canonical, SolverEngine.HEURISTIC));
+				assertTrue(Corpus.isSolutionOf(puzzle, solution), file + ": " + Corpus.encode(puzzle));
+
+				Board direct = workspace.solve(Corpus.copy(puzzle), SolverEngine.HEURISTIC);
+				assertEquals(Corpus.encode(direct), Corpus.encode(solution), file);
+			}
+		}
+	}
+
+	/**
+	 * method to check that equivalent copies of every 9x9 puzzle have the same
+	 * canonical and invariant keys.
+	 */
+	@Test
+	void equivalentBoardsShareKeys() throws IOException {
+		Random random = new Random(SEED);
+		for (String file : Corpus.NINE_BY_NINE_FILES) {
+			for (Board puzzle : Corpus.load(file)) {
+				String key = Canonicalizer.canonicalize(puzzle).getKey();
+				long invariant = Canonicalizer.invariant(puzzle);
+				for (int k = 0; k < COPIES; k++) {
+					BoardTransform transform = randomTransform(random);
+					Board copy = transform.apply(puzzle);
+					String where = file + ": " + Corpus.encode(puzzle) + " by " + transform;
+					assertEquals(key, Canonicalizer.canonicalize(copy).getKey(), where);
+					assertEquals(invariant, Canonicalizer.invariant(copy), where);
+					assertEquals(Corpus.encode(puzzle), Corpus.encode(transform.invert(copy)), where);
+				}
+			}
+		}
+	}
+
+	/**
+	 * method to return a random transform: a transposition or not, an order of
+	 * the rows and of the columns that keeps the bands and stacks together, and
+	 * a relabelling of the values.
+	 */
+	private static BoardTransform randomTransform(Random random) {
+		int values[] = new int[Board.DEFAULT_BOX_SIZE * Board.DEFAULT_BOX_SIZE + 1];
+		int labels[] = shuffled(random, values.length - 1);
+		for (int v = 1; v < values.length; v++) {
+			values[v] = labels[v - 1] + 1;
+		}
+		return new BoardTransform(random.nextBoolean(), randomOrder(random), randomOrder(random), values);
+	}
+
+	/**
+	 * method to return a random order of the rows (or columns) of a 9x9 board
+	 * that keeps the bands (or stacks) together.
+	 */
+	private static int[] randomOrder(Random random) {
+		int size = Board.DEFAULT_BOX_SIZE;
+		int order[] = new int[size * size];
+		int bands[] = shuffled(random, size);
+		for (int b = 0; b < size; b++) {
+			int lines[] = shuffled(random, size);
+			for (int l = 0; l < size; l++) {
+				order[b * size + l] = bands[b] * size + lines[l];
+			}
+		}
+		return order;
+	}
+
+	/**
+	 * method to return 0 to count - 1 in a random order.
+	 */
+	private static int[] shuffled(Random random, int count) {
+		int order[] = new int[count];
+		for (int k = 0; k < count; k++) {
+			order[k] = k;
+		}
+		for (int k = count - 1; k > 0; k--) {
+			int other = random.nextInt(k + 1);
+			int swap = order[k];
+			order[k] = order[other];
+			order[other] = swap;
+		}
+		return order;
+	}
+
+}
@@ -0,0 +1,140 @@
+package sudokuSolver.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * CdclSolverTest class checking the counters of the clause learning search:
+ * its conflicts, learned clauses, restarts and decisions, as kept by
+ * CdclSolver and as recorded in a SolverStats.
+ *
+ * Every conflict above the first decision level is analysed into exactly one
+ * learned clause, so a search that finds a solution learns as many clauses as
+ * it finds conflicts, and one that proves there is none learns one fewer: its
+ * last conflict needs no decision at all. A board whose encoding is already
+ * contradictory has no conflict to learn from.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+class CdclSolverTest {
+
+	/**
+	 * number of holes of the pigeonhole formula, which has one more pigeon than
+	 * holes and takes clause learning thousands of conflicts to refute.
+	 */
+	private static final int HOLES = 7;
+
+	/**
+	 * method to check the counters on a formula without a solution.
+	 */
+	@Test
+	void countsConflictsOfUnsatisfiableFormula() {
+		CdclSolver cdcl = pigeonhole(HOLES);
+		SolverStats stats = new SolverStats();
+		cdcl.setStats(stats);
+		assertEquals(SearchResult.NO_SOLUTION, cdcl.solve(null));
+
+		assertTrue(cdcl.getConflictCount() > 0);
+		assertEquals(cdcl.getConflictCount() - 1, cdcl.getLearnedClauseCount());
+		assertTrue(cdcl.getRestartCount() > 0, "no restart in " + cdcl.getConflictCount() + " conflicts");
+		assertTrue(cdcl.getDecisionCount() > 0);
+		assertCounters(cdcl, stats);
+	}
+
+	/**
+	 * method to check the counters on sudoku boards: corpus puzzles, which have
+	 * a solution, and the same puzzles with a wrong value added, which do not.
+	 */
+	@Test
+	void countsConflictsOfSudokuBoards() throws IOException {
+		SatSolver sat = new SatSolver();
+		long conflicts = 0;
+		long refutingConflicts = 0;
+		for (String file : Corpus.NINE_BY_NINE_FILES) {
+			for (Board puzzle : Corpus.load(file)) {
+				SolverStats stats = new SolverStats();
+				sat.setStats(stats);
+				Board board = Corpus.copy(puzzle);
+				assertEquals(SearchResult.SOLVED, sat.search(board, (CancellationToken) null));
+				assertEquals(stats.getConflictCount(), stats.getLearnedClauseCount(), file);
+				conflicts += stats.getConflictCount();
+
+				stats = new SolverStats();
+				sat.setStats(stats);
+				Board wrong = EngineAgreementTest.withWrongValue(puzzle);
+				assertEquals(SearchResult.NO_SOLUTION, sat.search(wrong, (CancellationToken) null));
+				assertEquals(Math.max(0, stats.getConflictCount() - 1), stats.getLearnedClauseCount(), file);
+				refutingConflicts += stats.getConflictCount();
+			}
+		}
+		sat.setStats(null);
+		assertTrue(conflicts > 0, "no puzzle needed clause learning");
+		assertTrue(refutingConflicts > 0, "no wrong value needed clause learning");
+	}
+
+	/**
+	 * method to check that SolverStats adds up and clears the counters of the
+	 * clause learning search.
+	 */
+	@Test
+	void statsAddAndReset() {
+		CdclSolver cdcl = pigeonhole(HOLES);
+		SolverStats stats = new SolverStats();
+		cdcl.setStats(stats);
+		cdcl.solve(null);
+
+		SolverStats total = new SolverStats();
+		total.add(stats);
+		total.add(stats);
+		assertEquals(2 * stats.getConflictCount(), total.getConflictCount());
+		assertEquals(2 * stats.getLearnedClauseCount(), total.getLearnedClauseCount());
+		assertEquals(2 * stats.getRestartCount(), total.getRestartCount());
+
+		total.reset();
+		assertEquals(0, total.getConflictCount());
+		assertEquals(0, total.getLearnedClauseCount());
+		assertEquals(0, total.getRestartCount());
+	}
+
+	/**
+	 * method to check that the counters recorded in a SolverStats are the ones
+	 * kept by the solver, with every decision recorded as a guess.
+	 */
+	private static void assertCounters(CdclSolver cdcl, SolverStats stats) {
+		assertEquals(cdcl.getConflictCount(), stats.getConflictCount());
+		assertEquals(cdcl.getLearnedClauseCount(), stats.getLearnedClauseCount());
+		assertEquals(cdcl.getRestartCount(), stats.getRestartCount());
+		assertEquals(cdcl.getDecisionCount(), stats.getGuessCount());
+	}
+
+	/**
+	 * method to return the formula putting one more pigeon than there are holes
+	 * into the holes, at most one pigeon per hole: variable p * holes + h + 1
+	 * says that pigeon p is in hole h.
+	 */
+	private static CdclSolver pigeonhole(int holes) {
+		int pigeons = holes + 1;
+		CdclSolver cdcl = new CdclSolver(pigeons * holes);
+		for (int p = 0; p < pigeons; p++) {
+			int somewhere[] = new int[holes];
+			for (int h = 0; h < holes; h++) {
+				somewhere[h] = p * holes + h + 1;
+			}
+			cdcl.addClause(somewhere);
+		}
+		for (int h = 0; h < holes; h++) {
+			for (int p = 0; p < pigeons; p++) {
+				for (int q = p + 1; q < pigeons; q++) {
+					cdcl.addClause(-(p * holes + h + 1), -(q * holes + h + 1));
+				}
+			}
+		}
+		return cdcl;
+	}
+
+}
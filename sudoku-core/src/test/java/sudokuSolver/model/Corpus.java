@@ -0,0 +1,118 @@
+package sudokuSolver.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Corpus class which reads the checked in puzzles of sudoku-benchmarks for the
+ * tests. The directory is given by the corpus.dir system property, which the
+ * build sets.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+final class Corpus {
+
+	/**
+	 * every corpus file, from 9x9 to 25x25.
+	 */
+	static final String FILES[] = { "easy.txt", "hard.txt", "killers.txt", "minimal17.txt", "size9.txt",
+			"size16.txt", "size25.txt" };
+
+	/**
+	 * the corpus files of 9x9 puzzles.
+	 */
+	static final String NINE_BY_NINE_FILES[] = { "easy.txt", "hard.txt", "killers.txt", "minimal17.txt",
+			"size9.txt" };
+
+	/**
+	 * int value for tiles without a value assigned to it.
+	 */
+	static final int MISSING_VALUE = -1;
+
+	/**
+	 * character starting a comment line.
+	 */
+	private static final String COMMENT = "#";
+
+	/**
+	 * Prevent instantiation of utility class.
+	 */
+	private Corpus() {
+	}
+
+	/**
+	 * method to read every puzzle of a corpus file.
+	 *
+	 * @param file
+	 *            name of the file in the corpus directory
+	 * @return puzzles, in the order of the file
+	 * @throws IOException
+	 *             if the file cannot be read
+	 */
+	static List<Board> load(String file) throws IOException {
+		Path path = Paths.get(System.getProperty("corpus.dir", "../sudoku-benchmarks/src/main/resources/corpus"),
+				file);
+		List<Board> boards = new ArrayList<>();
+		for (String line : Files.readAllLines(path)) {
+			if (!line.trim().isEmpty() && !line.startsWith(COMMENT)) {
+				boards.add(PuzzleCodec.decode(line));
+			}
+		}
+		return boards;
+	}
+
+	/**
+	 * method to copy a board.
+	 *
+	 * @param board
+	 *            board being copied
+	 * @return new board with the same values
+	 */
+	static Board copy(Board board) {
+		return new Board(board.getGrid().copy());
+	}
+
+	/**
+	 * method to write a board as one line, '.' for empty tiles.
+	 *
+	 * @param board
+	 *            board being written
+	 * @return encoded board
+	 */
+	static String encode(Board board) {
+		char buffer[] = new char[PuzzleCodec.lineLength(board.getBoxSize())];
+		PuzzleCodec.encode(board, buffer, 0);
+		return new String(buffer);
+	}
+
+	/**
+	 * method to determine whether a board is a solution of a puzzle: every tile
+	 * filled in without a duplicate, and every given kept.
+	 *
+	 * @param puzzle
+	 *            puzzle that was solved
+	 * @param solution
+	 *            board being checked
+	 * @return true or false
+	 */
+	static boolean isSolutionOf(Board puzzle, Board solution) {
+		if (!solution.isSolved() || !solution.isConsistent()) {
+			return false;
+		}
+		for (int i = 0; i < puzzle.getDimensions(); i++) {
+			for (int j = 0; j < puzzle.getDimensions(); j++) {
+				int given = puzzle.getValue(i, j);
+				if (given != MISSING_VALUE && given != solution.getValue(i, j)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,176 @@
+package sudokuSolver.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * EngineAgreementTest class checking that the clause learning engine
+ * (SatSolver) and TrailSolver agree on whether boards have no, one or several
+ * solutions. The boards without a solution are corpus puzzles with one wrong
+ * value added that breaks no rule; the boards with several are 17 clue puzzles
+ * with one clue taken away, which leaves too few for a unique solution.
+ *
+ * SatSolver stops at one solution, so the test tells whether it has another by
+ * giving every empty tile of the board, in turn, each of the values its first
+ * solution does not have there: another solution differs from the first on at
+ * least one tile.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+class EngineAgreementTest {
+
+	/**
+	 * corpus file of puzzles with a unique solution and the fewest clues.
+	 */
+	private static final String MINIMAL_FILE = "minimal17.txt";
+
+	/**
+	 * corpus files of puzzles that are given a wrong value.
+	 */
+	private static final String WRONG_VALUE_FILES[] = { "easy.txt", "hard.txt", "killers.txt" };
+
+	/**
+	 * method to check the boards that have no solution.
+	 */
+	@Test
+	void agreeOnUnsatisfiableBoards() throws IOException {
+		List<Board> boards = new ArrayList<>();
+		for (String file : WRONG_VALUE_FILES) {
+			for (Board puzzle : Corpus.load(file)) {
+				boards.add(withWrongValue(puzzle));
+			}
+		}
+		/* a board that breaks no rule but has no solution */
+		boards.add(PuzzleCodec.decode("..9.7...5..21..9..1...28....7...5..1..851.....5....3.......3..68........21.....87"));
+		for (Board board : boards) {
+			assertEquals(Uniqueness.NONE, trailUniqueness(board), Corpus.encode(board));
+			assertEquals(Uniqueness.NONE, satUniqueness(board), Corpus.encode(board));
+		}
+	}
+
+	/**
+	 * method to check the boards that have several solutions.
+	 */
+	@Test
+	void agreeOnMultiSolutionBoards() throws IOException {
+		List<Board> boards = new ArrayList<>();
+		for (Board puzzle : Corpus.load(MINIMAL_FILE)) {
+			boards.add(withoutFirstClue(puzzle));
+		}
+		boards.add(PuzzleCodec.decode(".12345678........9..............................................................."));
+		for (Board board : boards) {
+			assertEquals(Uniqueness.MULTIPLE, trailUniqueness(board), Corpus.encode(board));
+			assertEquals(Uniqueness.MULTIPLE, satUniqueness(board), Corpus.encode(board));
+		}
+	}
+
+	/**
+	 * method to check the boards that have a unique solution, so that the two
+	 * checks above cannot pass by always giving the same answer.
+	 */
+	@Test
+	void agreeOnUniqueBoards() throws IOException {
+		for (Board board : Corpus.load(MINIMAL_FILE)) {
+			assertEquals(Uniqueness.UNIQUE, trailUniqueness(board), Corpus.encode(board));
+			assertEquals(Uniqueness.UNIQUE, satUniqueness(board), Corpus.encode(board));
+		}
+	}
+
+	/**
+	 * method to return a copy of a puzzle with a value added to its first empty
+	 * tile that breaks no rule but is not the tile's value in the puzzle's only
+	 * solution.
+	 */
+	static Board withWrongValue(Board puzzle) {
+		Board solution = Corpus.copy(puzzle);
+		assertEquals(SearchResult.SOLVED, new SatSolver().search(solution, (CancellationToken) null));
+		Board board = Corpus.copy(puzzle);
+		for (int i = 0; i < board.getDimensions(); i++) {
+			for (int j = 0; j < board.getDimensions(); j++) {
+				if (board.getValue(i, j) == Corpus.MISSING_VALUE) {
+					int used = board.getUsedValues(i, j);
+					for (int value = 1; value <= board.getDimensions(); value++) {
+						if (value != solution.getValue(i, j) && (used & CandidateMask.of(value)) == 0) {
+							board.setValue(i, j, value);
+							assertTrue(board.isConsistent());
+							return board;
+						}
+					}
+				}
+			}
+		}
+		throw new AssertionError("No wrong value fits " + Corpus.encode(puzzle));
+	}
+
+	/**
+	 * method to return a copy of a puzzle with its first clue taken away.
+	 */
+	private static Board withoutFirstClue(Board puzzle) {
+		Board board = Corpus.copy(puzzle);
+		for (int i = 0; i < board.getDimensions(); i++) {
+			for (int j = 0; j < board.getDimensions(); j++) {
+				if (board.getValue(i, j) != Corpus.MISSING_VALUE) {
+					board.setValue(i, j, Corpus.MISSING_VALUE);
+					return board;
+				}
+			}
+		}
+		throw new AssertionError("Empty puzzle");
+	}
+
+	/**
+	 * method to return the uniqueness of a board found by TrailSolver, checking
+	 * that the board is left as it was and the solutions are valid.
+	 */
+	private static Uniqueness trailUniqueness(Board board) {
+		String before = Corpus.encode(board);
+		UniquenessResult result = new TrailSolver().checkUniqueness(board);
+		assertEquals(before, Corpus.encode(board));
+		if (result.getFirstSolution() != null) {
+			assertTrue(Corpus.isSolutionOf(board, result.getFirstSolution()));
+		}
+		if (result.getSecondSolution() != null) {
+			assertTrue(Corpus.isSolutionOf(board, result.getSecondSolution()));
+			assertFalse(Corpus.encode(result.getFirstSolution()).equals(Corpus.encode(result.getSecondSolution())));
+		}
+		return result.getUniqueness();
+	}
+
+	/**
+	 * method to return the uniqueness of a board found by SatSolver.
+	 */
+	private static Uniqueness satUniqueness(Board board) {
+		SatSolver sat = new SatSolver();
+		Board first = Corpus.copy(board);
+		if (sat.search(first, (CancellationToken) null) != SearchResult.SOLVED) {
+			assertEquals(Corpus.encode(board), Corpus.encode(first));
+			return Uniqueness.NONE;
+		}
+		assertTrue(Corpus.isSolutionOf(board, first));
+		for (int i = 0; i < board.getDimensions(); i++) {
+			for (int j = 0; j < board.getDimensions(); j++) {
+				if (board.getValue(i, j) != Corpus.MISSING_VALUE) {
+					continue;
+				}
+				for (int value = 1; value <= board.getDimensions(); value++) {
+					Board other = Corpus.copy(board);
+					if (value != first.getValue(i, j) && other.setValue(i, j, value)
+							&& sat.search(other, (CancellationToken) null) == SearchResult.SOLVED) {
+						assertTrue(Corpus.isSolutionOf(board, other));
+						return Uniqueness.MULTIPLE;
+					}
+				}
+			}
+		}
+		return Uniqueness.UNIQUE;
+	}
+
+}
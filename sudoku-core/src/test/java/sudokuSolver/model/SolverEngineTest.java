@@ -0,0 +1,127 @@
+package sudokuSolver.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * SolverEngineTest class checking that every engine solves the checked in
+ * corpora correctly, and that running out of budget or being cancelled stops
+ * it with the right result and the board left as it was passed in.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+class SolverEngineTest {
+
+	/**
+	 * corpus files of puzzles that the engines may have to guess on.
+	 */
+	private static final String GUESSING_FILES[] = { "hard.txt", "killers.txt", "minimal17.txt" };
+
+	/**
+	 * method to check that every puzzle of every corpus is solved, keeping its
+	 * givens and with no duplicate values.
+	 */
+	@ParameterizedTest
+	@EnumSource(SolverEngine.class)
+	void solvesEveryCorpus(SolverEngine engine) throws IOException {
+		SolverWorkspace workspace = new SolverWorkspace();
+		for (String file : Corpus.FILES) {
+			List<Board> boards = Corpus.load(file);
+			for (int k = 0; k < boards.size(); k++) {
+				Board puzzle = boards.get(k);
+				Board board = Corpus.copy(puzzle);
+				SearchResult result = workspace.solve(board, engine, null, null);
+				String where = file + " puzzle " + k + " with " + engine;
+				assertEquals(SearchResult.SOLVED, result, where);
+				assertTrue(Corpus.isSolutionOf(puzzle, board), where + ": " + Corpus.encode(board));
+			}
+		}
+	}
+
+	/**
+	 * method to check that a search with no guesses left stops with
+	 * BUDGET_EXHAUSTED and leaves the board as it was.
+	 */
+	@ParameterizedTest
+	@EnumSource(SolverEngine.class)
+	void guessLimitLeavesBoardUnchanged(SolverEngine engine) throws IOException {
+		SolverWorkspace workspace = new SolverWorkspace();
+		for (Board puzzle : guessingPuzzles(engine)) {
+			Board board = Corpus.copy(puzzle);
+			SearchBudget budget = new SearchBudget(SearchBudget.UNLIMITED, 0, null);
+			assertEquals(SearchResult.BUDGET_EXHAUSTED, workspace.solve(board, engine, null, budget),
+					engine.toString());
+			assertTrue(budget.isExhausted(), engine.toString());
+			assertEquals(Corpus.encode(puzzle), Corpus.encode(board), engine.toString());
+		}
+	}
+
+	/**
+	 * method to check that a search past its deadline stops with
+	 * BUDGET_EXHAUSTED and leaves the board as it was.
+	 */
+	@ParameterizedTest
+	@EnumSource(SolverEngine.class)
+	void deadlineLeavesBoardUnchanged(SolverEngine engine) throws IOException {
+		SolverWorkspace workspace = new SolverWorkspace();
+		for (Board puzzle : guessingPuzzles(engine)) {
+			Board board = Corpus.copy(puzzle);
+			SearchBudget budget = new SearchBudget(0, SearchBudget.UNLIMITED, null);
+			assertEquals(SearchResult.BUDGET_EXHAUSTED, workspace.solve(board, engine, null, budget),
+					engine.toString());
+			assertEquals(Corpus.encode(puzzle), Corpus.encode(board), engine.toString());
+		}
+	}
+
+	/**
+	 * method to check that a cancelled search stops with CANCELLED and leaves
+	 * the board as it was.
+	 */
+	@ParameterizedTest
+	@EnumSource(SolverEngine.class)
+	void cancellationLeavesBoardUnchanged(SolverEngine engine) throws IOException {
+		SolverWorkspace workspace = new SolverWorkspace();
+		CancellationToken token = new CancellationToken();
+		token.cancel();
+		for (Board puzzle : guessingPuzzles(engine)) {
+			Board board = Corpus.copy(puzzle);
+			assertEquals(SearchResult.CANCELLED, workspace.solve(board, engine, null, new SearchBudget(token)),
+					engine.toString());
+			assertEquals(Corpus.encode(puzzle), Corpus.encode(board), engine.toString());
+		}
+	}
+
+	/**
+	 * method to return the puzzles that an engine cannot solve without guessing,
+	 * checking that a budget large enough for the search lets it solve them and
+	 * counts its guesses.
+	 */
+	private static List<Board> guessingPuzzles(SolverEngine engine) throws IOException {
+		SolverWorkspace workspace = new SolverWorkspace();
+		List<Board> puzzles = new ArrayList<>();
+		for (String file : GUESSING_FILES) {
+			for (Board puzzle : Corpus.load(file)) {
+				Board board = Corpus.copy(puzzle);
+				SearchBudget budget = new SearchBudget(SearchBudget.UNLIMITED, SearchBudget.UNLIMITED,
+						new CancellationToken());
+				assertEquals(SearchResult.SOLVED, workspace.solve(board, engine, null, budget), engine.toString());
+				assertTrue(Corpus.isSolutionOf(puzzle, board), engine.toString());
+				if (budget.getGuessCount() > 0) {
+					puzzles.add(puzzle);
+				}
+			}
+		}
+		assertFalse(puzzles.isEmpty(), engine + " never guessed");
+		return puzzles;
+	}
+
+}
@@ -0,0 +1,756 @@
+package sudokuSolver.controller;
+
+import java.net.URL;
+import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.application.Platform;
+import javafx.beans.property.StringProperty;
+import javafx.concurrent.Task;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.fxml.Initializable;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.FlowPane;
+import sudokuSolver.model.Board;
+import sudokuSolver.model.CancellationToken;
+import sudokuSolver.model.SearchBudget;
+import sudokuSolver.model.SearchResult;
+import sudokuSolver.model.Solver;
+import sudokuSolver.model.SolverEngine;
+import sudokuSolver.view.View;
+
+/**
+ * Controller class to work between the view and model classes (Board, Solver, and Tile).
+ *
+ * Solving runs as a JavaFX Task on a dedicated background thread, so the window
+ * stays responsive however long the search takes. While it runs, the number of
+ * guesses and the depth of the search are shown below the buttons, and the
+ * Cancel button stops the search through its CancellationToken.
+ *
+ * @author Rachel Hatteberg, S02633540
+ * @version 1.0, 04/27/2020 CSC-241 Student Project
+ */
+public class Controller implements Initializable {
+
+	/**
+	 * Title of GUI application.
+	 */
+	private static final String GUI_APPLICATION_TITLE = "Sudoku Puzzle Solver";
+
+	/**
+	 * (GUI) The title to appear on the window.
+	 */
+	private String title;
+
+	/**
+	 * The GridPane container to hold the Sudoku grid.
+	 */
+	private GridPane gridPane;
+
+	/**
+	 * The board that the sudoku puzzle is build upon.
+	 */
+	private Board board;
+
+	/**
+	 * The container which holds the "Solve" and "Clear" buttons.
+	 */
+	private FlowPane flowPane;
+
+	/**
+	 * String value of the solve button.
+	 */
+	private static final String SOLVE_BUTTON_STRING = "Solve";
+
+	/**
+	 * The solve button which when clicked, will kick off the solver algorithms.
+	 */
+	private Button solveButton = new Button(SOLVE_BUTTON_STRING);
+
+	/**
+	 * String value of the clear button.
+	 */
+	private static final String CLEAR_BUTTON_STRING = "Clear";
+
+	/**
+	 * The clear button which when clicked, will clear the sudoku grid.
+	 */
+	private Button clearButton = new Button(CLEAR_BUTTON_STRING);
+
+	/**
+	 * String value of the cancel button.
+	 */
+	private static final String CANCEL_BUTTON_STRING = "Cancel";
+
+	/**
+	 * The cancel button which when clicked, will stop a running solve.
+	 */
+	private Button cancelButton = new Button(CANCEL_BUTTON_STRING);
+
+	/**
+	 * The label showing how far a running solve has got.
+	 */
+	private Label statusLabel = new Label();
+
+	/**
+	 * token of the running solve, or null when no solve is running.
+	 */
+	private CancellationToken solveToken;
+
+	/**
+	 * The background thread the solver runs on, so the JavaFX Application Thread
+	 * is never blocked by a search. It is a daemon thread, so it does not keep
+	 * the application running once the window is closed.
+	 */
+	private final ExecutorService solveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, SOLVER_THREAD_NAME);
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * name of the background solver thread.
+	 */
+	private static final String SOLVER_THREAD_NAME = "sudoku-solver";
+
+	/**
+	 * milliseconds between two progress updates of a running solve.
+	 */
+	private static final long PROGRESS_INTERVAL_MILLIS = 100;
+
+	/**
+	 * format of the progress of a running solve: guesses and depth.
+	 */
+	private static final String PROGRESS_FORMAT = "Solving... %d guesses, depth %d";
+
+	/**
+	 * status shown while a solve is starting.
+	 */
+	private static final String SOLVING_STRING = "Solving...";
+
+	/**
+	 * status shown once a solve has been cancelled.
+	 */
+	private static final String CANCELLED_STRING = "Solve cancelled.";
+
+	/**
+	 * status shown once a solve has stopped for any other reason, followed by the
+	 * result.
+	 */
+	private static final String STOPPED_STRING = "Solve stopped: ";
+
+	/**
+	 * Message dialogue which will appear if there is no valid solution found.
+	 */
+	private static final String NO_SOLUTION_WARNING = "No valid solution found!";
+
+	/**
+	 * Message dialogue which will appear if the solve failed with an exception,
+	 * followed by the exception.
+	 */
+	private static final String SOLVE_FAILED_WARNING = "Solving failed: ";
+
+	/**
+	 * The solve button tooltip which gives the user guidance on the button's
+	 * purpose.
+	 */
+	private String SOLVE_BUTTON_TOOLTIP = "Select this 'solve' button once you have"
+			+ " input all numbers into the sudoku grid.";
+
+	/**
+	 * The clear button tooltip which gives the user guidance on the button's
+	 * purpose.
+	 */
+	private String CLEAR_BUTTON_TOOLTIP = "Select this 'clear' button if you want to "
+			+ "clear all input values in this sudoku grid.";
+
+	/**
+	 * The cancel button tooltip which gives the user guidance on the button's
+	 * purpose.
+	 */
+	private String CANCEL_BUTTON_TOOLTIP = "Select this 'cancel' button to stop solving"
+			+ " a puzzle that is taking too long.";
+
+	/**
+	 * Representation of a tile grid cell with a missing, non-solved value.
+	 */
+	private static final int MISSING_VALUE = -1;
+
+	/**
+	 * number of columns per local group of the board shown (3 for a 9x9 grid).
+	 */
+	private static final int BOX_SIZE = Board.DEFAULT_BOX_SIZE;
+
+	/**
+	 * The sudoku board dimensions (9x9 grid).
+	 */
+	private static final int BOARD_DIMENSIONS = BOX_SIZE * BOX_SIZE;
+
+	/**
+	 * adjusted inset value for "Solve" button.
+	 */
+	private static final int SOLVE_RIGHT_INSET = 20;
+
+	/**
+	 * adjusted inset value for "Solve" button.
+	 */
+	private static final int SOLVE_BOTTOM_INSET = 10;
+
+	/**
+	 * adjusted inset value for "Solve" button.
+	 */
+	private static final int SOLVE_LEFT_INSET = 70;
+
+	/**
+	 * adjusted inset value for "Cancel" button.
+	 */
+	private static final int CANCEL_RIGHT_INSET = 20;
+
+	/**
+	 * adjusted inset value for "Cancel" button.
+	 */
+	private static final int CANCEL_BOTTOM_INSET = 10;
+
+	/**
+	 * adjusted inset value for "Cancel" button.
+	 */
+	private static final int CANCEL_LEFT_INSET = 20;
+
+	/**
+	 * adjusted inset value for "Clear" button.
+	 */
+	private static final int CLEAR_RIGHT_INSET = 50;
+
+	/**
+	 * adjusted inset value for "Clear" button.
+	 */
+	private static final int CLEAR_BOTTOM_INSET = 10;
+
+	/**
+	 * adjusted inset value for "Clear" button.
+	 */
+	private static final int CLEAR_LEFT_INSET = 20;
+
+	/**
+	 * adjusted inset value for the status label.
+	 */
+	private static final int STATUS_BOTTOM_INSET = 10;
+
+	/**
+	 * adjusted inset value for the status label.
+	 */
+	private static final int STATUS_LEFT_INSET = 70;
+
+	/**
+	 * The controller that mediates the interaction of user actions with the model.
+	 *
+	 * @param view
+	 *            the view to be controlled
+	 */
+	public Controller(View view) {
+		this.board = new Board(BOX_SIZE);
+	}
+
+	/**
+	 * Get the title for the window.
+	 *
+	 * @return the title
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Get the GridPane container to hold the Sudoku grid
+	 *
+	 * @return the GridPane
+	 */
+	public GridPane getGridPane() {
+		return gridPane;
+	}
+
+	/**
+	 * Get the FlowPane container to hold the Solve and Clear buttons
+	 *
+	 * @return the FlowPane
+	 */
+	public FlowPane getFlowPane() {
+		return flowPane;
+	}
+
+	/**
+	 * Create and initialize the containers for the View.
+	 *
+	 */
+	@Override
+	public void initialize(URL location, ResourceBundle resources) {
+
+		gridPane = new GridPane();
+		gridPane.initialize();
+		flowPane = new FlowPane();
+
+		solveButton.setTooltip(new Tooltip(SOLVE_BUTTON_TOOLTIP));
+		solveButton.setDisable(false);
+
+		/* tooltips for the clear and cancel buttons */
+		clearButton.setTooltip(new Tooltip(CLEAR_BUTTON_TOOLTIP));
+		cancelButton.setTooltip(new Tooltip(CANCEL_BUTTON_TOOLTIP));
+		cancelButton.setDisable(true);
+
+		/* handle event when the solve button is pressed */
+		EventHandler<ActionEvent> solveEvent = new EventHandler<ActionEvent>() {
+			public void handle(ActionEvent e) {
+				startSolve();
+			}
+		};
+		solveButton.setOnAction(solveEvent);
+
+		/* handle event when the cancel button is pressed */
+		EventHandler<ActionEvent> cancelEvent = new EventHandler<ActionEvent>() {
+			public void handle(ActionEvent e) {
+				if (solveToken != null) {
+					solveToken.cancel();
+				}
+			}
+		};
+		cancelButton.setOnAction(cancelEvent);
+
+		/* handle event when clear button is pressed */
+		EventHandler<ActionEvent> clearEvent = new EventHandler<ActionEvent>() {
+			public void handle(ActionEvent e) {
+				gridPane.clearAll();
+				statusLabel.setText("");
+
+				/* re-enable solve button */
+				solveButton.setDisable(false);
+			}
+		};
+		clearButton.setOnAction(clearEvent);
+
+		/* set location of buttons and add to flow pane */
+		FlowPane.setMargin(solveButton, new Insets(0, SOLVE_RIGHT_INSET, SOLVE_BOTTOM_INSET, SOLVE_LEFT_INSET));
+		FlowPane.setMargin(cancelButton, new Insets(0, CANCEL_RIGHT_INSET, CANCEL_BOTTOM_INSET, CANCEL_LEFT_INSET));
+		FlowPane.setMargin(clearButton, new Insets(0, CLEAR_RIGHT_INSET, CLEAR_BOTTOM_INSET, CLEAR_LEFT_INSET));
+		FlowPane.setMargin(statusLabel, new Insets(0, 0, STATUS_BOTTOM_INSET, STATUS_LEFT_INSET));
+		flowPane.getChildren().addAll(solveButton, cancelButton, clearButton, statusLabel);
+
+		/* The title to use on the window. */
+		title = GUI_APPLICATION_TITLE;
+	}
+
+	/**
+	 * method to disable the submit button.
+	 */
+	public void disableSubmitButton() {
+		solveButton.setDisable(true);
+	}
+
+	/**
+	 * method to start solving a copy of the board on the background thread. The
+	 * grid and the buttons other than Cancel are disabled until the solve
+	 * finishes, so the board cannot change underneath the solver.
+	 */
+	private void startSolve() {
+		Board puzzle = new Board(board.getGrid().copy());
+		CancellationToken token = new CancellationToken();
+		Task<SearchResult> task = new Task<SearchResult>() {
+			@Override
+			protected SearchResult call() {
+				updateMessage(SOLVING_STRING);
+				SearchBudget budget = new SearchBudget(token);
+				/*
+				 * updateMessage() only hands the latest message to the UI thread, and may be
+				 * called from the parallel engine's worker threads
+				 */
+				budget.setProgressListener(
+						(guesses, depth) -> updateMessage(String.format(PROGRESS_FORMAT, guesses, depth)),
+						PROGRESS_INTERVAL_MILLIS);
+				return Solver.solve(puzzle, SolverEngine.PARALLEL, null, budget);
+			}
+		};
+		task.setOnSucceeded(e -> finishSolve(puzzle, task.getValue()));
+		task.setOnFailed(e -> failSolve(task.getException()));
+
+		solveToken = token;
+		setSolving(true);
+		statusLabel.textProperty().bind(task.messageProperty());
+		solveExecutor.execute(task);
+	}
+
+	/**
+	 * method called on the JavaFX Application Thread once a solve has finished,
+	 * to show the solution or say why there is none.
+	 *
+	 * @param puzzle
+	 *            the copy of the board that was solved
+	 * @param result
+	 *            outcome of the solve
+	 */
+	private void finishSolve(Board puzzle, SearchResult result) {
+		endSolve();
+		switch (result) {
+		case SOLVED:
+			board = puzzle;
+			showBoard();
+			/* disable solve button after puzzle has been solved */
+			disableSubmitButton();
+			break;
+		case CANCELLED:
+			statusLabel.setText(CANCELLED_STRING);
+			break;
+		case NO_SOLUTION:
+			/* display an alert saying there is no valid solution! */
+			Alert a = new Alert(AlertType.INFORMATION);
+			a.setContentText(NO_SOLUTION_WARNING);
+			a.show();
+			break;
+		default:
+			statusLabel.setText(STOPPED_STRING + result);
+			break;
+		}
+	}
+
+	/**
+	 * method called on the JavaFX Application Thread when the solve threw instead
+	 * of returning a result, to report what went wrong.
+	 *
+	 * @param failure
+	 *            exception thrown by the solve
+	 */
+	private void failSolve(Throwable failure) {
+		endSolve();
+		failure.printStackTrace();
+		Alert a = new Alert(AlertType.ERROR);
+		a.setContentText(SOLVE_FAILED_WARNING + failure);
+		a.show();
+	}
+
+	/**
+	 * method to stop showing the progress of a solve and give the controls back
+	 * to the user.
+	 */
+	private void endSolve() {
+		solveToken = null;
+		statusLabel.textProperty().unbind();
+		statusLabel.setText("");
+		setSolving(false);
+	}
+
+	/**
+	 * method to switch the controls between solving and editing.
+	 *
+	 * @param solving
+	 *            true while a solve is running
+	 */
+	private void setSolving(boolean solving) {
+		solveButton.setDisable(solving);
+		clearButton.setDisable(solving);
+		cancelButton.setDisable(!solving);
+		gridPane.setDisable(solving);
+	}
+
+	/**
+	 * method to display the values of the board onto the gridpane.
+	 */
+	private void showBoard() {
+		gridPane.showBoard(board);
+	}
+
+
+
+	/**
+	 * Inner GridPane class extends javafx's GridPane to provide a more specialized set of
+	 * capabilities.
+	 *
+	 * The 81 text boxes are created once and kept for the life of the window.
+	 * Each box writes what the user types into the board, and showBoard() writes
+	 * the board back into only the boxes whose text differs, so solving and
+	 * clearing never add nodes to the scene graph.
+	 *
+	 * @author Rachel Hatteberg, S02633540
+	 * @version 1.0, 04/27/2020 CSC-241 Student Project
+	 */
+	private class GridPane extends javafx.scene.layout.GridPane {
+
+		/**
+		 * pre-set width of a GridPane text box for best appearance.
+		 */
+		private final int TEXT_BOX_WIDTH = 50;
+
+		/**
+		 * pre-set height of a GridPane text box for best appearance.
+		 */
+		private final int TEXT_BOX_HEIGHT = 30;
+
+		/**
+		 * maximum value a user is allowed to enter for the sudoku puzzle.
+		 */
+		private final int USER_INPUT_MAX = BOARD_DIMENSIONS;
+
+		/**
+		 * minimum value a user is allowed to enter for sudoku puzzle.
+		 */
+		private final int USER_INPUT_MIN = 1;
+
+		/**
+		 * number of columns per local group.
+		 */
+		private static final int COL_PER_GROUP = BOX_SIZE;
+
+		/**
+		 * String representation of an error when a user inputs an invalid value into a
+		 * text box.
+		 */
+		private final String USER_INPUT_ERROR = "Input into sudoku must be a " + "number from " + USER_INPUT_MIN + "-"
+				+ USER_INPUT_MAX + ". Try again!";
+
+		/**
+		 * thin border line thickness.
+		 */
+		private static final String THIN_BORDER_LINE = "0.5 ";
+
+		/**
+		 * thick border line thickness.
+		 */
+		private static final String THICK_BORDER_LINE = "2 ";
+
+		/**
+		 * end column or row marker.
+		 */
+		private static final int END_COLUMN_ROW = BOARD_DIMENSIONS - 1;
+
+		/**
+		 * first column or row marker.
+		 */
+		private static final int FIRST_COLUMN_ROW = 0;
+
+		/**
+		 * separator between the column and row of a text box id, so that ids stay
+		 * unambiguous once either needs two digits.
+		 */
+		private static final String ID_SEPARATOR = ",";
+
+		/**
+		 * the text boxes of the grid, by column and row.
+		 */
+		private final TextField boxes[][] = new TextField[BOARD_DIMENSIONS][BOARD_DIMENSIONS];
+
+		/**
+		 * true while showBoard() is filling in the text boxes, so their changes are
+		 * not written back into the board.
+		 */
+		private boolean refreshing = false;
+
+		/**
+		 * default constructor.
+		 */
+		public GridPane() {
+		}
+
+		/**
+		 * method to initialize the GridPane and listen for modified text fields. A
+		 * simple value validation is performed to ensure correct values are entered.
+		 * Emptying a text field clears its tile on the board.
+		 */
+		public void initialize() {
+
+			gridPane.setAlignment(Pos.CENTER);
+
+			// create an alert
+			Alert a = new Alert(AlertType.NONE);
+
+			// each column
+			for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+				// each row
+				for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+					TextField curField = new TextField();
+					setTextBoxStyle(curField, i, j);
+					boxes[i][j] = curField;
+					curField.setPrefWidth(TEXT_BOX_WIDTH);
+					curField.setPrefHeight(TEXT_BOX_HEIGHT);
+					gridPane.add(curField, i, j);
+
+					/* assign location information to curField object */
+					curField.setId(i + ID_SEPARATOR + j);
+
+					curField.textProperty().addListener((observable, oldValue, newValue) -> {
+						StringProperty textProperty = (StringProperty) observable;
+						TextField textField = (TextField) textProperty.getBean();
+
+						/* values shown from the board are already on it */
+						if (refreshing) {
+							return;
+						}
+						/* an emptied text field clears its tile */
+						if (newValue.isEmpty()) {
+							Integer[] location = parseIdString(textField.getId());
+							board.setValue(location[1], location[0], MISSING_VALUE);
+							return;
+						}
+
+						/* check that user input is within valid range of 1-9 */
+						try {
+							if (!isEntryValid(Integer.parseInt(newValue))) {
+								handleUserInputException(curField, a);
+								return;
+							}
+							/* parse string into int array to pass into board */
+							Integer[] tempArr = new Integer[2];
+							tempArr = parseIdString(textField.getId());
+							/* set textField to correct place in board */
+							board.setValue(tempArr[1], tempArr[0], Integer.parseInt(newValue));
+						} catch (NumberFormatException e) {
+							handleUserInputException(curField, a);
+						} catch (IllegalArgumentException e) {
+							handleUserInputException(curField, a);
+						}
+					});
+				}
+			}
+		}
+
+		/**
+		 * handleUserInputException method to handle displaying an informational alert
+		 * box to the user when the inputed value is incorrect. The incorrect input
+		 * value will be cleared from the sudoku grid.
+		 *
+		 * @param curField
+		 * @param a
+		 */
+		public void handleUserInputException(TextField curField, Alert a) {
+			/* only show information alert if curField is non-empty */
+			if (!curField.getText().isEmpty()) {
+				/* set alert type */
+				a.setContentText(USER_INPUT_ERROR);
+				a.setAlertType(AlertType.INFORMATION);
+				a.show();
+			}
+			/* clear invalid input */
+			Platform.runLater(() -> {
+				curField.clear();
+			});
+		}
+
+		/**
+		 * method clearAll() clears the sudoku board as well as clears the grid pane in
+		 * the gui.
+		 *
+		 * @param void
+		 * @return void
+		 */
+		public void clearAll() {
+
+			/* first, clear the board */
+			board = new Board(BOX_SIZE);
+
+			/* then empty the text boxes that still hold a value */
+			showBoard(board);
+		}
+
+		/**
+		 * method to display the values of a board, updating only the text boxes
+		 * whose text differs from the board.
+		 *
+		 * @param board
+		 *            board being shown
+		 */
+		public void showBoard(Board board) {
+			refreshing = true;
+			try {
+				/* each column */
+				for (int i = 0; i < BOARD_DIMENSIONS; i++) {
+					/* each row */
+					for (int j = 0; j < BOARD_DIMENSIONS; j++) {
+						int value = board.getValue(j, i);
+						/* missing values are shown as empty text boxes */
+						String text = (value == MISSING_VALUE) ? "" : String.valueOf(value);
+						if (!text.equals(boxes[i][j].getText())) {
+							boxes[i][j].setText(text);
+						}
+					}
+				}
+			} finally {
+				refreshing = false;
+			}
+		}
+
+		/**
+		 * method parseIdString() accepts a String and parses it into an array of
+		 * Integers and returns such Integer array.
+		 *
+		 * @param str
+		 * @return Integer[] array
+		 */
+		private Integer[] parseIdString(String str) {
+			/* create temporary strings for the substrings */
+			int separator = str.indexOf(ID_SEPARATOR);
+			String tmpStr = str.substring(0, separator);
+			String tmpStr1 = str.substring(separator + ID_SEPARATOR.length());
+
+			return new Integer[] { Integer.parseInt(tmpStr), Integer.parseInt(tmpStr1) };
+		}
+
+		/**
+		 * Method isEntryValid() to accept an Integer and check whether it is within a
+		 * range of valid values.
+		 *
+		 * @param enteredValue
+		 * @return boolean
+		 */
+		private boolean isEntryValid(Integer enteredValue) {
+			/* check whether entered value is valid */
+			if ((enteredValue <= USER_INPUT_MAX) && (enteredValue >= USER_INPUT_MIN)) {
+				return true;
+			}
+			/* invalid input */
+			return false;
+		}
+
+		/**
+		 * method to set the css border style for each text box to create the
+		 * traditional sudoku board appearance.
+		 *
+		 * @param textbox
+		 *            textbox performing action upon
+		 * @param i
+		 *            location of textbox
+		 * @param j
+		 *            location of textbox
+		 */
+		public void setTextBoxStyle(TextField textbox, int i, int j) {
+			String border = "-fx-border-width: ";
+			// top
+			if (j % COL_PER_GROUP == 0 || j == FIRST_COLUMN_ROW)
+				border += THICK_BORDER_LINE;
+			else
+				border += THIN_BORDER_LINE;
+			// right
+			if (i == END_COLUMN_ROW)
+				border += THICK_BORDER_LINE;
+			else
+				border += THIN_BORDER_LINE;
+			// bottom
+			if (j == END_COLUMN_ROW)
+				border += THICK_BORDER_LINE;
+			else
+				border += THIN_BORDER_LINE;
+			// left
+			if (i % COL_PER_GROUP == 0 || i == FIRST_COLUMN_ROW)
+				border += THICK_BORDER_LINE;
+			else
+				border += THIN_BORDER_LINE;
+
+			textbox.setStyle("-fx-border-style: solid; " + border);
+		}
+
+	}
+}